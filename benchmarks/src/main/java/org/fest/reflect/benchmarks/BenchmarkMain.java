@@ -0,0 +1,38 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that the allocation rate of every benchmark is reported next to
+ * its throughput and average time. Any JMH command-line option (e.g. a regular expression selecting the benchmarks to
+ * run) can be passed as argument.
+ *
+ * @author Alex Ruiz
+ */
+public final class BenchmarkMain {
+  private BenchmarkMain() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.core.Reflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first (cold) use of every fluent entry point in {@link Reflection}. Each measurement runs once in a new
+ * JVM, so it includes class loading, the first lookup of the member and the population of any cache. Every entry point
+ * is compared to the equivalent direct call ({@code direct_*}) and to its first use through {@code java.lang.reflect}
+ * or {@code java.beans} ({@code javaReflect_*} and {@code javaBeans_*}).
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Thread)
+public class ColdLookupBenchmark {
+  private final Person person = new Person("Yoda");
+
+  @Benchmark
+  public String field() {
+    return Reflection.field("name").ofType(String.class).in(person).get();
+  }
+
+  @Benchmark
+  public String method() {
+    return Reflection.method("getName").withReturnType(String.class).in(person).invoke();
+  }
+
+  @Benchmark
+  public Person constructor() {
+    return Reflection.constructor().withParameterTypes(String.class).in(Person.class).newInstance("Luke");
+  }
+
+  @Benchmark
+  public String property() {
+    return Reflection.property("name").ofType(String.class).in(person).get();
+  }
+
+  @Benchmark
+  public Class<?> type() {
+    return Reflection.type("org.fest.reflect.benchmarks.Person").load();
+  }
+
+  @Benchmark
+  public Class<?> innerClass() {
+    return Reflection.innerClass("Address").in(Person.class).get();
+  }
+
+  @Benchmark
+  public String direct_field() {
+    return person.getName();
+  }
+
+  @Benchmark
+  public String direct_method() {
+    return person.getName();
+  }
+
+  @Benchmark
+  public Person direct_constructor() {
+    return new Person("Luke");
+  }
+
+  @Benchmark
+  public String direct_property() {
+    return person.getName();
+  }
+
+  @Benchmark
+  public Class<?> direct_type() {
+    return Person.class;
+  }
+
+  @Benchmark
+  public Class<?> direct_innerClass() {
+    return Person.Address.class;
+  }
+
+  @Benchmark
+  public Object javaReflect_field() throws Exception {
+    Field field = Person.class.getDeclaredField("name");
+    field.setAccessible(true);
+    return field.get(person);
+  }
+
+  @Benchmark
+  public Object javaReflect_method() throws Exception {
+    return Person.class.getDeclaredMethod("getName").invoke(person);
+  }
+
+  @Benchmark
+  public Person javaReflect_constructor() throws Exception {
+    return Person.class.getDeclaredConstructor(String.class).newInstance("Luke");
+  }
+
+  @Benchmark
+  public Object javaBeans_property() throws Exception {
+    for (PropertyDescriptor descriptor : Introspector.getBeanInfo(Person.class).getPropertyDescriptors()) {
+      if ("name".equals(descriptor.getName())) {
+        return descriptor.getReadMethod().invoke(person);
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Class<?> javaReflect_type() throws Exception {
+    return Class.forName("org.fest.reflect.benchmarks.Person", true, ColdLookupBenchmark.class.getClassLoader());
+  }
+
+  @Benchmark
+  public Class<?> javaReflect_innerClass() {
+    for (Class<?> type : Person.class.getDeclaredClasses()) {
+      if ("Address".equals(type.getSimpleName())) {
+        return type;
+      }
+    }
+    return null;
+  }
+}
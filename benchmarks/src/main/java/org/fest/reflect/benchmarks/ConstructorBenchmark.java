@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.constructor.ConstructorInvoker;
+import org.fest.reflect.core.Reflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated (warm) invocations of a constructor through {@link Reflection#constructor()}, compared to a direct
+ * call and to {@code java.lang.reflect}.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructorBenchmark {
+  private Constructor<Person> constructor;
+  private ConstructorInvoker<Person> invoker;
+
+  @Setup
+  public void setUp() throws Exception {
+    constructor = Person.class.getDeclaredConstructor(String.class);
+    invoker = Reflection.constructor().withParameterTypes(String.class).in(Person.class);
+  }
+
+  @Benchmark
+  public Person direct_newInstance() {
+    return new Person("Yoda");
+  }
+
+  @Benchmark
+  public Person javaReflect_newInstance() throws Exception {
+    return constructor.newInstance("Yoda");
+  }
+
+  @Benchmark
+  public Person fest_newInstance() {
+    return Reflection.constructor().withParameterTypes(String.class).in(Person.class).newInstance("Yoda");
+  }
+
+  @Benchmark
+  public Person festReused_newInstance() {
+    return invoker.newInstance("Yoda");
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.core.Reflection;
+import org.fest.reflect.field.PreparedField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated (warm) access to a field through {@link Reflection#field(String)}, compared to a direct call and to
+ * {@code java.lang.reflect}.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldBenchmark {
+  private Person person;
+  private Field field;
+  private PreparedField<String> preparedField;
+
+  @Setup
+  public void setUp() throws Exception {
+    person = new Person("Yoda");
+    field = Person.class.getDeclaredField("name");
+    field.setAccessible(true);
+    preparedField = Reflection.field("name").ofType(String.class).prepare(Person.class);
+  }
+
+  @Benchmark
+  public String direct_get() {
+    return person.getName();
+  }
+
+  @Benchmark
+  public Object javaReflect_get() throws Exception {
+    return field.get(person);
+  }
+
+  @Benchmark
+  public String fest_get() {
+    return Reflection.field("name").ofType(String.class).in(person).get();
+  }
+
+  @Benchmark
+  public String festPrepared_get() {
+    return preparedField.get(person);
+  }
+
+  @Benchmark
+  public void direct_set() {
+    person.setName("Luke");
+  }
+
+  @Benchmark
+  public void javaReflect_set() throws Exception {
+    field.set(person, "Luke");
+  }
+
+  @Benchmark
+  public void fest_set() {
+    Reflection.field("name").ofType(String.class).in(person).set("Luke");
+  }
+
+  @Benchmark
+  public void festPrepared_set() {
+    preparedField.set(person, "Luke");
+  }
+}
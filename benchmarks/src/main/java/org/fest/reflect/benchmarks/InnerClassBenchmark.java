@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.core.Reflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated (warm) lookups of a static inner class through {@link Reflection#innerClass(String)}, compared to a
+ * class literal and to {@code Class.getDeclaredClasses}.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InnerClassBenchmark {
+  @Benchmark
+  public Class<?> direct_get() {
+    return Person.Address.class;
+  }
+
+  @Benchmark
+  public Class<?> javaReflect_get() {
+    for (Class<?> type : Person.class.getDeclaredClasses()) {
+      if ("Address".equals(type.getSimpleName())) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Class<?> fest_get() {
+    return Reflection.innerClass("Address").in(Person.class).get();
+  }
+}
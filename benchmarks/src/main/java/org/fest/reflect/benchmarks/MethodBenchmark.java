@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.core.Reflection;
+import org.fest.reflect.method.PreparedMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated (warm) invocations of a method through {@link Reflection#method(String)}, compared to a direct call
+ * and to {@code java.lang.reflect}.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodBenchmark {
+  private Person person;
+  private Method getName;
+  private Method setName;
+  private PreparedMethod<String> preparedGetName;
+  private PreparedMethod<Void> preparedSetName;
+
+  @Setup
+  public void setUp() throws Exception {
+    person = new Person("Yoda");
+    getName = Person.class.getDeclaredMethod("getName");
+    setName = Person.class.getDeclaredMethod("setName", String.class);
+    preparedGetName = Reflection.method("getName").withReturnType(String.class).prepare(Person.class);
+    preparedSetName = Reflection.method("setName").withParameterTypes(String.class).prepare(Person.class);
+  }
+
+  @Benchmark
+  public String direct_invokeGetter() {
+    return person.getName();
+  }
+
+  @Benchmark
+  public Object javaReflect_invokeGetter() throws Exception {
+    return getName.invoke(person);
+  }
+
+  @Benchmark
+  public String fest_invokeGetter() {
+    return Reflection.method("getName").withReturnType(String.class).in(person).invoke();
+  }
+
+  @Benchmark
+  public String festPrepared_invokeGetter() {
+    return preparedGetName.invoke(person);
+  }
+
+  @Benchmark
+  public void direct_invokeSetter() {
+    person.setName("Luke");
+  }
+
+  @Benchmark
+  public void javaReflect_invokeSetter() throws Exception {
+    setName.invoke(person, "Luke");
+  }
+
+  @Benchmark
+  public void fest_invokeSetter() {
+    Reflection.method("setName").withParameterTypes(String.class).in(person).invoke("Luke");
+  }
+
+  @Benchmark
+  public void festPrepared_invokeSetter() {
+    preparedSetName.invoke(person, "Luke");
+  }
+}
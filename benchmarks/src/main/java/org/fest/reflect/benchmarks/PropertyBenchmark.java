@@ -0,0 +1,95 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.beanproperty.PreparedProperty;
+import org.fest.reflect.core.Reflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated (warm) access to a JavaBeans property through {@link Reflection#property(String)}, compared to a
+ * direct call and to {@code java.beans.Introspector}.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyBenchmark {
+  private Person person;
+  private PreparedProperty<String> preparedProperty;
+
+  @Setup
+  public void setUp() {
+    person = new Person("Yoda");
+    preparedProperty = Reflection.property("name").ofType(String.class).prepare(Person.class);
+  }
+
+  @Benchmark
+  public String direct_get() {
+    return person.getName();
+  }
+
+  @Benchmark
+  public Object javaBeans_get() throws Exception {
+    for (PropertyDescriptor descriptor : Introspector.getBeanInfo(Person.class).getPropertyDescriptors()) {
+      if ("name".equals(descriptor.getName())) {
+        return descriptor.getReadMethod().invoke(person);
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public String fest_get() {
+    return Reflection.property("name").ofType(String.class).in(person).get();
+  }
+
+  @Benchmark
+  public String festIntrospector_get() {
+    return Reflection.property("name").usingIntrospector().ofType(String.class).in(person).get();
+  }
+
+  @Benchmark
+  public String festPrepared_get() {
+    return preparedProperty.get(person);
+  }
+
+  @Benchmark
+  public void fest_set() {
+    Reflection.property("name").ofType(String.class).in(person).set("Luke");
+  }
+
+  @Benchmark
+  public void festPrepared_set() {
+    preparedProperty.set(person, "Luke");
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.benchmarks;
+
+import org.fest.reflect.core.Reflection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repeated (warm) loading of a class through {@link Reflection#type(String)}, compared to a class literal and
+ * to {@code Class.forName}.
+ *
+ * @author Alex Ruiz
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeBenchmark {
+  private static final String TYPE_NAME = "org.fest.reflect.benchmarks.Person";
+
+  private final ClassLoader classLoader = TypeBenchmark.class.getClassLoader();
+
+  @Benchmark
+  public Class<?> direct_load() {
+    return Person.class;
+  }
+
+  @Benchmark
+  public Class<?> javaReflect_load() throws Exception {
+    return Class.forName(TYPE_NAME, true, classLoader);
+  }
+
+  @Benchmark
+  public Class<?> fest_load() {
+    return Reflection.type(TYPE_NAME).load();
+  }
+
+  @Benchmark
+  public Class<?> festWithClassLoader_load() {
+    return Reflection.type(TYPE_NAME).withClassLoader(classLoader).load();
+  }
+
+  @Benchmark
+  public Class<? extends Person> fest_loadAs() {
+    return Reflection.type(TYPE_NAME).loadAs(Person.class);
+  }
+}
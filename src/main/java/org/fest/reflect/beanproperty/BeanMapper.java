@@ -0,0 +1,342 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.beanproperty;
+
+import org.fest.reflect.beanproperty.BeanProperties.BeanProperty;
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+import org.fest.reflect.util.Lambdas;
+import org.fest.util.InternalApi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Converts <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html" target="_blank">JavaBeans</a> to and
+ * from {@code Map}s, keyed by property name, and to and from {@code Object[]} rows, indexed by the position of each
+ * property in {@link #propertyNames()}.
+ * <p/>
+ * The properties of a class are discovered, and their getters and setters compiled, only once per class. Converting an
+ * object is a single pass over the compiled properties, without any lookup or introspection. The {@code class}
+ * property, inherited from {@code Object}, is not mapped.
+ * <p/>
+ * Mappers are immutable and thread-safe.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#mapper(Class) org.fest.reflect.core.Reflection.mapper};
+ *
+ * BeanMapper&lt;Person&gt; mapper = {@link org.fest.reflect.core.Reflection#mapper(Class) mapper}(Person.class).{@link #skippingNulls() skippingNulls}();
+ * Map&lt;String, Object&gt; values = mapper.{@link #toMap(Object) toMap}(person);
+ * Person copy = mapper.{@link #fromMap(Map) fromMap}(values);
+ * </pre>
+ *
+ * @param <T> the type of the beans to convert.
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class BeanMapper<T> {
+  private static final ClassMetadata.Key<Plan> PLAN = new ClassMetadata.Key<Plan>() {
+    @Override
+    protected @NotNull Plan create(@NotNull Class<?> type) {
+      return new Plan(type);
+    }
+  };
+
+  private final Class<T> type;
+  private final Plan plan;
+  private final boolean skipNulls;
+
+  /**
+   * Creates a new {@link BeanMapper}.
+   *
+   * @param type the type of the beans to convert.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if the getters or setters of the given type cannot be compiled.
+   */
+  @InternalApi
+  public BeanMapper(@NotNull Class<T> type) {
+    this(type, metadataOf(type).get(PLAN), false);
+  }
+
+  private BeanMapper(@NotNull Class<T> type, @NotNull Plan plan, boolean skipNulls) {
+    this.type = type;
+    this.plan = plan;
+    this.skipNulls = skipNulls;
+  }
+
+  /**
+   * Returns a mapper that ignores {@code null} values: they are not added to the created maps, and they are not set in
+   * the properties of the created beans.
+   *
+   * @return the created mapper.
+   */
+  public @NotNull BeanMapper<T> skippingNulls() {
+    return skipNulls ? this : new BeanMapper<T>(type, plan, true);
+  }
+
+  /**
+   * @return the names of the mapped properties, in the order of the columns of the rows created by this mapper.
+   */
+  public @NotNull List<String> propertyNames() {
+    return Collections.unmodifiableList(Arrays.asList(plan.names));
+  }
+
+  /**
+   * Copies the values of the readable properties of the given bean to a new map.
+   *
+   * @param bean the bean to convert.
+   * @return a new map containing the values of the properties of the given bean.
+   * @throws NullPointerException if the given bean is {@code null}.
+   * @throws ReflectionError      if the value of a property cannot be retrieved.
+   */
+  public @NotNull Map<String, Object> toMap(@NotNull T bean) {
+    return toMap(bean, new LinkedHashMap<String, Object>(plan.names.length * 4 / 3 + 1));
+  }
+
+  /**
+   * Copies the values of the readable properties of the given bean to the given map, after removing all its entries.
+   * Reusing the same map for many beans avoids creating a new map for each of them.
+   *
+   * @param bean   the bean to convert.
+   * @param output the map to store the values of the properties in.
+   * @return the given map.
+   * @throws NullPointerException if any of the given arguments is {@code null}.
+   * @throws ReflectionError      if the value of a property cannot be retrieved.
+   */
+  public @NotNull Map<String, Object> toMap(@NotNull T bean, @NotNull Map<String, Object> output) {
+    checkNotNull(bean);
+    output.clear();
+    String[] names = plan.names;
+    Function<Object, Object>[] getters = plan.getters;
+    for (int i = 0; i < names.length; i++) {
+      if (getters[i] == null) {
+        continue;
+      }
+      Object value = get(i, bean);
+      if (value != null || !skipNulls) {
+        output.put(names[i], value);
+      }
+    }
+    return output;
+  }
+
+  /**
+   * Creates a new bean, using the constructor without parameters of the type of this mapper, and sets its writable
+   * properties to the values in the given map. Properties without an entry in the given map are not set.
+   *
+   * @param values the values of the properties, keyed by property name.
+   * @return the created bean.
+   * @throws NullPointerException if the given map is {@code null}.
+   * @throws ReflectionError      if the bean cannot be created, or if the value of a property cannot be set.
+   */
+  public @NotNull T fromMap(@NotNull Map<String, ?> values) {
+    return fromMap(values, newInstance());
+  }
+
+  /**
+   * Sets the writable properties of the given bean to the values in the given map. Properties without an entry in the
+   * given map are not set.
+   *
+   * @param values the values of the properties, keyed by property name.
+   * @param bean   the bean to update.
+   * @return the given bean.
+   * @throws NullPointerException if any of the given arguments is {@code null}.
+   * @throws ReflectionError      if the value of a property cannot be set.
+   */
+  public @NotNull T fromMap(@NotNull Map<String, ?> values, @NotNull T bean) {
+    checkNotNull(values);
+    checkNotNull(bean);
+    String[] names = plan.names;
+    BiConsumer<Object, Object>[] setters = plan.setters;
+    for (int i = 0; i < names.length; i++) {
+      if (setters[i] == null) {
+        continue;
+      }
+      Object value = values.get(names[i]);
+      if (value == null && (skipNulls || !values.containsKey(names[i]))) {
+        continue;
+      }
+      set(i, bean, value);
+    }
+    return bean;
+  }
+
+  /**
+   * Copies the values of the readable properties of the given bean to a new row. The columns of properties that are not
+   * readable are {@code null}.
+   *
+   * @param bean the bean to convert.
+   * @return a new row containing the values of the properties of the given bean, in the order of
+   *         {@link #propertyNames()}.
+   * @throws NullPointerException if the given bean is {@code null}.
+   * @throws ReflectionError      if the value of a property cannot be retrieved.
+   */
+  public @NotNull Object[] toRow(@NotNull T bean) {
+    return toRow(bean, new Object[plan.names.length]);
+  }
+
+  /**
+   * Copies the values of the readable properties of the given bean to the given row. The columns of properties that are
+   * not readable are set to {@code null}.
+   *
+   * @param bean the bean to convert.
+   * @param row  the row to store the values of the properties in, with at least as many columns as properties.
+   * @return the given row.
+   * @throws NullPointerException     if any of the given arguments is {@code null}.
+   * @throws IllegalArgumentException if the given row is shorter than the number of properties.
+   * @throws ReflectionError          if the value of a property cannot be retrieved.
+   */
+  public @NotNull Object[] toRow(@NotNull T bean, @NotNull Object[] row) {
+    checkNotNull(bean);
+    checkRowLength(row);
+    Function<Object, Object>[] getters = plan.getters;
+    for (int i = 0; i < getters.length; i++) {
+      row[i] = getters[i] != null ? get(i, bean) : null;
+    }
+    return row;
+  }
+
+  /**
+   * Creates a new bean, using the constructor without parameters of the type of this mapper, and sets its writable
+   * properties to the values in the given row.
+   *
+   * @param row the values of the properties, in the order of {@link #propertyNames()}.
+   * @return the created bean.
+   * @throws NullPointerException     if the given row is {@code null}.
+   * @throws IllegalArgumentException if the given row is shorter than the number of properties.
+   * @throws ReflectionError          if the bean cannot be created, or if the value of a property cannot be set.
+   */
+  public @NotNull T fromRow(@NotNull Object[] row) {
+    checkRowLength(row);
+    return fromRow(row, newInstance());
+  }
+
+  /**
+   * Sets the writable properties of the given bean to the values in the given row.
+   *
+   * @param row  the values of the properties, in the order of {@link #propertyNames()}.
+   * @param bean the bean to update.
+   * @return the given bean.
+   * @throws NullPointerException     if any of the given arguments is {@code null}.
+   * @throws IllegalArgumentException if the given row is shorter than the number of properties.
+   * @throws ReflectionError          if the value of a property cannot be set.
+   */
+  public @NotNull T fromRow(@NotNull Object[] row, @NotNull T bean) {
+    checkRowLength(row);
+    checkNotNull(bean);
+    BiConsumer<Object, Object>[] setters = plan.setters;
+    for (int i = 0; i < setters.length; i++) {
+      Object value = row[i];
+      if (setters[i] != null && (value != null || !skipNulls)) {
+        set(i, bean, value);
+      }
+    }
+    return bean;
+  }
+
+  private void checkRowLength(@NotNull Object[] row) {
+    if (checkNotNull(row).length < plan.names.length) {
+      String format = "The row should have at least %d columns but had %d";
+      throw new IllegalArgumentException(String.format(format, plan.names.length, row.length));
+    }
+  }
+
+  private @Nullable Object get(int index, @NotNull Object bean) {
+    try {
+      return plan.getters[index].apply(bean);
+    } catch (ReflectionError e) {
+      throw e;
+    } catch (Throwable t) {
+      String msg = String.format("Failed to get the value of property '%s'", plan.names[index]);
+      throw new ReflectionError(msg, t);
+    }
+  }
+
+  private void set(int index, @NotNull Object bean, @Nullable Object value) {
+    try {
+      plan.setters[index].accept(bean, value);
+    } catch (ReflectionError e) {
+      throw e;
+    } catch (Throwable t) {
+      String format = "Failed to set value %s in property '%s'";
+      String msg = String.format(format, String.valueOf(value), plan.names[index]);
+      throw new ReflectionError(msg, t);
+    }
+  }
+
+  private @NotNull T newInstance() {
+    Supplier<Object> constructor = plan.constructor;
+    if (constructor == null) {
+      throw ReflectionError.of("Unable to find a constructor without parameters in %s", type.getName());
+    }
+    try {
+      return type.cast(constructor.get());
+    } catch (ReflectionError e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ReflectionError(String.format("Failed to create a new instance of %s", type.getName()), t);
+    }
+  }
+
+  // The compiled properties of a class, stored in the ClassMetadata of the class. The getter or the setter at the index
+  // of a property is null if the property is not readable or not writable.
+  private static class Plan {
+    final String[] names;
+    final Function<Object, Object>[] getters;
+    final BiConsumer<Object, Object>[] setters;
+    final Supplier<Object> constructor;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    Plan(@NotNull Class<?> type) {
+      List<BeanProperty> properties = new ArrayList<BeanProperty>();
+      for (BeanProperty property : BeanProperties.propertiesOf(type)) {
+        if (property.readMethod == null || property.readMethod.getDeclaringClass() != Object.class) {
+          properties.add(property);
+        }
+      }
+      int count = properties.size();
+      names = new String[count];
+      getters = new Function[count];
+      setters = new BiConsumer[count];
+      Class<Object> targetType = (Class<Object>) type;
+      for (int i = 0; i < count; i++) {
+        BeanProperty property = properties.get(i);
+        names[i] = property.name;
+        Method readMethod = property.readMethod;
+        Method writeMethod = property.writeMethod;
+        getters[i] = readMethod != null ? Lambdas.<Object, Object>getter(targetType, readMethod) : null;
+        setters[i] = writeMethod != null ? Lambdas.<Object, Object>setter(targetType, writeMethod) : null;
+      }
+      Constructor<?> constructor = isAbstract(type.getModifiers()) ? null : metadataOf(type).declaredConstructor();
+      this.constructor = constructor != null ? Lambdas.constructor((Constructor<Object>) constructor) : null;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.beanproperty;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+
+/**
+ * Lightweight, cached model of the
+ * <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html" target="_blank">JavaBeans</a> properties of a
+ * class.
+ * <p/>
+ * Properties are discovered once per class, using only the naming conventions of the JavaBeans specification on the
+ * public methods of the class: {@code getXxx}/{@code isXxx} for getters and {@code setXxx} for setters. Unlike
+ * {@code java.beans.Introspector}, {@code BeanInfo} classes and property editors are not taken into account.
+ * <p/>
+ * Entries are stored in the {@link ClassMetadata} of the class, which keeps them reachable only as long as the class
+ * itself is reachable.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class BeanProperties {
+  private static final ClassMetadata.Key<Map<String, BeanProperty>> PROPERTIES =
+      new ClassMetadata.Key<Map<String, BeanProperty>>() {
+        @Override
+        protected @NotNull Map<String, BeanProperty> create(@NotNull Class<?> type) {
+          return introspect(type);
+        }
+      };
+
+  private BeanProperties() {
+  }
+
+  /**
+   * Returns the property with the given name in the given class.
+   *
+   * @param type         the class containing the property.
+   * @param propertyName the name of the property.
+   * @return the found property, or {@code null} if the given class does not have a property with the given name.
+   */
+  static @Nullable BeanProperty findProperty(@NotNull Class<?> type, @NotNull String propertyName) {
+    return metadataOf(type).get(PROPERTIES).get(propertyName);
+  }
+
+  /**
+   * Returns all the properties of the given class, in the order they were discovered.
+   *
+   * @param type the class containing the properties.
+   * @return the properties of the given class.
+   */
+  static @NotNull Collection<BeanProperty> propertiesOf(@NotNull Class<?> type) {
+    return metadataOf(type).get(PROPERTIES).values();
+  }
+
+  private static @NotNull Map<String, BeanProperty> introspect(@NotNull Class<?> type) {
+    Map<String, Method> getters = new LinkedHashMap<String, Method>();
+    Map<String, List<Method>> setters = new LinkedHashMap<String, List<Method>>();
+    for (Method method : type.getMethods()) {
+      if (isStatic(method.getModifiers()) || method.isBridge()) {
+        continue;
+      }
+      String name = method.getName();
+      int parameterCount = method.getParameterTypes().length;
+      Class<?> returnType = method.getReturnType();
+      if (parameterCount == 0 && name.startsWith("get") && name.length() > 3 && returnType != void.class) {
+        String propertyName = decapitalize(name.substring(3));
+        if (!getters.containsKey(propertyName)) {
+          getters.put(propertyName, method);
+        }
+      } else if (parameterCount == 0 && name.startsWith("is") && name.length() > 2 && returnType == boolean.class) {
+        getters.put(decapitalize(name.substring(2)), method);
+      } else if (parameterCount == 1 && name.startsWith("set") && name.length() > 3 && returnType == void.class) {
+        String propertyName = decapitalize(name.substring(3));
+        List<Method> candidates = setters.get(propertyName);
+        if (candidates == null) {
+          candidates = new ArrayList<Method>();
+          setters.put(propertyName, candidates);
+        }
+        candidates.add(method);
+      }
+    }
+    Map<String, BeanProperty> properties = new LinkedHashMap<String, BeanProperty>();
+    for (Map.Entry<String, Method> entry : getters.entrySet()) {
+      String propertyName = entry.getKey();
+      Method getter = entry.getValue();
+      Class<?> propertyType = getter.getReturnType();
+      Method setter = null;
+      List<Method> candidates = setters.remove(propertyName);
+      if (candidates != null) {
+        for (Method candidate : candidates) {
+          if (candidate.getParameterTypes()[0] == propertyType) {
+            setter = candidate;
+            break;
+          }
+        }
+      }
+      properties.put(propertyName, new BeanProperty(propertyName, propertyType, getter, setter));
+    }
+    for (Map.Entry<String, List<Method>> entry : setters.entrySet()) {
+      String propertyName = entry.getKey();
+      Method setter = entry.getValue().get(0);
+      properties.put(propertyName, new BeanProperty(propertyName, setter.getParameterTypes()[0], null, setter));
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
+  // Same rules as java.beans.Introspector#decapitalize: "FooBah" becomes "fooBah", but "URL" stays as "URL".
+  private static @NotNull String decapitalize(@NotNull String name) {
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+      return name;
+    }
+    char[] chars = name.toCharArray();
+    chars[0] = Character.toLowerCase(chars[0]);
+    return new String(chars);
+  }
+
+  /**
+   * A property discovered by {@link BeanProperties}, or described by a {@code PropertyDescriptor} obtained from
+   * {@code java.beans.Introspector}.
+   */
+  static final class BeanProperty {
+    final String name;
+    final Class<?> type;
+    final Method readMethod;
+    final Method writeMethod;
+    private final PropertyDescriptor descriptor;
+
+    BeanProperty(@NotNull String name, @NotNull Class<?> type, @Nullable Method readMethod,
+                 @Nullable Method writeMethod) {
+      this.name = name;
+      this.type = type;
+      this.readMethod = readMethod;
+      this.writeMethod = writeMethod;
+      this.descriptor = null;
+    }
+
+    BeanProperty(@NotNull PropertyDescriptor descriptor) {
+      this.name = descriptor.getName();
+      this.type = descriptor.getPropertyType();
+      this.readMethod = descriptor.getReadMethod();
+      this.writeMethod = descriptor.getWriteMethod();
+      this.descriptor = descriptor;
+    }
+
+    /**
+     * @return the {@code PropertyDescriptor} this property was created from, or a new one if this property was
+     *         discovered by {@link BeanProperties}.
+     * @throws ReflectionError if a {@code PropertyDescriptor} cannot be created.
+     */
+    @NotNull PropertyDescriptor descriptor() {
+      if (descriptor != null) {
+        return descriptor;
+      }
+      try {
+        return new PropertyDescriptor(name, readMethod, writeMethod);
+      } catch (IntrospectionException e) {
+        String msg = String.format("Failed to create a PropertyDescriptor for property '%s'", name);
+        throw new ReflectionError(msg, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.beanproperty;
+
+import org.fest.reflect.beanproperty.BeanProperties.BeanProperty;
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.reference.TypeRef;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.PROPERTY_ACCESS;
+import static org.fest.reflect.metrics.Operation.PROPERTY_LOOKUP;
+import static org.fest.reflect.util.GenericTypes.isAssignable;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Preconditions.checkNotNullOrEmpty;
+
+/**
+ * Accesses a <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html" target="_blank">JavaBeans</a>
+ * property, found once in a given type, in any instance of that type.
+ * <p/>
+ * Unlike {@link PropertyAccessor}, a {@code PreparedProperty} is not bound to a target: the target is passed on every
+ * call, and the property is not looked up again.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#property(String) org.fest.reflect.core.Reflection.property};
+ *
+ * PreparedProperty&lt;String&gt; name = {@link org.fest.reflect.core.Reflection#property(String) property}("name").{@link org.fest.reflect.beanproperty.PropertyName#ofType(Class) ofType}(String.class).{@link org.fest.reflect.beanproperty.PropertyType#prepare(Class) prepare}(Person.class);
+ * for (Person person : persons) {
+ *   String value = name.{@link PreparedProperty#get(Object) get}(person);
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the property to access.
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class PreparedProperty<T> {
+  private final Class<T> propertyType;
+  private final Class<?> targetType;
+  private final BeanProperty property;
+
+  PreparedProperty(@NotNull String propertyName, @NotNull Class<T> propertyType, @NotNull Class<?> type,
+                   boolean useIntrospector) {
+    this(propertyType, type, findProperty(checkNotNullOrEmpty(propertyName), checkNotNull(propertyType),
+        checkNotNull(type), useIntrospector));
+  }
+
+  PreparedProperty(@NotNull String propertyName, @NotNull TypeRef<T> propertyType, @NotNull Class<?> type,
+                   boolean useIntrospector) {
+    this(propertyType.rawType(), type, checkGenericType(findProperty(checkNotNullOrEmpty(propertyName),
+        checkNotNull(propertyType).rawType(), checkNotNull(type), useIntrospector), propertyType.type(), type));
+  }
+
+  private PreparedProperty(@NotNull Class<T> propertyType, @NotNull Class<?> targetType,
+                           @NotNull BeanProperty property) {
+    this.propertyType = propertyType;
+    this.targetType = targetType;
+    this.property = property;
+  }
+
+  /**
+   * Looks up a property in the given type, without throwing an error if it cannot be found.
+   *
+   * @param propertyName    the name of the property to find.
+   * @param propertyType    the expected type of the property.
+   * @param targetType      the type containing the property.
+   * @param useIntrospector indicates whether {@code java.beans.Introspector} should be used to find the property.
+   * @return the found property, or {@code null} if a property with a matching name and type cannot be found.
+   * @throws ReflectionError if {@code java.beans.Introspector} fails to introspect the given type.
+   */
+  static @Nullable <T> PreparedProperty<T> find(@NotNull String propertyName, @NotNull Class<T> propertyType,
+                                                @NotNull Class<?> targetType, boolean useIntrospector) {
+    BeanProperty property = lookUpProperty(checkNotNullOrEmpty(propertyName), checkNotNull(targetType),
+        useIntrospector);
+    if (property == null || !checkNotNull(propertyType).isAssignableFrom(property.type)) {
+      return null;
+    }
+    return new PreparedProperty<T>(propertyType, targetType, property);
+  }
+
+  /**
+   * Looks up a property in the given type, without throwing an error if it cannot be found or if its generic type does
+   * not match the given one.
+   *
+   * @param propertyName    the name of the property to find.
+   * @param propertyType    the expected generic type of the property.
+   * @param targetType      the type containing the property.
+   * @param useIntrospector indicates whether {@code java.beans.Introspector} should be used to find the property.
+   * @return the found property, or {@code null} if a property with a matching name and type cannot be found.
+   * @throws ReflectionError if {@code java.beans.Introspector} fails to introspect the given type.
+   */
+  static @Nullable <T> PreparedProperty<T> find(@NotNull String propertyName, @NotNull TypeRef<T> propertyType,
+                                                @NotNull Class<?> targetType, boolean useIntrospector) {
+    PreparedProperty<T> property = find(propertyName, propertyType.rawType(), targetType, useIntrospector);
+    return property != null && hasGenericType(property.property, propertyType.type()) ? property : null;
+  }
+
+  /**
+   * Finds a property in the given type.
+   *
+   * @param propertyName    the name of the property to find.
+   * @param propertyType    the expected type of the property.
+   * @param targetType      the type containing the property.
+   * @param useIntrospector indicates whether {@code java.beans.Introspector} should be used to find the property.
+   * @return the found property.
+   * @throws ReflectionError if a property with a matching name and type cannot be found.
+   */
+  static @NotNull BeanProperty findProperty(@NotNull String propertyName, @NotNull Class<?> propertyType,
+                                            @NotNull Class<?> targetType, boolean useIntrospector) {
+    BeanProperty property = lookUpProperty(propertyName, targetType, useIntrospector);
+    if (property == null) {
+      throw ReflectionError.of("Failed to find property '%s' in %s", propertyName, targetType.getName());
+    }
+    Class<?> actualType = property.type;
+    if (!propertyType.isAssignableFrom(actualType)) {
+      String format = "Expecting type of property '%s' in %s to be <%s> but was <%s>";
+      throw ReflectionError.of(format, propertyName, targetType.getName(), propertyType.getName(),
+          actualType.getName());
+    }
+    return property;
+  }
+
+  /**
+   * Verifies that the value of the given property can be assigned to a variable of the given generic type. The result
+   * is cached per getter, and accessors created from the property do not check the type of its value again.
+   *
+   * @param property   the property to verify.
+   * @param expected   the expected generic type of the property.
+   * @param targetType the type containing the property.
+   * @return the given property.
+   * @throws ReflectionError if the generic type of the property does not match the expected one.
+   */
+  static @NotNull BeanProperty checkGenericType(@NotNull BeanProperty property, @NotNull Type expected,
+                                                @NotNull Class<?> targetType) {
+    if (!hasGenericType(property, expected)) {
+      String format = "Expecting generic type of property '%s' in %s to be <%s> but was <%s>";
+      throw ReflectionError.of(format, property.name, targetType.getName(), expected.getTypeName(),
+          genericTypeOf(property).getTypeName());
+    }
+    return property;
+  }
+
+  private static boolean hasGenericType(@NotNull BeanProperty property, @NotNull Type expected) {
+    Method readMethod = property.readMethod;
+    if (readMethod != null) {
+      return isAssignable(expected, readMethod);
+    }
+    return isAssignable(expected, genericTypeOf(property));
+  }
+
+  private static @NotNull Type genericTypeOf(@NotNull BeanProperty property) {
+    Method readMethod = property.readMethod;
+    if (readMethod != null) {
+      return readMethod.getGenericReturnType();
+    }
+    Method writeMethod = property.writeMethod;
+    return writeMethod != null ? writeMethod.getGenericParameterTypes()[0] : property.type;
+  }
+
+  private static @Nullable BeanProperty lookUpProperty(@NotNull String propertyName, @NotNull Class<?> targetType,
+                                                      boolean useIntrospector) {
+    long start = start();
+    BeanProperty property = null;
+    try {
+      if (useIntrospector) {
+        PropertyDescriptor descriptor = findPropertyDescriptor(propertyName, targetType);
+        property = descriptor != null ? new BeanProperty(descriptor) : null;
+      } else {
+        property = BeanProperties.findProperty(targetType, propertyName);
+      }
+      return property;
+    } finally {
+      end(PROPERTY_LOOKUP, property != null, targetType, propertyName, start);
+    }
+  }
+
+  private static @Nullable PropertyDescriptor findPropertyDescriptor(@NotNull String propertyName,
+                                                                     @NotNull Class<?> targetType) {
+    BeanInfo beanInfo;
+    try {
+      beanInfo = Introspector.getBeanInfo(targetType);
+    } catch (Throwable t) {
+      String format = "Failed to get BeanInfo for type %s";
+      throw new ReflectionError(String.format(format, targetType.getName()), t);
+    }
+    for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+      if (propertyName.equals(descriptor.getName())) {
+        return descriptor;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Sets a value of the property in the given target.
+   *
+   * @param target the object containing the property.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   */
+  public void set(@NotNull Object target, @Nullable T value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      write(target, value);
+      succeeded = true;
+    } finally {
+      end(PROPERTY_ACCESS, succeeded, targetType, property.name, start);
+    }
+  }
+
+  private void write(@NotNull Object target, @Nullable T value) {
+    try {
+      property.writeMethod.invoke(target, value);
+    } catch (Exception e) {
+      String format = "Failed to set value %s in property '%s'";
+      String msg = String.format(format, String.valueOf(value), property.name);
+      throw new ReflectionError(msg, e);
+    }
+  }
+
+  /**
+   * Retrieves the value of the property in the given target.
+   *
+   * @param target the object containing the property.
+   * @return the value of the property.
+   * @throws ReflectionError if the value of the property cannot be retrieved.
+   */
+  public @Nullable T get(@NotNull Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = read(target);
+      succeeded = true;
+      return value;
+    } finally {
+      end(PROPERTY_ACCESS, succeeded, targetType, property.name, start);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable T read(@NotNull Object target) {
+    try {
+      // the type of the property was checked when it was found, the value is of the type of this property.
+      return (T) property.readMethod.invoke(target);
+    } catch (Throwable t) {
+      String msg = String.format("Failed to get the value of property '%s'", property.name);
+      throw new ReflectionError(msg, t);
+    }
+  }
+
+  /**
+   * Binds this property to the given target, without looking up the property again.
+   *
+   * @param target the object containing the property to access.
+   * @return a {@link PropertyAccessor} that accesses this property in the given target.
+   * @throws NullPointerException if the given target is {@code null}.
+   */
+  public @NotNull PropertyAccessor<T> in(@NotNull Object target) {
+    return new PropertyAccessor<T>(this, target);
+  }
+
+  /**
+   * @return the underlying
+   *         <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html" target="_blank">JavaBeans</a>
+   *         property to invoke via Bean Introspection.
+   */
+  public @NotNull PropertyDescriptor target() {
+    return property.descriptor();
+  }
+}
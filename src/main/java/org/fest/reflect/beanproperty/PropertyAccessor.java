@@ -15,16 +15,13 @@
 package org.fest.reflect.beanproperty;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.reference.TypeRef;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import java.beans.BeanInfo;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 
-import static org.fest.reflect.util.Types.castSafely;
 import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 
 /**
  * Accesses a
@@ -36,44 +33,36 @@ import static org.fest.util.Preconditions.checkNotNullOrEmpty;
  * @since 1.2
  */
 public final class PropertyAccessor<T> {
-  private final Class<T> propertyType;
+  private final PreparedProperty<T> property;
   private final Object target;
-  private final PropertyDescriptor descriptor;
 
-  PropertyAccessor(@NotNull String propertyName, @NotNull Class<T> propertyType, @NotNull Object target) {
-    this.propertyType = checkNotNull(propertyType);
+  PropertyAccessor(@NotNull String propertyName, @NotNull Class<T> propertyType, @NotNull Object target,
+                   boolean useIntrospector) {
+    this(new PreparedProperty<T>(propertyName, propertyType, checkNotNull(target).getClass(), useIntrospector), target);
+  }
+
+  PropertyAccessor(@NotNull String propertyName, @NotNull TypeRef<T> propertyType, @NotNull Object target,
+                   boolean useIntrospector) {
+    this(new PreparedProperty<T>(propertyName, propertyType, checkNotNull(target).getClass(), useIntrospector), target);
+  }
+
+  PropertyAccessor(@NotNull PreparedProperty<T> property, @NotNull Object target) {
+    this.property = checkNotNull(property);
     this.target = checkNotNull(target);
-    this.descriptor = findPropertyDescriptor(checkNotNullOrEmpty(propertyName));
   }
 
-  private PropertyDescriptor findPropertyDescriptor(@NotNull String propertyName) {
-    BeanInfo beanInfo;
-    Class<?> targetType = target.getClass();
-    try {
-      beanInfo = Introspector.getBeanInfo(targetType);
-    } catch (Throwable t) {
-      String format = "Failed to get BeanInfo for type %s";
-      throw new ReflectionError(String.format(format, targetType.getName()), t);
-    }
-    PropertyDescriptor found = null;
-    for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
-      if (propertyName.equals(descriptor.getName())) {
-        found = descriptor;
-        break;
-      }
-    }
-    if (found != null) {
-      Class<?> actualType = found.getPropertyType();
-      if (!propertyType.isAssignableFrom(actualType)) {
-        String format = "Expecting type of property '%s' in %s to be <%s> but was <%s>";
-        String msg =
-            String.format(format, propertyName, targetType.getName(), propertyType.getName(), actualType.getName());
-        throw new ReflectionError(msg);
-      }
-      return found;
-    }
-    String msg = String.format("Failed to find property '%s' in %s", propertyName, targetType.getName());
-    throw new ReflectionError(msg);
+  static @Nullable <T> PropertyAccessor<T> find(@NotNull String propertyName, @NotNull Class<T> propertyType,
+                                                @NotNull Object target, boolean useIntrospector) {
+    PreparedProperty<T> property =
+        PreparedProperty.find(propertyName, propertyType, checkNotNull(target).getClass(), useIntrospector);
+    return property != null ? new PropertyAccessor<T>(property, target) : null;
+  }
+
+  static @Nullable <T> PropertyAccessor<T> find(@NotNull String propertyName, @NotNull TypeRef<T> propertyType,
+                                                @NotNull Object target, boolean useIntrospector) {
+    PreparedProperty<T> property =
+        PreparedProperty.find(propertyName, propertyType, checkNotNull(target).getClass(), useIntrospector);
+    return property != null ? new PropertyAccessor<T>(property, target) : null;
   }
 
   /**
@@ -103,13 +92,7 @@ public final class PropertyAccessor<T> {
    * @throws ReflectionError if the given value cannot be set.
    */
   public void set(@Nullable T value) {
-    try {
-      descriptor.getWriteMethod().invoke(target, value);
-    } catch (Exception e) {
-      String format = "Failed to set value %s in property '%s'";
-      String msg = String.format(format, String.valueOf(value), descriptor.getName());
-      throw new ReflectionError(msg, e);
-    }
+    property.set(target, value);
   }
 
   /**
@@ -139,13 +122,7 @@ public final class PropertyAccessor<T> {
    * @throws ReflectionError if the value of the property cannot be retrieved.
    */
   public @Nullable T get() {
-    try {
-      Object value = descriptor.getReadMethod().invoke(target);
-      return castSafely(value, propertyType);
-    } catch (Throwable t) {
-      String msg = String.format("Failed to get the value of property '%s'", descriptor.getName());
-      throw new ReflectionError(msg, t);
-    }
+    return property.get(target);
   }
 
   /**
@@ -154,6 +131,6 @@ public final class PropertyAccessor<T> {
    *         property to invoke via Bean Introspection.
    */
   public @NotNull PropertyDescriptor target() {
-    return descriptor;
+    return property.target();
   }
 }
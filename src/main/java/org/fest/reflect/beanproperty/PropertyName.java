@@ -52,6 +52,7 @@ import static org.fest.util.Preconditions.checkNotNullOrEmpty;
  */
 public final class PropertyName {
   private final String name;
+  private final boolean useIntrospector;
 
   /**
    * Creates a new {@link PropertyName}.
@@ -82,7 +83,32 @@ public final class PropertyName {
    */
   @InternalApi
   public PropertyName(@NotNull String name) {
+    this(name, false);
+  }
+
+  private PropertyName(@NotNull String name, boolean useIntrospector) {
     this.name = checkNotNullOrEmpty(name);
+    this.useIntrospector = useIntrospector;
+  }
+
+  /**
+   * Indicates that the property to access should be found using {@code java.beans.Introspector}, instead of the
+   * lightweight, cached introspection used by default. Use this option when the property is defined by a
+   * {@code BeanInfo} class or when it does not follow the JavaBeans naming conventions.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#property(String) org.fest.reflect.core.Reflection.property};
+   *
+   * // Equivalent to "String name = person.getName()", using the property described by Person's BeanInfo
+   * String name = {@link org.fest.reflect.core.Reflection#property(String) property}("name").{@link org.fest.reflect.beanproperty.PropertyName#usingIntrospector() usingIntrospector}().{@link org.fest.reflect.beanproperty.PropertyName#ofType(Class) ofType}(String.class).{@link org.fest.reflect.beanproperty.PropertyType#in(Object) in}(person).{@link org.fest.reflect.beanproperty.PropertyAccessor#get() get}();
+   * </pre>
+   *
+   * @return a property name that uses {@code java.beans.Introspector} to find the property.
+   * @since 2.0
+   */
+  public @NotNull PropertyName usingIntrospector() {
+    return new PropertyName(name, true);
   }
 
   /**
@@ -114,7 +140,7 @@ public final class PropertyName {
    * @throws NullPointerException if the given type is {@code null}.
    */
   public @NotNull <T> PropertyType<T> ofType(@NotNull Class<T> type) {
-    return new PropertyType<T>(name, type);
+    return new PropertyType<T>(name, type, useIntrospector);
   }
 
   /**
@@ -148,6 +174,6 @@ public final class PropertyName {
    * @throws NullPointerException if the given type reference is {@code null}.
    */
   public @NotNull <T> PropertyTypeRef<T> ofType(@NotNull TypeRef<T> type) {
-    return new PropertyTypeRef<T>(name, type);
+    return new PropertyTypeRef<T>(name, type, useIntrospector);
   }
 }
\ No newline at end of file
@@ -14,10 +14,16 @@
  */
 package org.fest.reflect.beanproperty;
 
+import org.fest.reflect.beanproperty.BeanProperties.BeanProperty;
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.Lambdas;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
+import static org.fest.reflect.beanproperty.PreparedProperty.findProperty;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 
@@ -31,10 +37,12 @@ import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 public class PropertyType<T> {
   private final String propertyName;
   private final Class<T> value;
+  private final boolean useIntrospector;
 
-  PropertyType(@NotNull String propertyName, @NotNull Class<T> type) {
+  PropertyType(@NotNull String propertyName, @NotNull Class<T> type, boolean useIntrospector) {
     this.propertyName = checkNotNullOrEmpty(propertyName);
     this.value = checkNotNull(type);
+    this.useIntrospector = useIntrospector;
   }
 
   /**
@@ -67,6 +75,107 @@ public class PropertyType<T> {
    * @throws ReflectionError      if a property with a matching name and type cannot be found.
    */
   public @NotNull PropertyAccessor<T> in(@NotNull Object target) {
-    return new PropertyAccessor<T>(propertyName, value, target);
+    return new PropertyAccessor<T>(propertyName, value, target, useIntrospector);
   }
-}
\ No newline at end of file
+
+  /**
+   * Looks up the property to access in the given object or class, like {@link #in(Object)}, but returns {@code null}
+   * instead of throwing an error if a property with a matching name and type cannot be found. Misses are cached, so
+   * probing many objects of the same type for a member they do not have is cheap.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#property(String) org.fest.reflect.core.Reflection.property};
+   *
+   * PropertyAccessor&lt;String&gt; name = {@link org.fest.reflect.core.Reflection#property(String) property}("name").{@link org.fest.reflect.beanproperty.PropertyName#ofType(Class) ofType}(String.class).{@link org.fest.reflect.beanproperty.PropertyType#find(Object) find}(person);
+   * if (name != null) {
+   *   name.{@link org.fest.reflect.beanproperty.PropertyAccessor#set(Object) set}("Yoda");
+   * }
+   * </pre>
+   *
+   * @param target the object containing the property to access.
+   * @return the created accessor, or {@code null} if a property with a matching name and type cannot be found.
+   * @throws NullPointerException if the given target is {@code null}.
+   * @since 2.0
+   */
+  public @Nullable PropertyAccessor<T> find(@NotNull Object target) {
+    return PropertyAccessor.find(propertyName, value, target, useIntrospector);
+  }
+
+  /**
+   * Specifies the type containing the property to access, so that the property can be accessed in any instance of that
+   * type without looking it up again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#property(String) org.fest.reflect.core.Reflection.property};
+   *
+   * PreparedProperty&lt;String&gt; name = {@link org.fest.reflect.core.Reflection#property(String) property}("name").{@link org.fest.reflect.beanproperty.PropertyName#ofType(Class) ofType}(String.class).{@link org.fest.reflect.beanproperty.PropertyType#prepare(Class) prepare}(Person.class);
+   * String name1 = name.{@link org.fest.reflect.beanproperty.PreparedProperty#get(Object) get}(person1);
+   * String name2 = name.{@link org.fest.reflect.beanproperty.PreparedProperty#get(Object) get}(person2);
+   * </pre>
+   *
+   * @param type the type containing the property.
+   * @return the created prepared property.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if a property with a matching name and type cannot be found.
+   * @since 2.0
+   */
+  public @NotNull PreparedProperty<T> prepare(@NotNull Class<?> type) {
+    return new PreparedProperty<T>(propertyName, value, type, useIntrospector);
+  }
+
+  /**
+   * Compiles the getter of the property into a {@code Function} that can read the property from any instance of the
+   * given type, without looking up the property again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#property(String) org.fest.reflect.core.Reflection.property};
+   *
+   * Function&lt;Person, String&gt; getName = {@link org.fest.reflect.core.Reflection#property(String) property}("name").{@link org.fest.reflect.beanproperty.PropertyName#ofType(Class) ofType}(String.class).{@link org.fest.reflect.beanproperty.PropertyType#compileGetter(Class) compileGetter}(Person.class);
+   * String name = getName.apply(person);
+   * </pre>
+   *
+   * @param type the type containing the property.
+   * @return a {@code Function} that returns the value of the property in the instance it is applied to.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if a readable property with a matching name and type cannot be found.
+   * @since 2.0
+   */
+  public @NotNull <S> Function<S, T> compileGetter(@NotNull Class<S> type) {
+    BeanProperty property = findProperty(propertyName, value, checkNotNull(type), useIntrospector);
+    if (property.readMethod == null) {
+      String msg = String.format("Failed to find a getter for property '%s' in %s", propertyName, type.getName());
+      throw new ReflectionError(msg);
+    }
+    return Lambdas.getter(type, property.readMethod);
+  }
+
+  /**
+   * Compiles the setter of the property into a {@code BiConsumer} that can write the property in any instance of the
+   * given type, without looking up the property again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#property(String) org.fest.reflect.core.Reflection.property};
+   *
+   * BiConsumer&lt;Person, String&gt; setName = {@link org.fest.reflect.core.Reflection#property(String) property}("name").{@link org.fest.reflect.beanproperty.PropertyName#ofType(Class) ofType}(String.class).{@link org.fest.reflect.beanproperty.PropertyType#compileSetter(Class) compileSetter}(Person.class);
+   * setName.accept(person, "Yoda");
+   * </pre>
+   *
+   * @param type the type containing the property.
+   * @return a {@code BiConsumer} that sets the value of the property in the instance it is applied to.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if a writable property with a matching name and type cannot be found.
+   * @since 2.0
+   */
+  public @NotNull <S> BiConsumer<S, T> compileSetter(@NotNull Class<S> type) {
+    BeanProperty property = findProperty(propertyName, value, checkNotNull(type), useIntrospector);
+    if (property.writeMethod == null) {
+      String msg = String.format("Failed to find a setter for property '%s' in %s", propertyName, type.getName());
+      throw new ReflectionError(msg);
+    }
+    return Lambdas.setter(type, property.writeMethod);
+  }
+}
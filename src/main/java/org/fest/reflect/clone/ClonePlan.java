@@ -0,0 +1,166 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.clone;
+
+import org.fest.reflect.constructor.TargetType;
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.util.Accessibles.makeAccessibleOnce;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+
+/**
+ * How to deep-copy the instances of a class, computed once per class and stored in the {@link ClassMetadata} of the
+ * class. Each instance field, including the ones declared in superclasses, is classified as:
+ * <ul>
+ * <li>shallow: primitive fields, and fields whose declared type is a final immutable class, are copied as they are,
+ * through a single {@code MethodHandle} that reads the field from the original and writes it in the copy without
+ * boxing</li>
+ * <li>primitive array: the value is copied with {@code clone()}, without looking at its elements</li>
+ * <li>deep: the value is copied by the {@link DeepCloner}, which decides how to copy it based on its runtime class</li>
+ * </ul>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class ClonePlan {
+  private static final ClassMetadata.Key<ClonePlan> PLAN = new ClassMetadata.Key<ClonePlan>() {
+    @Override
+    protected @NotNull ClonePlan create(@NotNull Class<?> type) {
+      return new ClonePlan(type);
+    }
+  };
+
+  private static final MethodType COPY = methodType(void.class, Object.class, Object.class);
+  private static final MethodType GETTER = methodType(Object.class, Object.class);
+  private static final MethodType SETTER = methodType(void.class, Object.class, Object.class);
+
+  private final Supplier<?> constructor;
+  private final MethodHandle[] shallowCopies;
+  private final MethodHandle[] primitiveArrayGetters;
+  private final MethodHandle[] primitiveArraySetters;
+  private final MethodHandle[] deepGetters;
+  private final MethodHandle[] deepSetters;
+
+  private ClonePlan(@NotNull Class<?> type) {
+    constructor = new TargetType().in(type).compile();
+    List<MethodHandle> shallowCopies = new ArrayList<MethodHandle>();
+    List<MethodHandle> primitiveArrayGetters = new ArrayList<MethodHandle>();
+    List<MethodHandle> primitiveArraySetters = new ArrayList<MethodHandle>();
+    List<MethodHandle> deepGetters = new ArrayList<MethodHandle>();
+    List<MethodHandle> deepSetters = new ArrayList<MethodHandle>();
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (String name : metadataOf(current).declaredFieldNames()) {
+        Field field = metadataOf(current).declaredField(name);
+        if (field == null || isStatic(field.getModifiers())) {
+          continue;
+        }
+        MethodHandle getter = getterFor(field);
+        MethodHandle setter = setterFor(field);
+        Class<?> fieldType = field.getType();
+        if (fieldType.isPrimitive() || DeepCloner.isKnownImmutable(fieldType)) {
+          // setter(copy, getter(original)), with the value passed as is between the two handles.
+          shallowCopies.add(MethodHandles.collectArguments(setter, 1, getter).asType(COPY));
+        } else if (fieldType.isArray() && fieldType.getComponentType().isPrimitive()) {
+          primitiveArrayGetters.add(getter.asType(GETTER));
+          primitiveArraySetters.add(setter.asType(SETTER));
+        } else {
+          deepGetters.add(getter.asType(GETTER));
+          deepSetters.add(setter.asType(SETTER));
+        }
+      }
+    }
+    this.shallowCopies = shallowCopies.toArray(new MethodHandle[shallowCopies.size()]);
+    this.primitiveArrayGetters = primitiveArrayGetters.toArray(new MethodHandle[primitiveArrayGetters.size()]);
+    this.primitiveArraySetters = primitiveArraySetters.toArray(new MethodHandle[primitiveArraySetters.size()]);
+    this.deepGetters = deepGetters.toArray(new MethodHandle[deepGetters.size()]);
+    this.deepSetters = deepSetters.toArray(new MethodHandle[deepSetters.size()]);
+  }
+
+  private static @NotNull MethodHandle getterFor(@NotNull Field field) {
+    try {
+      return MethodHandles.lookup().unreflectGetter(makeAccessibleOnce(field));
+    } catch (IllegalAccessException e) {
+      throw cannotAccess(field, e);
+    }
+  }
+
+  private static @NotNull MethodHandle setterFor(@NotNull Field field) {
+    try {
+      // the field is accessible, a setter can be created even if the field is final.
+      return MethodHandles.lookup().unreflectSetter(makeAccessibleOnce(field));
+    } catch (IllegalAccessException e) {
+      throw cannotAccess(field, e);
+    }
+  }
+
+  private static @NotNull ReflectionError cannotAccess(@NotNull Field field, @NotNull Throwable cause) {
+    String format = "Unable to access field '%s' in %s";
+    return new ReflectionError(String.format(format, field.getName(), field.getDeclaringClass().getName()), cause);
+  }
+
+  /**
+   * Returns the plan of the given class.
+   *
+   * @param type the given class.
+   * @return the plan of the given class.
+   * @throws ReflectionError if the given class does not have a constructor without parameters, or if any of its
+   *                         fields cannot be accessed.
+   */
+  static @NotNull ClonePlan planFor(@NotNull Class<?> type) {
+    return metadataOf(type).get(PLAN);
+  }
+
+  /**
+   * @return a new instance of the class of this plan, created using its constructor without parameters.
+   */
+  @NotNull Object newInstance() {
+    return constructor.get();
+  }
+
+  /**
+   * Copies the fields of the given original to the given copy.
+   *
+   * @param original the object to copy.
+   * @param copy     the copy, created by {@link #newInstance()}.
+   * @param cloner   copies the values of the fields that need a deep copy.
+   * @throws Throwable if any of the fields cannot be copied.
+   */
+  void copyFields(@NotNull Object original, @NotNull Object copy, @NotNull DeepCloner.Copying cloner)
+      throws Throwable {
+    for (MethodHandle shallowCopy : shallowCopies) {
+      shallowCopy.invokeExact(copy, original);
+    }
+    for (int i = 0; i < primitiveArrayGetters.length; i++) {
+      Object value = (Object) primitiveArrayGetters[i].invokeExact(original);
+      primitiveArraySetters[i].invokeExact(copy, cloner.copyPrimitiveArray(value));
+    }
+    for (int i = 0; i < deepGetters.length; i++) {
+      Object value = (Object) deepGetters[i].invokeExact(original);
+      deepSetters[i].invokeExact(copy, cloner.copy(value));
+    }
+  }
+}
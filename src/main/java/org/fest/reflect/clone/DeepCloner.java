@@ -0,0 +1,567 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.clone;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.util.InternalApi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.File;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+import static java.lang.reflect.Modifier.isPublic;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Creates deep copies of object graphs.
+ * <p/>
+ * The instance fields of each class, including the ones declared in its superclasses, are analyzed only once: whether
+ * they are primitive, immutable, primitive arrays, or need a deep copy. Copying an object does not look up any field.
+ * Objects referenced more than once in a graph, including objects in cycles, are copied only once, so the copy has the
+ * same shape as the original.
+ * <p/>
+ * How a value is copied depends on its class:
+ * <ul>
+ * <li>instances of immutable classes ({@code String}, primitive wrappers, enums, {@code BigDecimal}, the
+ * {@code java.time} classes, {@code Path}, and any class registered with {@link #withImmutableTypes(Class...)}) are
+ * not copied</li>
+ * <li>arrays are copied element by element</li>
+ * <li>collections and maps from the JDK are copied by creating a new instance of the same class and adding copies of
+ * their elements to it. Collections created by factory methods, like {@code List.of}, {@code Arrays.asList} or
+ * {@code Collections.unmodifiableMap}, are created again through the same kind of factory method, so the copy is as
+ * immutable, unmodifiable, fixed-size or synchronized as the original. Other collections from the JDK that cannot be
+ * instantiated, like views, are copied into an {@code ArrayList}, {@code LinkedHashSet}, {@code TreeSet},
+ * {@code LinkedHashMap} or {@code TreeMap}</li>
+ * <li>{@code Optional}s, {@code Date}s, {@code Calendar}s, {@code BitSet}s and atomic variables are copied through
+ * their public API</li>
+ * <li>any other object is created using its constructor without parameters, and its fields are copied one by one</li>
+ * </ul>
+ * Other JDK classes cannot be copied, because their fields cannot be accessed. Graphs are traversed recursively, so
+ * their depth is bounded by the size of the stack of the calling thread.
+ * <p/>
+ * Cloners are immutable and thread-safe.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#cloner() org.fest.reflect.core.Reflection.cloner};
+ *
+ * Configuration copy = {@link org.fest.reflect.core.Reflection#cloner() cloner}().{@link #withImmutableTypes(Class...) withImmutableTypes}(Endpoint.class).{@link #copy(Object) copy}(configuration);
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class DeepCloner {
+  private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(String.class,
+      Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      Void.class, BigInteger.class, BigDecimal.class, Class.class, UUID.class, Locale.class, Currency.class, URI.class,
+      File.class, Pattern.class, URL.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class));
+
+  // Immutable types whose instances are of JDK implementation classes.
+  private static final Class<?>[] IMMUTABLE_SUPERTYPES = { Path.class, Charset.class, InetAddress.class };
+
+  // Prefixes of the names of the JDK classes returned by the factory methods of List, Set, Map and Collections.
+  private static final String IMMUTABLE_COLLECTIONS = "java.util.ImmutableCollections$";
+  private static final String UNMODIFIABLE = "java.util.Collections$Unmodifiable";
+  private static final String EMPTY = "java.util.Collections$Empty";
+  private static final String SINGLETON = "java.util.Collections$Singleton";
+  private static final String SYNCHRONIZED = "java.util.Collections$Synchronized";
+
+  private static final Class<?> ARRAY_VIEW = Arrays.asList().getClass();
+
+  private final Class<?>[] immutableTypes;
+
+  /**
+   * Creates a new {@link DeepCloner}.
+   * <p/>
+   * <strong>Note:</strong> To improve code readability, we recommend invoking
+   * {@link org.fest.reflect.core.Reflection#cloner() Reflection.cloner()} instead of this constructor.
+   */
+  @InternalApi
+  public DeepCloner() {
+    this(new Class<?>[0]);
+  }
+
+  private DeepCloner(@NotNull Class<?>[] immutableTypes) {
+    this.immutableTypes = immutableTypes;
+  }
+
+  /**
+   * Returns a cloner that does not copy instances of the given types, or of their subtypes, but shares them between the
+   * original and the copy.
+   *
+   * @param types the immutable types.
+   * @return the created cloner.
+   * @throws NullPointerException if the given array is {@code null}, or if any of the types is {@code null}.
+   */
+  public @NotNull DeepCloner withImmutableTypes(@NotNull Class<?>... types) {
+    for (Class<?> type : checkNotNull(types)) {
+      checkNotNull(type);
+    }
+    Class<?>[] immutableTypes = Arrays.copyOf(this.immutableTypes, this.immutableTypes.length + types.length);
+    System.arraycopy(types, 0, immutableTypes, this.immutableTypes.length, types.length);
+    return new DeepCloner(immutableTypes);
+  }
+
+  /**
+   * Creates a deep copy of the given object.
+   *
+   * @param original the object to copy.
+   * @return the copy of the given object, or {@code null} if the given object is {@code null}.
+   * @throws ReflectionError if any of the objects in the graph cannot be copied.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable <T> T copy(@Nullable T original) {
+    // the copy of an object is always of the same class as the object.
+    return (T) new Copying(this).copy(original);
+  }
+
+  // Immutable types that are known before any cloner is created, and can be taken into account in ClonePlans.
+  static boolean isKnownImmutable(@NotNull Class<?> type) {
+    if (IMMUTABLE_TYPES.contains(type) || type.isEnum()) {
+      return true;
+    }
+    Class<?> superclass = type.getSuperclass();
+    if (superclass != null && superclass.isEnum()) {
+      // the class of an enum constant with a body.
+      return true;
+    }
+    for (Class<?> immutableType : IMMUTABLE_SUPERTYPES) {
+      if (immutableType.isAssignableFrom(type)) {
+        return true;
+      }
+    }
+    Package typePackage = type.getPackage();
+    return typePackage != null && "java.time".equals(typePackage.getName());
+  }
+
+  private boolean isImmutable(@NotNull Class<?> type) {
+    if (isKnownImmutable(type)) {
+      return true;
+    }
+    for (Class<?> immutableType : immutableTypes) {
+      if (immutableType.isAssignableFrom(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The state of a single deep copy: the copies created so far, by original object.
+   */
+  static final class Copying {
+    private final DeepCloner cloner;
+    private final Map<Object, Object> copies = new IdentityHashMap<Object, Object>();
+
+    Copying(@NotNull DeepCloner cloner) {
+      this.cloner = cloner;
+    }
+
+    @Nullable Object copy(@Nullable Object original) {
+      if (original == null) {
+        return null;
+      }
+      Class<?> type = original.getClass();
+      if (cloner.isImmutable(type)) {
+        return original;
+      }
+      Object copy = copies.get(original);
+      if (copy != null) {
+        return copy;
+      }
+      if (type.isArray()) {
+        return copyArray(original, type.getComponentType());
+      }
+      if (isJdkType(type)) {
+        return copyJdkObject(original, type);
+      }
+      return copyObject(original, type);
+    }
+
+    @Nullable Object copyPrimitiveArray(@Nullable Object original) {
+      if (original == null) {
+        return null;
+      }
+      Object copy = copies.get(original);
+      if (copy == null) {
+        int length = Array.getLength(original);
+        copy = Array.newInstance(original.getClass().getComponentType(), length);
+        System.arraycopy(original, 0, copy, 0, length);
+        copies.put(original, copy);
+      }
+      return copy;
+    }
+
+    private @NotNull Object copyArray(@NotNull Object original, @NotNull Class<?> componentType) {
+      if (componentType.isPrimitive()) {
+        return copyPrimitiveArray(original);
+      }
+      Object[] elements = (Object[]) original;
+      Object[] copy = (Object[]) Array.newInstance(componentType, elements.length);
+      copies.put(original, copy);
+      for (int i = 0; i < elements.length; i++) {
+        copy[i] = copy(elements[i]);
+      }
+      return copy;
+    }
+
+    // The fields of JDK classes cannot be accessed: each supported class is copied through its public API.
+    private @NotNull Object copyJdkObject(@NotNull Object original, @NotNull Class<?> type) {
+      if (original instanceof Collection<?>) {
+        return copyCollection((Collection<?>) original, type);
+      }
+      if (original instanceof Map<?, ?>) {
+        return copyMap((Map<?, ?>) original, type);
+      }
+      if (original instanceof Optional<?>) {
+        Optional<?> optional = (Optional<?>) original;
+        return optional.isPresent() ? register(original, Optional.of(copy(optional.get()))) : original;
+      }
+      if (original instanceof Date) {
+        return register(original, ((Date) original).clone());
+      }
+      if (original instanceof Calendar) {
+        return register(original, ((Calendar) original).clone());
+      }
+      if (original instanceof BitSet) {
+        return register(original, ((BitSet) original).clone());
+      }
+      if (original instanceof AtomicBoolean) {
+        return register(original, new AtomicBoolean(((AtomicBoolean) original).get()));
+      }
+      if (original instanceof AtomicInteger) {
+        return register(original, new AtomicInteger(((AtomicInteger) original).get()));
+      }
+      if (original instanceof AtomicLong) {
+        return register(original, new AtomicLong(((AtomicLong) original).get()));
+      }
+      if (original instanceof AtomicReference<?>) {
+        AtomicReference<Object> copy = new AtomicReference<Object>();
+        copies.put(original, copy);
+        copy.set(copy(((AtomicReference<?>) original).get()));
+        return copy;
+      }
+      throw ReflectionError.of("Unable to copy an instance of %s", type.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Object copyCollection(@NotNull Collection<?> original, @NotNull Class<?> type) {
+      if (original instanceof EnumSet<?>) {
+        // enum constants are immutable, a shallow copy is a deep copy.
+        return register(original, ((EnumSet<?>) original).clone());
+      }
+      String name = type.getName();
+      if (type == ARRAY_VIEW) {
+        // keep the copy fixed-size: it is a view of an array, like the original.
+        Object[] elements = new Object[original.size()];
+        List<Object> copy = Arrays.asList(elements);
+        copies.put(original, copy);
+        copyElements(original, elements);
+        return copy;
+      }
+      Collection<Object> elements = newCollection(original, type);
+      if (name.startsWith(IMMUTABLE_COLLECTIONS)) {
+        // immutable collections can only be created once their elements are known.
+        copyElements(original, elements);
+        return register(original, immutableCopyOf(original, elements));
+      }
+      Collection<Object> copy = elements;
+      if (name.startsWith(UNMODIFIABLE) || name.startsWith(EMPTY) || name.startsWith(SINGLETON)) {
+        copy = unmodifiable(original, elements);
+      } else if (name.startsWith(SYNCHRONIZED)) {
+        copy = synchronizedView(original, elements);
+      }
+      copies.put(original, copy);
+      copyElements(original, elements);
+      return copy;
+    }
+
+    private void copyElements(@NotNull Collection<?> original, @NotNull Object[] elements) {
+      int i = 0;
+      for (Object element : original) {
+        elements[i++] = copy(element);
+      }
+    }
+
+    private void copyElements(@NotNull Collection<?> original, @NotNull Collection<Object> elements) {
+      // copy the elements first, so hash-based collections see them fully copied.
+      Object[] copied = new Object[original.size()];
+      copyElements(original, copied);
+      elements.addAll(Arrays.asList(copied));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private @NotNull Object copyMap(@NotNull Map<?, ?> original, @NotNull Class<?> type) {
+      if (original instanceof EnumMap<?, ?>) {
+        Map<Object, Object> copy = new EnumMap((EnumMap<?, ?>) original);
+        copies.put(original, copy);
+        for (Map.Entry<Object, Object> entry : copy.entrySet()) {
+          entry.setValue(copy(entry.getValue()));
+        }
+        return copy;
+      }
+      String name = type.getName();
+      Map<Object, Object> entries = newMap(original, type);
+      if (name.startsWith(IMMUTABLE_COLLECTIONS)) {
+        // immutable maps can only be created once their entries are known.
+        copyEntries(original, entries);
+        return register(original, Map.copyOf(entries));
+      }
+      Map<Object, Object> copy = entries;
+      if (name.startsWith(UNMODIFIABLE) || name.startsWith(EMPTY) || name.startsWith(SINGLETON)) {
+        copy = unmodifiable(original, entries);
+      } else if (name.startsWith(SYNCHRONIZED)) {
+        copy = synchronizedView(original, entries);
+      }
+      copies.put(original, copy);
+      copyEntries(original, entries);
+      return copy;
+    }
+
+    private void copyEntries(@NotNull Map<?, ?> original, @NotNull Map<Object, Object> entries) {
+      List<Object> keys = new ArrayList<Object>(original.size());
+      List<Object> values = new ArrayList<Object>(original.size());
+      for (Map.Entry<?, ?> entry : original.entrySet()) {
+        keys.add(copy(entry.getKey()));
+        values.add(copy(entry.getValue()));
+      }
+      for (int i = 0; i < keys.size(); i++) {
+        entries.put(keys.get(i), values.get(i));
+      }
+    }
+
+    // A copy created after the elements of its original may already have been created while copying them, if the
+    // original is part of a cycle. The first copy is kept, so the copied graph has the same shape as the original.
+    private @NotNull Object register(@NotNull Object original, @NotNull Object copy) {
+      Object existing = copies.get(original);
+      if (existing != null) {
+        return existing;
+      }
+      copies.put(original, copy);
+      return copy;
+    }
+
+    private @NotNull Object copyObject(@NotNull Object original, @NotNull Class<?> type) {
+      ClonePlan plan = ClonePlan.planFor(type);
+      Object copy = plan.newInstance();
+      copies.put(original, copy);
+      try {
+        plan.copyFields(original, copy, this);
+      } catch (ReflectionError e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new ReflectionError(String.format("Unable to copy an instance of %s", type.getName()), t);
+      }
+      return copy;
+    }
+
+    private static boolean isJdkType(@NotNull Class<?> type) {
+      String name = type.getName();
+      return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+          || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    // Creates an empty, modifiable collection to hold the copied elements of the given one: an instance of the same
+    // class if it has a public constructor, or the closest public JDK collection otherwise.
+    @SuppressWarnings("unchecked")
+    private static @NotNull Collection<Object> newCollection(@NotNull Collection<?> original, @NotNull Class<?> type) {
+      Comparator<Object> comparator = comparatorOf(original);
+      if (type == PriorityBlockingQueue.class) {
+        // PriorityBlockingQueue does not have a constructor that takes only a comparator.
+        return new PriorityBlockingQueue<Object>(Math.max(original.size(), 1), comparator);
+      }
+      Object instance = newPublicInstance(type, comparator);
+      if (instance != null) {
+        return (Collection<Object>) instance;
+      }
+      if (original instanceof SortedSet<?>) {
+        return new TreeSet<Object>(comparator);
+      }
+      if (original instanceof PriorityQueue<?>) {
+        return new PriorityQueue<Object>(comparator);
+      }
+      if (original instanceof Set<?>) {
+        return new LinkedHashSet<Object>();
+      }
+      if (original instanceof Queue<?>) {
+        return new LinkedList<Object>();
+      }
+      return new ArrayList<Object>();
+    }
+
+    // the ordering of sorted sets and priority queues is kept by passing their comparator to the new collection.
+    @SuppressWarnings("unchecked")
+    private static @Nullable Comparator<Object> comparatorOf(@NotNull Collection<?> original) {
+      if (original instanceof SortedSet<?>) {
+        return (Comparator<Object>) ((SortedSet<?>) original).comparator();
+      }
+      if (original instanceof PriorityQueue<?>) {
+        return (Comparator<Object>) ((PriorityQueue<?>) original).comparator();
+      }
+      if (original instanceof PriorityBlockingQueue<?>) {
+        return (Comparator<Object>) ((PriorityBlockingQueue<?>) original).comparator();
+      }
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<Object, Object> newMap(@NotNull Map<?, ?> original, @NotNull Class<?> type) {
+      Comparator<Object> comparator = null;
+      if (original instanceof SortedMap<?, ?>) {
+        comparator = (Comparator<Object>) ((SortedMap<?, ?>) original).comparator();
+      }
+      Object instance = newPublicInstance(type, comparator);
+      if (instance != null) {
+        return (Map<Object, Object>) instance;
+      }
+      if (original instanceof SortedMap<?, ?>) {
+        return new TreeMap<Object, Object>(comparator);
+      }
+      return new LinkedHashMap<Object, Object>();
+    }
+
+    private static @Nullable Object newPublicInstance(@NotNull Class<?> type, @Nullable Comparator<?> comparator) {
+      if (!isPublic(type.getModifiers())) {
+        return null;
+      }
+      try {
+        if (comparator != null) {
+          return type.getConstructor(Comparator.class).newInstance(comparator);
+        }
+        return type.getConstructor().newInstance();
+      } catch (NoSuchMethodException e) {
+        return null;
+      } catch (Exception e) {
+        throw new ReflectionError(String.format("Unable to copy an instance of %s", type.getName()), e);
+      }
+    }
+
+    private static @NotNull Collection<Object> immutableCopyOf(@NotNull Collection<?> original,
+                                                               @NotNull Collection<Object> elements) {
+      if (elements.contains(null)) {
+        // List.copyOf rejects null elements, which some immutable lists (like the ones created by Stream.toList) have.
+        return unmodifiable(original, elements);
+      }
+      if (original instanceof Set<?>) {
+        return Set.copyOf(elements);
+      }
+      return List.copyOf(elements);
+    }
+
+    private static @NotNull Collection<Object> unmodifiable(@NotNull Collection<?> original,
+                                                            @NotNull Collection<Object> elements) {
+      if (original instanceof NavigableSet<?>) {
+        return Collections.unmodifiableNavigableSet((NavigableSet<Object>) elements);
+      }
+      if (original instanceof SortedSet<?>) {
+        return Collections.unmodifiableSortedSet((SortedSet<Object>) elements);
+      }
+      if (original instanceof Set<?>) {
+        return Collections.unmodifiableSet((Set<Object>) elements);
+      }
+      if (original instanceof List<?>) {
+        return Collections.unmodifiableList((List<Object>) elements);
+      }
+      return Collections.unmodifiableCollection(elements);
+    }
+
+    private static @NotNull Collection<Object> synchronizedView(@NotNull Collection<?> original,
+                                                                @NotNull Collection<Object> elements) {
+      if (original instanceof NavigableSet<?>) {
+        return Collections.synchronizedNavigableSet((NavigableSet<Object>) elements);
+      }
+      if (original instanceof SortedSet<?>) {
+        return Collections.synchronizedSortedSet((SortedSet<Object>) elements);
+      }
+      if (original instanceof Set<?>) {
+        return Collections.synchronizedSet((Set<Object>) elements);
+      }
+      if (original instanceof List<?>) {
+        return Collections.synchronizedList((List<Object>) elements);
+      }
+      return Collections.synchronizedCollection(elements);
+    }
+
+    private static @NotNull Map<Object, Object> unmodifiable(@NotNull Map<?, ?> original,
+                                                             @NotNull Map<Object, Object> entries) {
+      if (original instanceof NavigableMap<?, ?>) {
+        return Collections.unmodifiableNavigableMap((NavigableMap<Object, Object>) entries);
+      }
+      if (original instanceof SortedMap<?, ?>) {
+        return Collections.unmodifiableSortedMap((SortedMap<Object, Object>) entries);
+      }
+      return Collections.unmodifiableMap(entries);
+    }
+
+    private static @NotNull Map<Object, Object> synchronizedView(@NotNull Map<?, ?> original,
+                                                                 @NotNull Map<Object, Object> entries) {
+      if (original instanceof NavigableMap<?, ?>) {
+        return Collections.synchronizedNavigableMap((NavigableMap<Object, Object>) entries);
+      }
+      if (original instanceof SortedMap<?, ?>) {
+        return Collections.synchronizedSortedMap((SortedMap<Object, Object>) entries);
+      }
+      return Collections.synchronizedMap(entries);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.constructor;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Process-wide cache of the {@code MethodHandle}s used by the fixed-arity {@code newInstance} methods of
+ * {@link ConstructorInvoker}.
+ * <p/>
+ * Every cached handle has the type {@code (Object...)Object}, with one {@code Object} per parameter of the constructor.
+ * Entries are stored in the {@link ClassMetadata} of the declaring class of the constructor. Handles are created from
+ * the constructors of {@link ConstructorInvoker}s, which are made accessible when the invoker is created.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class ConstructorHandleCache {
+  private static final ClassMetadata.Key<ConcurrentMap<Constructor<?>, MethodHandle>> HANDLES =
+      new ClassMetadata.Key<ConcurrentMap<Constructor<?>, MethodHandle>>() {
+        @Override
+        protected @NotNull ConcurrentMap<Constructor<?>, MethodHandle> create(@NotNull Class<?> type) {
+          return new ConcurrentHashMap<Constructor<?>, MethodHandle>();
+        }
+      };
+
+  private ConstructorHandleCache() {
+  }
+
+  /**
+   * Returns a {@code MethodHandle} that calls the given constructor. The handle takes one {@code Object} per parameter
+   * of the constructor and returns an {@code Object}.
+   *
+   * @param constructor the constructor to call.
+   * @return the cached method handle.
+   * @throws ReflectionError if a method handle for the given constructor cannot be created.
+   */
+  static @NotNull MethodHandle invokerFor(@NotNull Constructor<?> constructor) {
+    ConcurrentMap<Constructor<?>, MethodHandle> handles =
+        metadataOf(checkNotNull(constructor).getDeclaringClass()).get(HANDLES);
+    MethodHandle handle = handles.get(constructor);
+    if (handle == null) {
+      handle = createInvoker(constructor);
+      MethodHandle existing = handles.putIfAbsent(constructor, handle);
+      if (existing != null) {
+        handle = existing;
+      }
+    }
+    return handle;
+  }
+
+  private static @NotNull MethodHandle createInvoker(@NotNull Constructor<?> constructor) {
+    int parameterCount = constructor.getParameterTypes().length;
+    return unreflect(constructor).asFixedArity().asType(MethodType.genericMethodType(parameterCount));
+  }
+
+  private static @NotNull MethodHandle unreflect(@NotNull Constructor<?> constructor) {
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor);
+    } catch (Throwable t) {
+      String format = "Unable to create a method handle for constructor %s";
+      throw new ReflectionError(String.format(format, constructor), t);
+    }
+  }
+}
@@ -15,15 +15,23 @@
 package org.fest.reflect.constructor;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.Lambdas;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
-import static org.fest.reflect.util.Accessibles.makeAccessible;
-import static org.fest.reflect.util.Accessibles.setAccessibleIgnoringExceptions;
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.CONSTRUCTOR_INVOCATION;
+import static org.fest.reflect.metrics.Operation.CONSTRUCTOR_LOOKUP;
+import static org.fest.reflect.util.Accessibles.makeAccessibleOnce;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
 import static org.fest.reflect.util.Throwables.targetOf;
+import static org.fest.reflect.util.Types.isInstance;
 import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.ToString.toStringOf;
 
 /**
  * Invokes a constructor via
@@ -34,18 +42,33 @@ import static org.fest.util.ToString.toStringOf;
  * @author Yvonne Wang
  */
 public final class ConstructorInvoker<T> {
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
   private final Constructor<T> constructor;
+  private final Class<?>[] parameterTypes;
+  private MethodHandle invoker;
 
   ConstructorInvoker(@NotNull Class<T> target, @NotNull Class<?>... parameterTypes) {
     checkNotNull(target);
     checkNotNull(parameterTypes);
-    try {
-      this.constructor = target.getDeclaredConstructor(parameterTypes);
-    } catch (Throwable t) {
+    // the found constructor is a copy that is not shared with other callers, so it is made accessible once, here, and
+    // its accessible flag is never changed again. Calls from different threads do not race on the flag.
+    this.constructor = makeAccessibleOnce(findConstructor(target, parameterTypes));
+    this.parameterTypes = constructor.getParameterTypes();
+  }
+
+  // The found constructor is declared in the given type, it creates instances of T.
+  @SuppressWarnings("unchecked")
+  private static @NotNull <T> Constructor<T> findConstructor(@NotNull Class<T> target,
+                                                             @NotNull Class<?>[] parameterTypes) {
+    long start = start();
+    Constructor<?> constructor = metadataOf(target).declaredConstructor(parameterTypes);
+    end(CONSTRUCTOR_LOOKUP, constructor != null, target, "<init>", start);
+    if (constructor == null) {
       String format = "Failed to find constructor in type %s with parameter types %s";
-      String msg = String.format(format, target.getName(), toStringOf(parameterTypes));
-      throw new ReflectionError(msg);
+      throw ReflectionError.of(format, target.getName(), parameterTypes.clone());
     }
+    return (Constructor<T>) constructor;
   }
 
   /**
@@ -67,20 +90,258 @@ public final class ConstructorInvoker<T> {
    * @throws ReflectionError if a new instance cannot be created.
    */
   public T newInstance(@NotNull Object... args) {
-    Constructor<T> c = constructor;
-    boolean accessible = constructor.isAccessible();
+    long start = start();
+    boolean succeeded = false;
     try {
-      makeAccessible(c);
-      return c.newInstance(args);
+      T instance = newInstanceWithArguments(args);
+      succeeded = true;
+      return instance;
+    } finally {
+      end(CONSTRUCTOR_INVOCATION, succeeded, constructor, start);
+    }
+  }
+
+  /**
+   * Invokes a constructor that does not take any arguments. Unlike {@link #newInstance(Object...)}, this method does
+   * not create an array to hold the arguments of the call: the constructor is called through a {@code MethodHandle}
+   * created once per constructor. If the arguments of any of the fixed-arity {@code newInstance} methods do not match
+   * the parameter types of the constructor, the constructor is called via Java Reflection instead, which reports the
+   * mismatch.
+   *
+   * @return the created instance of {@code T}.
+   * @throws ReflectionError if a new instance cannot be created.
+   * @since 2.0
+   */
+  public T newInstance() {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = create();
+      succeeded = true;
+      return value;
+    } finally {
+      end(CONSTRUCTOR_INVOCATION, succeeded, constructor, start);
+    }
+  }
+
+  private T create() {
+    MethodHandle invoker = invokerFor(0);
+    if (invoker == null) {
+      return newInstanceWithArguments(NO_ARGUMENTS);
+    }
+    try {
+      return cast((Object) invoker.invokeExact());
     } catch (Throwable t) {
-      Throwable cause = targetOf(t);
-      if (cause instanceof RuntimeException) {
-        throw (RuntimeException) cause;
-      }
-      throw new ReflectionError("Unable to create a new object from the enclosed constructor", cause);
+      throw failedToCreateInstance(t);
+    }
+  }
+
+  /**
+   * Invokes a constructor that takes one argument, without creating an array to hold the arguments of the call.
+   *
+   * @param a the argument of the call.
+   * @return the created instance of {@code T}.
+   * @throws ReflectionError if a new instance cannot be created.
+   * @see #newInstance()
+   * @since 2.0
+   */
+  public T newInstance(@Nullable Object a) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = create(a);
+      succeeded = true;
+      return value;
     } finally {
-      setAccessibleIgnoringExceptions(c, accessible);
+      end(CONSTRUCTOR_INVOCATION, succeeded, constructor, start);
+    }
+  }
+
+  private T create(@Nullable Object a) {
+    MethodHandle invoker = invokerFor(1);
+    if (invoker == null || !accepts(0, a)) {
+      return newInstanceWithArguments(new Object[] { a });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(a));
+    } catch (Throwable t) {
+      throw failedToCreateInstance(t);
+    }
+  }
+
+  /**
+   * Invokes a constructor that takes two arguments, without creating an array to hold the arguments of the call.
+   *
+   * @param a the first argument of the call.
+   * @param b the second argument of the call.
+   * @return the created instance of {@code T}.
+   * @throws ReflectionError if a new instance cannot be created.
+   * @see #newInstance()
+   * @since 2.0
+   */
+  public T newInstance(@Nullable Object a, @Nullable Object b) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = create(a, b);
+      succeeded = true;
+      return value;
+    } finally {
+      end(CONSTRUCTOR_INVOCATION, succeeded, constructor, start);
+    }
+  }
+
+  private T create(@Nullable Object a, @Nullable Object b) {
+    MethodHandle invoker = invokerFor(2);
+    if (invoker == null || !accepts(0, a) || !accepts(1, b)) {
+      return newInstanceWithArguments(new Object[] { a, b });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(a, b));
+    } catch (Throwable t) {
+      throw failedToCreateInstance(t);
+    }
+  }
+
+  /**
+   * Invokes a constructor that takes three arguments, without creating an array to hold the arguments of the call.
+   *
+   * @param a the first argument of the call.
+   * @param b the second argument of the call.
+   * @param c the third argument of the call.
+   * @return the created instance of {@code T}.
+   * @throws ReflectionError if a new instance cannot be created.
+   * @see #newInstance()
+   * @since 2.0
+   */
+  public T newInstance(@Nullable Object a, @Nullable Object b, @Nullable Object c) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = create(a, b, c);
+      succeeded = true;
+      return value;
+    } finally {
+      end(CONSTRUCTOR_INVOCATION, succeeded, constructor, start);
+    }
+  }
+
+  private T create(@Nullable Object a, @Nullable Object b, @Nullable Object c) {
+    MethodHandle invoker = invokerFor(3);
+    if (invoker == null || !accepts(0, a) || !accepts(1, b) || !accepts(2, c)) {
+      return newInstanceWithArguments(new Object[] { a, b, c });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(a, b, c));
+    } catch (Throwable t) {
+      throw failedToCreateInstance(t);
+    }
+  }
+
+  /**
+   * Invokes a constructor that takes four arguments, without creating an array to hold the arguments of the call.
+   *
+   * @param a the first argument of the call.
+   * @param b the second argument of the call.
+   * @param c the third argument of the call.
+   * @param d the fourth argument of the call.
+   * @return the created instance of {@code T}.
+   * @throws ReflectionError if a new instance cannot be created.
+   * @see #newInstance()
+   * @since 2.0
+   */
+  public T newInstance(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = create(a, b, c, d);
+      succeeded = true;
+      return value;
+    } finally {
+      end(CONSTRUCTOR_INVOCATION, succeeded, constructor, start);
+    }
+  }
+
+  private T create(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d) {
+    MethodHandle invoker = invokerFor(4);
+    if (invoker == null || !accepts(0, a) || !accepts(1, b) || !accepts(2, c) || !accepts(3, d)) {
+      return newInstanceWithArguments(new Object[] { a, b, c, d });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(a, b, c, d));
+    } catch (Throwable t) {
+      throw failedToCreateInstance(t);
+    }
+  }
+
+  private T newInstanceWithArguments(@NotNull Object[] args) {
+    try {
+      return constructor.newInstance(args);
+    } catch (Throwable t) {
+      throw failedToCreateInstance(t);
+    }
+  }
+
+  // Returns null if the constructor does not take the given number of arguments, or if a method handle cannot be
+  // created for it. In both cases, the caller falls back to invoking the constructor with an array of arguments, which
+  // reports errors the same way as Constructor.newInstance.
+  private @Nullable MethodHandle invokerFor(int argumentCount) {
+    if (parameterTypes.length != argumentCount) {
+      return null;
+    }
+    MethodHandle handle = invoker;
+    if (handle == null) {
+      try {
+        handle = ConstructorHandleCache.invokerFor(constructor);
+      } catch (ReflectionError e) {
+        return null;
+      }
+      invoker = handle;
+    }
+    return handle;
+  }
+
+  private boolean accepts(int index, @Nullable Object argument) {
+    return isInstance(parameterTypes[index], argument);
+  }
+
+  // The method handle calls the constructor of T, there is no need to check the type of the created instance.
+  @SuppressWarnings("unchecked")
+  private T cast(@Nullable Object instance) {
+    return (T) instance;
+  }
+
+  private @NotNull RuntimeException failedToCreateInstance(@NotNull Throwable t) {
+    Throwable cause = targetOf(t);
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    return new ReflectionError("Unable to create a new object from the enclosed constructor", cause);
+  }
+
+  /**
+   * Compiles the constructor, which must not have parameters, into a {@code Supplier} that creates new instances of
+   * {@code T} without the overhead of a reflective call.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#constructor() org.fest.reflect.core.Reflection.constructor};
+   *
+   * Supplier&lt;Person&gt; newPerson = {@link org.fest.reflect.core.Reflection#constructor() constructor}().{@link org.fest.reflect.constructor.TargetType#in in}(Person.class).{@link org.fest.reflect.constructor.ConstructorInvoker#compile() compile}();
+   * Person p = newPerson.get();
+   * </pre>
+   *
+   * @return a {@code Supplier} that invokes the constructor every time it is called.
+   * @throws ReflectionError if the constructor has parameters, or if it is not accessible.
+   * @since 2.0
+   */
+  public @NotNull Supplier<T> compile() {
+    if (constructor.getParameterTypes().length != 0) {
+      String msg = String.format("Unable to compile constructor %s: only constructors without parameters are supported",
+          constructor);
+      throw new ReflectionError(msg);
     }
+    return Lambdas.constructor(constructor);
   }
 
   /**
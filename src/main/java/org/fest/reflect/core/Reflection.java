@@ -14,15 +14,24 @@
  */
 package org.fest.reflect.core;
 
+import org.fest.reflect.beanproperty.BeanMapper;
 import org.fest.reflect.beanproperty.PropertyName;
+import org.fest.reflect.clone.DeepCloner;
 import org.fest.reflect.constructor.TargetType;
+import org.fest.reflect.field.FieldCopier;
 import org.fest.reflect.field.FieldName;
+import org.fest.reflect.field.Fields;
 import org.fest.reflect.innerclass.InnerClassName;
 import org.fest.reflect.method.MethodName;
 import org.fest.reflect.reference.TypeRef;
 import org.fest.reflect.type.Type;
+import org.fest.reflect.type.Types;
 
 import org.jetbrains.annotations.NotNull;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.fest.util.Preconditions.checkNotNull;
 
 /**
  * Starting points for the fluent interfaces in this library.
@@ -144,6 +153,42 @@ public final class Reflection {
     return new Type(name);
   }
 
+  /**
+   * Starting point of the fluent interface for loading a batch of classes in parallel. Unlike {@link #type(String)},
+   * loading a batch does not stop at the first class that cannot be loaded.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static  {@link org.fest.reflect.core.Reflection#types(String...) org.fest.reflect.core.Reflection.types};
+   *
+   * LoadedTypes loaded = {@link org.fest.reflect.core.Reflection#types(String...) types}("org.republic.Jedi", "org.republic.Sith").{@link org.fest.reflect.type.Types#withClassLoader(ClassLoader) withClassLoader}(myClassLoader).{@link org.fest.reflect.type.TypesLoader#loadAll() loadAll}();
+   * Class&lt;?&gt; jediType = loaded.{@link org.fest.reflect.type.LoadedTypes#get(String) get}("org.republic.Jedi");
+   * </pre>
+   *
+   * @param names the names of the classes to load.
+   * @return the starting point of the method chain.
+   * @throws NullPointerException     if the given array is {@code null}, or if any of the names is {@code null}.
+   * @throws IllegalArgumentException if any of the names is empty.
+   * @since 2.0
+   */
+  public static @NotNull Types types(@NotNull String... names) {
+    return new Types(Arrays.asList(checkNotNull(names)));
+  }
+
+  /**
+   * Starting point of the fluent interface for loading a batch of classes in parallel. See {@link #types(String...)}
+   * for details.
+   *
+   * @param names the names of the classes to load.
+   * @return the starting point of the method chain.
+   * @throws NullPointerException     if the given collection is {@code null}, or if any of the names is {@code null}.
+   * @throws IllegalArgumentException if any of the names is empty.
+   * @since 2.0
+   */
+  public static @NotNull Types types(@NotNull Collection<String> names) {
+    return new Types(names);
+  }
+
   /**
    * Starting point of the fluent interface for accessing static inner class via
    * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html" target="_blank">Java Reflection</a>.
@@ -211,6 +256,47 @@ public final class Reflection {
     return new FieldName(name);
   }
 
+  /**
+   * Starting point of the fluent interface for capturing the values of all the instance fields of objects, including
+   * the fields declared in their superclasses, without looking up each field.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Captures the values of all the fields of a person
+   * FieldSnapshot snapshot = {@link org.fest.reflect.core.Reflection#fields() fields}().{@link org.fest.reflect.field.Fields#snapshot(Object) snapshot}(person);
+   * Object[] references = snapshot.{@link org.fest.reflect.field.FieldSnapshot#references() references}();
+   * long[] longs = snapshot.{@link org.fest.reflect.field.FieldSnapshot#longs() longs}();
+   * </pre>
+   *
+   * @return the starting point of the method chain.
+   * @since 2.0
+   */
+  public static @NotNull Fields fields() {
+    return new Fields();
+  }
+
+  /**
+   * Creates a {@link FieldCopier} that copies the values of the fields of objects of the given source type to the fields
+   * with the same name in objects of the given target type. Fields are matched once, when the copier is created, so the
+   * copier should be reused.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Copies the fields "name" and "age" of an entity to a DTO
+   * FieldCopier&lt;PersonEntity, PersonDto&gt; copier = {@link org.fest.reflect.core.Reflection#copier(Class, Class) copier}(PersonEntity.class, PersonDto.class).{@link org.fest.reflect.field.FieldCopier#only(String...) only}("name", "age");
+   * PersonDto dto = copier.{@link org.fest.reflect.field.FieldCopier#copy(Object, Object) copy}(entity, new PersonDto());
+   * </pre>
+   *
+   * @param sourceType the type of the objects to copy the fields from.
+   * @param targetType the type of the objects to copy the fields to.
+   * @return the created copier.
+   * @throws NullPointerException if any of the given types is {@code null}.
+   * @since 2.0
+   */
+  public static @NotNull <S, D> FieldCopier<S, D> copier(@NotNull Class<S> sourceType, @NotNull Class<D> targetType) {
+    return new FieldCopier<S, D>(sourceType, targetType);
+  }
+
   /**
    * Starting point of the fluent interface for invoking methods via
    * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html" target="_blank">Java Reflection</a>.
@@ -300,4 +386,45 @@ public final class Reflection {
   public static @NotNull PropertyName property(@NotNull String name) {
     return new PropertyName(name);
   }
+
+  /**
+   * Creates a {@link BeanMapper} that converts
+   * <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html" target="_blank">JavaBeans</a> of the given
+   * type to and from {@code Map}s and {@code Object[]} rows. The properties of the given type are compiled once, and
+   * shared by all the mappers of that type.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Converts a person to a map, without null values
+   * Map&lt;String, Object&gt; values = {@link org.fest.reflect.core.Reflection#mapper(Class) mapper}(Person.class).{@link org.fest.reflect.beanproperty.BeanMapper#skippingNulls() skippingNulls}().{@link org.fest.reflect.beanproperty.BeanMapper#toMap(Object) toMap}(person);
+   *
+   * // Creates a person from a map
+   * Person person = {@link org.fest.reflect.core.Reflection#mapper(Class) mapper}(Person.class).{@link org.fest.reflect.beanproperty.BeanMapper#fromMap(java.util.Map) fromMap}(values);
+   * </pre>
+   *
+   * @param type the type of the beans to convert.
+   * @return the created mapper.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @since 2.0
+   */
+  public static @NotNull <T> BeanMapper<T> mapper(@NotNull Class<T> type) {
+    return new BeanMapper<T>(type);
+  }
+
+  /**
+   * Starting point of the fluent interface for creating deep copies of object graphs. The fields of each class are
+   * analyzed only once, and objects referenced more than once in a graph are copied only once.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Creates a deep copy of a configuration, sharing the instances of Endpoint between the original and the copy
+   * Configuration copy = {@link org.fest.reflect.core.Reflection#cloner() cloner}().{@link org.fest.reflect.clone.DeepCloner#withImmutableTypes(Class...) withImmutableTypes}(Endpoint.class).{@link org.fest.reflect.clone.DeepCloner#copy(Object) copy}(configuration);
+   * </pre>
+   *
+   * @return the starting point of the method chain.
+   * @since 2.0
+   */
+  public static @NotNull DeepCloner cloner() {
+    return new DeepCloner();
+  }
 }
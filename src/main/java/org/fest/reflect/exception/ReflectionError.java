@@ -14,20 +14,42 @@
  */
 package org.fest.reflect.exception;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import static org.fest.util.Arrays.format;
+import static org.fest.util.Arrays.isArray;
+
 /**
  * An error that occurred while accessing Java elements via
  * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html" target="_blank">Reflection</a>..
+ * <p/>
+ * Code that uses failed lookups for feature detection can make these errors cheaper to create:
+ * <ul>
+ * <li>{@link #setStackTraceEnabled(boolean)} turns off capturing the stack trace of new errors, process-wide</li>
+ * <li>errors created with {@link #of(String, Object...)} format their message only when {@link #getMessage()} is
+ * called. Their arguments are converted to strings when the error is created, so that the error does not keep them, or
+ * their {@code ClassLoader}s, reachable</li>
+ * </ul>
  *
  * @author Alex Ruiz
  */
 public final class ReflectionError extends RuntimeException {
+  private static volatile boolean stackTraceEnabled = true;
+
+  private final String messageFormat;
+  private final transient Object[] args;
+  private volatile String formattedMessage;
+
   /**
    * Creates a new {@link ReflectionError}.
    *
    * @param message the detail message.
    */
   public ReflectionError(String message) {
-    super(message);
+    this(message, (Throwable) null);
   }
 
   /**
@@ -37,6 +59,110 @@ public final class ReflectionError extends RuntimeException {
    * @param cause   the cause of the exception.
    */
   public ReflectionError(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, true, stackTraceEnabled);
+    this.messageFormat = null;
+    this.args = null;
+  }
+
+  private ReflectionError(@NotNull String format, @NotNull Object[] args, @Nullable Throwable cause) {
+    super(null, cause, true, stackTraceEnabled);
+    this.messageFormat = format;
+    this.args = toMessageArguments(args);
+  }
+
+  // strings and boxed primitives are kept, so that conversions like '%d' still work, and they cannot reference a
+  // ClassLoader. Any other argument is converted to a string right away.
+  private static @NotNull Object[] toMessageArguments(@NotNull Object[] args) {
+    Object[] converted = new Object[args.length];
+    for (int i = 0; i < args.length; i++) {
+      Object arg = args[i];
+      if (isArray(arg)) {
+        converted[i] = format(arg);
+      } else if (arg == null || isStringOrBoxedPrimitive(arg)) {
+        converted[i] = arg;
+      } else {
+        converted[i] = arg.toString();
+      }
+    }
+    return converted;
+  }
+
+  private static boolean isStringOrBoxedPrimitive(@NotNull Object o) {
+    return o instanceof String || o instanceof Integer || o instanceof Long || o instanceof Boolean
+        || o instanceof Character || o instanceof Double || o instanceof Float || o instanceof Short
+        || o instanceof Byte;
+  }
+
+  /**
+   * Creates a new {@link ReflectionError} whose message is formatted, using {@link String#format(String, Object...)},
+   * only when {@link #getMessage()} is called. Arguments that are arrays are formatted as the list of their elements,
+   * arguments other than strings and boxed primitives are converted to strings when the error is created.
+   *
+   * @param format the format of the detail message.
+   * @param args   the arguments referenced by the format.
+   * @return the created error.
+   * @since 2.0
+   */
+  public static @NotNull ReflectionError of(@NotNull String format, @NotNull Object... args) {
+    return new ReflectionError(format, args, null);
+  }
+
+  /**
+   * Creates a new {@link ReflectionError} whose message is formatted, using {@link String#format(String, Object...)},
+   * only when {@link #getMessage()} is called. Arguments that are arrays are formatted as the list of their elements,
+   * arguments other than strings and boxed primitives are converted to strings when the error is created.
+   *
+   * @param cause  the cause of the exception.
+   * @param format the format of the detail message.
+   * @param args   the arguments referenced by the format.
+   * @return the created error.
+   * @since 2.0
+   */
+  public static @NotNull ReflectionError of(@Nullable Throwable cause, @NotNull String format,
+                                            @NotNull Object... args) {
+    return new ReflectionError(format, args, cause);
+  }
+
+  /**
+   * Indicates whether new {@link ReflectionError}s capture the stack trace of the thread that creates them. Stack
+   * traces are captured by default.
+   *
+   * @param enabled {@code true} to capture stack traces; {@code false} to create errors without a stack trace.
+   * @since 2.0
+   */
+  public static void setStackTraceEnabled(boolean enabled) {
+    stackTraceEnabled = enabled;
+  }
+
+  /**
+   * @return {@code true} if new {@link ReflectionError}s capture the stack trace of the thread that creates them;
+   *         {@code false} otherwise.
+   * @since 2.0
+   */
+  public static boolean isStackTraceEnabled() {
+    return stackTraceEnabled;
+  }
+
+  @Override
+  public String getMessage() {
+    if (messageFormat == null) {
+      return super.getMessage();
+    }
+    String message = formattedMessage;
+    if (message == null) {
+      message = formatMessage();
+      formattedMessage = message;
+    }
+    return message;
+  }
+
+  private @NotNull String formatMessage() {
+    return String.format(messageFormat, args);
+  }
+
+  // only the formatted message is written, the arguments of the message are not needed once it is formatted.
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
   }
 }
@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.exception.ReflectionError;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Accesses a field of type {@code byte} via
+ * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html" target="_blank">Java Reflection</a>, without
+ * boxing its value.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+ *
+ * ByteFieldAccessor value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(byte.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asByte() asByte}();
+ * byte current = value.{@link ByteFieldAccessor#getByte() getByte}();
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class ByteFieldAccessor extends PrimitiveFieldAccessor {
+  ByteFieldAccessor(@NotNull PreparedField<?> field, @NotNull Object target) {
+    super(field, target, byte.class);
+  }
+
+  /**
+   * Sets a value in the field specified in this fluent interface.
+   *
+   * @param value the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   */
+  public void setByte(byte value) {
+    field.setByte(target, value);
+  }
+
+  /**
+   * Retrieves the value of the field specified in this fluent interface.
+   *
+   * @return the value of the field in this fluent interface.
+   * @throws ReflectionError if the value of the field cannot be retrieved.
+   */
+  public byte getByte() {
+    return field.getByte(target);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+/**
+ * The mechanism used by {@link FieldAccessor} to read and write a field.
+ * <p/>
+ * With the exception of {@link #REFLECTION}, all modes use a {@code VarHandle} created once per field, with the memory
+ * ordering effects of the {@code VarHandle} access mode of the same name. The mode to use is specified using
+ * {@link FieldAccessor#using(FieldAccessMode)}:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+ *
+ * // Retrieves the value of the field "name", with volatile semantics
+ * String name = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(Class) ofType}(String.class).{@link FieldType#in(Object) in}(person).{@link FieldAccessor#using(FieldAccessMode) using}({@link #VOLATILE}).{@link FieldAccessor#get() get}();
+ * </pre>
+ * <p/>
+ * {@code VarHandle}s cannot write {@code final} fields: setting the value of a {@code final} field using any mode
+ * other than {@link #REFLECTION} throws a {@link org.fest.reflect.exception.ReflectionError} caused by an
+ * {@code UnsupportedOperationException}. Reading {@code final} fields is supported by all modes.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public enum FieldAccessMode {
+  /**
+   * Reads and writes fields using {@code Field.get} and {@code Field.set}. This is the default mode, and the only one
+   * that can write {@code final} instance fields.
+   */
+  REFLECTION,
+
+  /**
+   * Reads and writes fields using {@code VarHandle.get} and {@code VarHandle.set}, with the same memory semantics as
+   * reading or writing a non-volatile field.
+   */
+  PLAIN,
+
+  /**
+   * Reads and writes fields using {@code VarHandle.getOpaque} and {@code VarHandle.setOpaque}.
+   */
+  OPAQUE,
+
+  /**
+   * Reads and writes fields using {@code VarHandle.getVolatile} and {@code VarHandle.setVolatile}, with the same memory
+   * semantics as reading or writing a {@code volatile} field.
+   */
+  VOLATILE
+}
@@ -15,15 +15,13 @@
 package org.fest.reflect.field;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.reference.TypeRef;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Field;
 
-import static org.fest.reflect.util.Accessibles.*;
-import static org.fest.reflect.util.Types.castSafely;
 import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 
 /**
  * Accesses a field via
@@ -33,50 +31,36 @@ import static org.fest.util.Preconditions.checkNotNullOrEmpty;
  * @author Alex Ruiz
  */
 public final class FieldAccessor<T> {
-  private final Class<T> fieldType;
+  private final PreparedField<T> field;
   private final Object target;
-  private final Field field;
-  private final boolean accessible;
 
   FieldAccessor(@NotNull String fieldName, @NotNull Class<T> fieldType, @NotNull Object target) {
-    this.fieldType = checkNotNull(fieldType);
+    this(new PreparedField<T>(fieldName, fieldType, typeOf(checkNotNull(target))), target);
+  }
+
+  FieldAccessor(@NotNull String fieldName, @NotNull TypeRef<T> fieldType, @NotNull Object target) {
+    this(new PreparedField<T>(fieldName, fieldType, typeOf(checkNotNull(target))), target);
+  }
+
+  FieldAccessor(@NotNull PreparedField<T> field, @NotNull Object target) {
+    this.field = checkNotNull(field);
     this.target = checkNotNull(target);
-    field = findFieldInClassHierarchy(checkNotNullOrEmpty(fieldName));
-    accessible = field.isAccessible();
-  }
-
-  private @NotNull Field findFieldInClassHierarchy(@NotNull String fieldName) {
-    Field field = null;
-    Class<?> originalType = target instanceof Class<?> ? (Class<?>) target : target.getClass();
-    Class<?> targetType = originalType;
-    while (targetType != null) {
-      try {
-        field = targetType.getDeclaredField(fieldName);
-      } catch (NoSuchFieldException e) {
-        targetType = targetType.getSuperclass();
-        continue;
-      }
-      break;
-    }
-    if (field != null) {
-      boolean isAccessible = field.isAccessible();
-      try {
-        makeAccessible(field);
-        Class<?> actualType = field.getType();
-        if (!fieldType.isAssignableFrom(actualType)) {
-          String format = "Expecting type of field '%s' in %s to be <%s> but was <%s>";
-          String msg =
-              String.format(format, fieldName, originalType.getName(), fieldType.getName(), actualType.getName());
-          throw new ReflectionError(msg);
-        }
-      } finally {
-        setAccessibleIgnoringExceptions(field, isAccessible);
-      }
-      return field;
-    }
-    String format = "Failed to find field '%s' in %s";
-    String msg = String.format(format, fieldName, originalType.getName());
-    throw new ReflectionError(msg);
+  }
+
+  static @Nullable <T> FieldAccessor<T> find(@NotNull String fieldName, @NotNull Class<T> fieldType,
+                                             @NotNull Object target) {
+    PreparedField<T> field = PreparedField.find(fieldName, fieldType, typeOf(checkNotNull(target)));
+    return field != null ? new FieldAccessor<T>(field, target) : null;
+  }
+
+  static @Nullable <T> FieldAccessor<T> find(@NotNull String fieldName, @NotNull TypeRef<T> fieldType,
+                                             @NotNull Object target) {
+    PreparedField<T> field = PreparedField.find(fieldName, checkNotNull(fieldType), typeOf(checkNotNull(target)));
+    return field != null ? new FieldAccessor<T>(field, target) : null;
+  }
+
+  private static @NotNull Class<?> typeOf(@NotNull Object target) {
+    return target instanceof Class<?> ? (Class<?>) target : target.getClass();
   }
 
   /**
@@ -108,17 +92,7 @@ public final class FieldAccessor<T> {
    * @throws ReflectionError if the given value cannot be set.
    */
   public void set(@Nullable T value) {
-    Field f = checkNotNull(field);
-    try {
-      setAccessible(f, true);
-      f.set(target, value);
-    } catch (Throwable t) {
-      String format = "Failed to set value %s in field '%s'";
-      String msg = String.format(format, String.valueOf(value), f.getName());
-      throw new ReflectionError(msg, t);
-    } finally {
-      setAccessibleIgnoringExceptions(f, accessible);
-    }
+    field.set(target, value);
   }
 
   /**
@@ -150,23 +124,174 @@ public final class FieldAccessor<T> {
    * @throws ReflectionError if the value of the field cannot be retrieved.
    */
   public @Nullable T get() {
-    Field f = checkNotNull(field);
-    try {
-      setAccessible(f, true);
-      Object value = f.get(target);
-      return castSafely(value, checkNotNull(fieldType));
-    } catch (Throwable t) {
-      String msg = String.format("Failed to get the value of field '%s'", f.getName());
-      throw new ReflectionError(msg, t);
-    } finally {
-      setAccessibleIgnoringExceptions(f, accessible);
+    return field.get(target);
+  }
+
+  /**
+   * Returns a {@link FieldAccessor} that accesses the same field, in the same target, using the given mode. Unless the
+   * given mode is {@link FieldAccessMode#REFLECTION REFLECTION}, the returned accessor uses a {@code VarHandle} created
+   * once per field and shared by all {@code FieldAccessor}s.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Retrieves the value of the field "name", with volatile semantics
+   * String name = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(Class) ofType}(String.class).{@link FieldType#in(Object) in}(person).{@link FieldAccessor#using(FieldAccessMode) using}({@link FieldAccessMode#VOLATILE VOLATILE}).{@link FieldAccessor#get() get}();
+   * </pre>
+   *
+   * @param mode the mode to use to access the field.
+   * @return a {@code FieldAccessor} that uses the given mode.
+   * @throws NullPointerException if the given mode is {@code null}.
+   * @throws ReflectionError      if the field cannot be accessed using the given mode.
+   * @since 2.0
+   */
+  public @NotNull FieldAccessor<T> using(@NotNull FieldAccessMode mode) {
+    PreparedField<T> prepared = field.using(mode);
+    if (prepared == field) {
+      return this;
     }
+    return new FieldAccessor<T>(prepared, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code int} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * int value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(int.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asInt() asInt}().{@link IntFieldAccessor#getInt() getInt}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code int}.
+   * @since 2.0
+   */
+  public @NotNull IntFieldAccessor asInt() {
+    return new IntFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code long} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * long value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(long.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asLong() asLong}().{@link LongFieldAccessor#getLong() getLong}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code long}.
+   * @since 2.0
+   */
+  public @NotNull LongFieldAccessor asLong() {
+    return new LongFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code double} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * double value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(double.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asDouble() asDouble}().{@link DoubleFieldAccessor#getDouble() getDouble}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code double}.
+   * @since 2.0
+   */
+  public @NotNull DoubleFieldAccessor asDouble() {
+    return new DoubleFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code boolean} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * boolean value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(boolean.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asBoolean() asBoolean}().{@link BooleanFieldAccessor#getBoolean() getBoolean}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code boolean}.
+   * @since 2.0
+   */
+  public @NotNull BooleanFieldAccessor asBoolean() {
+    return new BooleanFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code byte} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * byte value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(byte.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asByte() asByte}().{@link ByteFieldAccessor#getByte() getByte}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code byte}.
+   * @since 2.0
+   */
+  public @NotNull ByteFieldAccessor asByte() {
+    return new ByteFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code short} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * short value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(short.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asShort() asShort}().{@link ShortFieldAccessor#getShort() getShort}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code short}.
+   * @since 2.0
+   */
+  public @NotNull ShortFieldAccessor asShort() {
+    return new ShortFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code char} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * char value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(char.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asChar() asChar}().{@link CharFieldAccessor#getChar() getChar}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code char}.
+   * @since 2.0
+   */
+  public @NotNull CharFieldAccessor asChar() {
+    return new CharFieldAccessor(field, target);
+  }
+
+  /**
+   * Returns an accessor that reads and writes the {@code float} field specified in this fluent interface,
+   * without boxing it. The returned accessor uses the same mode as this one.
+   * <p/>
+   * Example:
+   * <pre>
+   * float value = {@link org.fest.reflect.core.Reflection#field(String) field}("value").{@link FieldName#ofType(Class) ofType}(float.class).{@link FieldType#in(Object) in}(counter).{@link FieldAccessor#asFloat() asFloat}().{@link FloatFieldAccessor#getFloat() getFloat}();
+   * </pre>
+   *
+   * @return the created accessor.
+   * @throws ReflectionError if the type of the field is not {@code float}.
+   * @since 2.0
+   */
+  public @NotNull FloatFieldAccessor asFloat() {
+    return new FloatFieldAccessor(field, target);
   }
 
   /**
-   * @return the underlying field to access.
+   * @return a new copy of the underlying field to access.
    */
   public @NotNull Field target() {
-    return field;
+    return field.target();
   }
 }
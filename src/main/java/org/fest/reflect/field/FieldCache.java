@@ -0,0 +1,133 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.metrics.Outcome;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.FIELD_LOOKUP;
+import static org.fest.reflect.metrics.Outcome.FAILURE;
+import static org.fest.reflect.metrics.Outcome.HIT;
+import static org.fest.reflect.metrics.Outcome.MISS;
+import static org.fest.reflect.util.Accessibles.makeAccessibleOnce;
+import static org.fest.reflect.util.ClassMetadata.MAX_CACHED_MISSES;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Process-wide cache of fields found in a class hierarchy, keyed on the type where the search starts and the name of
+ * the field. The type the field is expected to have is not part of the key: it is checked by callers, and keying on it
+ * would keep classes from other {@code ClassLoader}s reachable from the metadata of the type. The names of the fields
+ * that could not be found are cached too, up to {@link ClassMetadata#MAX_CACHED_MISSES} per type, so probing a type
+ * for a field it does not have searches its class hierarchy only once.
+ * <p/>
+ * Entries are stored in the {@link ClassMetadata} of the type, which keeps them reachable only as long as the type
+ * itself is reachable.
+ * <p/>
+ * A hit returns the cached {@code Field} itself, without searching the class hierarchy or the declared fields of a
+ * class again. The cached field is made accessible once, when it is found, and is shared by every
+ * {@link PreparedField} that accesses it: it must not be handed out of this package. Callers outside this package get
+ * their own copy from {@link #copyOf(Field)}, so that changes to the copy's {@code accessible} flag are not visible to
+ * anybody else.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class FieldCache {
+  private static final ClassMetadata.Key<Lookups> LOOKUPS = new ClassMetadata.Key<Lookups>() {
+    @Override
+    protected @NotNull Lookups create(@NotNull Class<?> type) {
+      return new Lookups();
+    }
+  };
+
+  private FieldCache() {
+  }
+
+  /**
+   * Finds the field with the given name in the given type or any of its superclasses. The type of the returned field is
+   * not checked; it is up to the caller to report a mismatch.
+   *
+   * @param type      the type where the search starts.
+   * @param fieldName the name of the field to find.
+   * @return the found field, shared with every other caller, or {@code null} if a field with the given name could not
+   *         be found.
+   */
+  static @Nullable Field findFieldInClassHierarchy(@NotNull Class<?> type, @NotNull String fieldName) {
+    long start = start();
+    Lookups lookups = metadataOf(type).get(LOOKUPS);
+    Field field = lookups.fields.get(fieldName);
+    Outcome outcome = HIT;
+    if (field == null) {
+      Set<String> missing = lookups.missing;
+      if (missing.contains(fieldName)) {
+        end(FIELD_LOOKUP, FAILURE, type, fieldName, start);
+        return null;
+      }
+      field = searchClassHierarchy(type, fieldName);
+      if (field == null) {
+        if (missing.size() < MAX_CACHED_MISSES) {
+          missing.add(fieldName);
+        }
+        end(FIELD_LOOKUP, FAILURE, type, fieldName, start);
+        return null;
+      }
+      Field existing = lookups.fields.putIfAbsent(fieldName, makeAccessibleOnce(field));
+      if (existing != null) {
+        field = existing;
+      }
+      outcome = MISS;
+    }
+    end(FIELD_LOOKUP, outcome, type, fieldName, start);
+    return field;
+  }
+
+  /**
+   * Returns a new copy of the given field, which can be handed out of this package.
+   *
+   * @param field the field to copy.
+   * @return a copy of the given field, made accessible.
+   */
+  static @NotNull Field copyOf(@NotNull Field field) {
+    Field copy = metadataOf(field.getDeclaringClass()).declaredField(field.getName());
+    return makeAccessibleOnce(checkNotNull(copy));
+  }
+
+  private static @Nullable Field searchClassHierarchy(@NotNull Class<?> type, @NotNull String fieldName) {
+    Class<?> current = type;
+    while (current != null) {
+      Field field = metadataOf(current).declaredField(fieldName);
+      if (field != null) {
+        return field;
+      }
+      current = current.getSuperclass();
+    }
+    return null;
+  }
+
+  private static class Lookups {
+    final ConcurrentMap<String, Field> fields = new ConcurrentHashMap<String, Field>();
+    final Set<String> missing = ConcurrentHashMap.newKeySet();
+  }
+}
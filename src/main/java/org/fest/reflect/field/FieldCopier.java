@@ -0,0 +1,352 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.util.InternalApi;
+
+import org.jetbrains.annotations.NotNull;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.field.VarHandleCache.varHandleFor;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Copies the values of the fields of an object to the fields with the same name in another object, of the same or a
+ * compatible class.
+ * <p/>
+ * Fields are matched once, when the copier is created: a field of the source class (or any of its superclasses) is
+ * copied if the target class (or any of its superclasses) declares a non-final field with the same name, whose type is
+ * the same primitive type or a supertype of the type of the source field. Static fields are never copied. Values are
+ * copied through {@code VarHandle}s, and values of primitive fields are never boxed.
+ * <p/>
+ * Copiers are immutable and thread-safe, and should be created once and reused.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#copier(Class, Class) org.fest.reflect.core.Reflection.copier};
+ *
+ * FieldCopier&lt;PersonEntity, PersonDto&gt; copier = {@link org.fest.reflect.core.Reflection#copier(Class, Class) copier}(PersonEntity.class, PersonDto.class).{@link #only(String...) only}("name", "age");
+ * for (PersonEntity entity : entities) {
+ *   PersonDto dto = new PersonDto();
+ *   copier.{@link #copy(Object, Object) copy}(entity, dto);
+ * }
+ * </pre>
+ *
+ * @param <S> the type of the objects to copy the fields from.
+ * @param <D> the type of the objects to copy the fields to.
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class FieldCopier<S, D> {
+  private final Class<S> sourceType;
+  private final Class<D> targetType;
+  private final Step[] steps;
+
+  /**
+   * Creates a new {@link FieldCopier} that copies all the matching fields.
+   *
+   * @param sourceType the type of the objects to copy the fields from.
+   * @param targetType the type of the objects to copy the fields to.
+   * @throws NullPointerException if any of the given types is {@code null}.
+   * @throws ReflectionError      if a {@code VarHandle} cannot be created for any of the matching fields.
+   */
+  @InternalApi
+  public FieldCopier(@NotNull Class<S> sourceType, @NotNull Class<D> targetType) {
+    this(checkNotNull(sourceType), checkNotNull(targetType), matchFields(sourceType, targetType));
+  }
+
+  private FieldCopier(@NotNull Class<S> sourceType, @NotNull Class<D> targetType, @NotNull Step[] steps) {
+    this.sourceType = sourceType;
+    this.targetType = targetType;
+    this.steps = steps;
+  }
+
+  private static @NotNull Step[] matchFields(@NotNull Class<?> sourceType, @NotNull Class<?> targetType) {
+    Map<String, Field> targetFields = instanceFieldsOf(targetType);
+    List<Step> steps = new ArrayList<Step>();
+    for (Field source : instanceFieldsOf(sourceType).values()) {
+      Field target = targetFields.get(source.getName());
+      if (target != null && !isFinal(target.getModifiers()) && canCopy(source.getType(), target.getType())) {
+        steps.add(stepFor(source, target));
+      }
+    }
+    return steps.toArray(new Step[steps.size()]);
+  }
+
+  // the instance fields of a type and its superclasses, by name. A field hides the fields of its superclasses.
+  private static @NotNull Map<String, Field> instanceFieldsOf(@NotNull Class<?> type) {
+    Map<String, Field> fields = new LinkedHashMap<String, Field>();
+    Class<?> current = type;
+    while (current != null && current != Object.class) {
+      for (String name : metadataOf(current).declaredFieldNames()) {
+        Field field = metadataOf(current).declaredField(name);
+        if (field != null && !isStatic(field.getModifiers()) && !field.isSynthetic() && !fields.containsKey(name)) {
+          fields.put(name, field);
+        }
+      }
+      current = current.getSuperclass();
+    }
+    return fields;
+  }
+
+  private static boolean canCopy(@NotNull Class<?> sourceType, @NotNull Class<?> targetType) {
+    if (sourceType.isPrimitive() || targetType.isPrimitive()) {
+      return sourceType == targetType;
+    }
+    return targetType.isAssignableFrom(sourceType);
+  }
+
+  private static @NotNull Step stepFor(@NotNull Field source, @NotNull Field target) {
+    VarHandle getter = varHandleFor(source);
+    VarHandle setter = varHandleFor(target);
+    Class<?> type = source.getType();
+    if (type == int.class) {
+      return new IntStep(source.getName(), getter, setter);
+    }
+    if (type == long.class) {
+      return new LongStep(source.getName(), getter, setter);
+    }
+    if (type == double.class) {
+      return new DoubleStep(source.getName(), getter, setter);
+    }
+    if (type == boolean.class) {
+      return new BooleanStep(source.getName(), getter, setter);
+    }
+    if (type == float.class) {
+      return new FloatStep(source.getName(), getter, setter);
+    }
+    if (type == short.class) {
+      return new ShortStep(source.getName(), getter, setter);
+    }
+    if (type == byte.class) {
+      return new ByteStep(source.getName(), getter, setter);
+    }
+    if (type == char.class) {
+      return new CharStep(source.getName(), getter, setter);
+    }
+    return new ObjectStep(source.getName(), getter, setter);
+  }
+
+  /**
+   * Returns a copier that only copies the fields with the given names.
+   *
+   * @param fieldNames the names of the fields to copy.
+   * @return the created copier.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws ReflectionError      if any of the given fields cannot be copied by this copier.
+   */
+  public @NotNull FieldCopier<S, D> only(@NotNull String... fieldNames) {
+    Set<String> names = namesToSelect(fieldNames);
+    List<Step> selected = new ArrayList<Step>();
+    for (Step step : steps) {
+      if (names.contains(step.name)) {
+        selected.add(step);
+      }
+    }
+    return new FieldCopier<S, D>(sourceType, targetType, selected.toArray(new Step[selected.size()]));
+  }
+
+  /**
+   * Returns a copier that copies all the fields copied by this copier, except the ones with the given names.
+   *
+   * @param fieldNames the names of the fields not to copy.
+   * @return the created copier.
+   * @throws NullPointerException if the given array is {@code null}.
+   * @throws ReflectionError      if any of the given fields cannot be copied by this copier.
+   */
+  public @NotNull FieldCopier<S, D> excluding(@NotNull String... fieldNames) {
+    Set<String> names = namesToSelect(fieldNames);
+    List<Step> selected = new ArrayList<Step>();
+    for (Step step : steps) {
+      if (!names.contains(step.name)) {
+        selected.add(step);
+      }
+    }
+    return new FieldCopier<S, D>(sourceType, targetType, selected.toArray(new Step[selected.size()]));
+  }
+
+  private @NotNull Set<String> namesToSelect(@NotNull String[] fieldNames) {
+    Set<String> names = new HashSet<String>(Arrays.asList(checkNotNull(fieldNames)));
+    List<String> copied = fieldNames();
+    for (String name : names) {
+      if (!copied.contains(name)) {
+        String format = "Field '%s' cannot be copied from %s to %s";
+        throw ReflectionError.of(format, name, sourceType.getName(), targetType.getName());
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Copies the values of the fields of the given source to the given target.
+   *
+   * @param source the object to copy the fields from.
+   * @param target the object to copy the fields to.
+   * @return the given target.
+   * @throws NullPointerException if any of the given objects is {@code null}.
+   */
+  public @NotNull D copy(@NotNull S source, @NotNull D target) {
+    checkNotNull(source);
+    checkNotNull(target);
+    for (Step step : steps) {
+      step.copy(source, target);
+    }
+    return target;
+  }
+
+  /**
+   * @return the names of the fields copied by this copier, in the order they are copied.
+   */
+  public @NotNull List<String> fieldNames() {
+    List<String> names = new ArrayList<String>(steps.length);
+    for (Step step : steps) {
+      names.add(step.name);
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[from=%s, to=%s, fields=%s]", getClass().getSimpleName(), sourceType.getName(),
+        targetType.getName(), fieldNames());
+  }
+
+  // Each step is specialized for the type of the field it copies, so that values of primitive fields are not boxed.
+  private abstract static class Step {
+    final String name;
+    final VarHandle getter;
+    final VarHandle setter;
+
+    Step(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      this.name = name;
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    abstract void copy(@NotNull Object source, @NotNull Object target);
+  }
+
+  private static class ObjectStep extends Step {
+    ObjectStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (Object) getter.get(source));
+    }
+  }
+
+  private static class IntStep extends Step {
+    IntStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (int) getter.get(source));
+    }
+  }
+
+  private static class LongStep extends Step {
+    LongStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (long) getter.get(source));
+    }
+  }
+
+  private static class DoubleStep extends Step {
+    DoubleStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (double) getter.get(source));
+    }
+  }
+
+  private static class BooleanStep extends Step {
+    BooleanStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (boolean) getter.get(source));
+    }
+  }
+
+  private static class FloatStep extends Step {
+    FloatStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (float) getter.get(source));
+    }
+  }
+
+  private static class ShortStep extends Step {
+    ShortStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (short) getter.get(source));
+    }
+  }
+
+  private static class ByteStep extends Step {
+    ByteStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (byte) getter.get(source));
+    }
+  }
+
+  private static class CharStep extends Step {
+    CharStep(@NotNull String name, @NotNull VarHandle getter, @NotNull VarHandle setter) {
+      super(name, getter, setter);
+    }
+
+    @Override
+    void copy(@NotNull Object source, @NotNull Object target) {
+      setter.set(target, (char) getter.get(source));
+    }
+  }
+}
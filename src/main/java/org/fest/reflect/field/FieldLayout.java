@@ -0,0 +1,295 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.field.VarHandleCache.varHandleFor;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * The instance fields of a class, including the ones declared in its superclasses, grouped by the kind of array their
+ * values are stored in by a {@link FieldSnapshot}:
+ * <ul>
+ * <li>reference fields are stored in an {@code Object[]}</li>
+ * <li>integral fields, of any size, and {@code char} fields are stored in a {@code long[]}</li>
+ * <li>{@code double} and {@code float} fields are stored in a {@code double[]}</li>
+ * <li>{@code boolean} fields are stored in a {@code boolean[]}</li>
+ * </ul>
+ * Within each group, fields are ordered from the topmost superclass down to the class itself, and in declaration order
+ * within a class. A field hidden by a field with the same name in a subclass is named after the simple name of its
+ * declaring class, for example {@code "Person.name"}.
+ * <p/>
+ * Fields that cannot be accessed, like the private fields of JDK superclasses in modules that are not open to this
+ * library, are not captured. Their names are listed by {@link #inaccessibleNames()}.
+ * <p/>
+ * Layouts are computed once per class, and stored in the {@link ClassMetadata} of the class.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class FieldLayout {
+  private static final ClassMetadata.Key<FieldLayout> LAYOUT = new ClassMetadata.Key<FieldLayout>() {
+    @Override
+    protected @NotNull FieldLayout create(@NotNull Class<?> type) {
+      return new FieldLayout(type);
+    }
+  };
+
+  static final byte LONG = 0;
+  static final byte INT = 1;
+  static final byte SHORT = 2;
+  static final byte BYTE = 3;
+  static final byte CHAR = 4;
+
+  private final Class<?> type;
+  private final List<String> referenceNames;
+  private final List<String> longNames;
+  private final List<String> doubleNames;
+  private final List<String> booleanNames;
+  private final List<String> inaccessibleNames;
+  final VarHandle[] references;
+  final VarHandle[] longs;
+  final byte[] longKinds;
+  final VarHandle[] doubles;
+  final boolean[] floats;
+  final VarHandle[] booleans;
+
+  private FieldLayout(@NotNull Class<?> type) {
+    this.type = type;
+    List<String> referenceNames = new ArrayList<String>();
+    List<String> longNames = new ArrayList<String>();
+    List<String> doubleNames = new ArrayList<String>();
+    List<String> booleanNames = new ArrayList<String>();
+    List<String> inaccessibleNames = new ArrayList<String>();
+    List<VarHandle> references = new ArrayList<VarHandle>();
+    List<VarHandle> longs = new ArrayList<VarHandle>();
+    List<Byte> longKinds = new ArrayList<Byte>();
+    List<VarHandle> doubles = new ArrayList<VarHandle>();
+    List<Boolean> floats = new ArrayList<Boolean>();
+    List<VarHandle> booleans = new ArrayList<VarHandle>();
+    Set<String> hidden = hiddenFieldNames(type);
+    for (Class<?> current : hierarchyOf(type)) {
+      for (String name : metadataOf(current).declaredFieldNames()) {
+        Field field = metadataOf(current).declaredField(name);
+        if (field == null || isStatic(field.getModifiers()) || field.isSynthetic()) {
+          continue;
+        }
+        String label = hidden.contains(name) ? current.getSimpleName() + "." + name : name;
+        Class<?> fieldType = field.getType();
+        VarHandle handle = accessibleVarHandleFor(field);
+        if (handle == null) {
+          inaccessibleNames.add(label);
+        } else if (!fieldType.isPrimitive()) {
+          referenceNames.add(label);
+          references.add(handle);
+        } else if (fieldType == double.class || fieldType == float.class) {
+          doubleNames.add(label);
+          doubles.add(handle);
+          floats.add(fieldType == float.class);
+        } else if (fieldType == boolean.class) {
+          booleanNames.add(label);
+          booleans.add(handle);
+        } else {
+          longNames.add(label);
+          longs.add(handle);
+          longKinds.add(longKindOf(fieldType));
+        }
+      }
+    }
+    this.referenceNames = Collections.unmodifiableList(referenceNames);
+    this.longNames = Collections.unmodifiableList(longNames);
+    this.doubleNames = Collections.unmodifiableList(doubleNames);
+    this.booleanNames = Collections.unmodifiableList(booleanNames);
+    this.inaccessibleNames = Collections.unmodifiableList(inaccessibleNames);
+    this.references = references.toArray(new VarHandle[references.size()]);
+    this.longs = longs.toArray(new VarHandle[longs.size()]);
+    this.longKinds = new byte[longKinds.size()];
+    for (int i = 0; i < this.longKinds.length; i++) {
+      this.longKinds[i] = longKinds.get(i);
+    }
+    this.doubles = doubles.toArray(new VarHandle[doubles.size()]);
+    this.floats = new boolean[floats.size()];
+    for (int i = 0; i < this.floats.length; i++) {
+      this.floats[i] = floats.get(i);
+    }
+    this.booleans = booleans.toArray(new VarHandle[booleans.size()]);
+  }
+
+  // from the topmost superclass down to the given type.
+  private static @NotNull Deque<Class<?>> hierarchyOf(@NotNull Class<?> type) {
+    Deque<Class<?>> hierarchy = new ArrayDeque<Class<?>>();
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      hierarchy.addFirst(current);
+    }
+    return hierarchy;
+  }
+
+  private static @NotNull Set<String> hiddenFieldNames(@NotNull Class<?> type) {
+    Set<String> names = new HashSet<String>();
+    Set<String> hidden = new HashSet<String>();
+    for (Class<?> current : hierarchyOf(type)) {
+      for (String name : metadataOf(current).declaredFieldNames()) {
+        Field field = metadataOf(current).declaredField(name);
+        if (field != null && !isStatic(field.getModifiers()) && !field.isSynthetic() && !names.add(name)) {
+          hidden.add(name);
+        }
+      }
+    }
+    return hidden;
+  }
+
+  // Returns null if the declaring class of the field is not open to this library.
+  private static @Nullable VarHandle accessibleVarHandleFor(@NotNull Field field) {
+    try {
+      return varHandleFor(field);
+    } catch (ReflectionError e) {
+      return null;
+    }
+  }
+
+  private static byte longKindOf(@NotNull Class<?> type) {
+    if (type == int.class) {
+      return INT;
+    }
+    if (type == short.class) {
+      return SHORT;
+    }
+    if (type == byte.class) {
+      return BYTE;
+    }
+    return type == char.class ? CHAR : LONG;
+  }
+
+  /**
+   * Returns the layout of the given class.
+   *
+   * @param type the given class.
+   * @return the layout of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public static @NotNull FieldLayout of(@NotNull Class<?> type) {
+    return metadataOf(checkNotNull(type)).get(LAYOUT);
+  }
+
+  /**
+   * @return the class this layout belongs to.
+   */
+  public @NotNull Class<?> type() {
+    return type;
+  }
+
+  /**
+   * @return the names of the reference fields, in the order of {@link FieldSnapshot#references()}.
+   */
+  public @NotNull List<String> referenceNames() {
+    return referenceNames;
+  }
+
+  /**
+   * @return the names of the {@code long}, {@code int}, {@code short}, {@code byte} and {@code char} fields, in the
+   *         order of {@link FieldSnapshot#longs()}.
+   */
+  public @NotNull List<String> longNames() {
+    return longNames;
+  }
+
+  /**
+   * @return the names of the {@code double} and {@code float} fields, in the order of {@link FieldSnapshot#doubles()}.
+   */
+  public @NotNull List<String> doubleNames() {
+    return doubleNames;
+  }
+
+  /**
+   * @return the names of the {@code boolean} fields, in the order of {@link FieldSnapshot#booleans()}.
+   */
+  public @NotNull List<String> booleanNames() {
+    return booleanNames;
+  }
+
+  /**
+   * @return the names of the fields that cannot be accessed, and are not captured by snapshots.
+   */
+  public @NotNull List<String> inaccessibleNames() {
+    return inaccessibleNames;
+  }
+
+  /**
+   * Creates an empty snapshot with the size of this layout, to be filled by {@link Fields#snapshot(Object, FieldSnapshot)}.
+   *
+   * @return the created snapshot.
+   */
+  public @NotNull FieldSnapshot newSnapshot() {
+    return new FieldSnapshot(this);
+  }
+
+  void capture(@NotNull Object target, @NotNull FieldSnapshot snapshot) {
+    Object[] referenceValues = snapshot.references();
+    for (int i = 0; i < references.length; i++) {
+      referenceValues[i] = (Object) references[i].get(target);
+    }
+    long[] longValues = snapshot.longs();
+    for (int i = 0; i < longs.length; i++) {
+      VarHandle handle = longs[i];
+      switch (longKinds[i]) {
+        case INT:
+          longValues[i] = (int) handle.get(target);
+          break;
+        case SHORT:
+          longValues[i] = (short) handle.get(target);
+          break;
+        case BYTE:
+          longValues[i] = (byte) handle.get(target);
+          break;
+        case CHAR:
+          longValues[i] = (char) handle.get(target);
+          break;
+        default:
+          longValues[i] = (long) handle.get(target);
+      }
+    }
+    double[] doubleValues = snapshot.doubles();
+    for (int i = 0; i < doubles.length; i++) {
+      doubleValues[i] = floats[i] ? (float) doubles[i].get(target) : (double) doubles[i].get(target);
+    }
+    boolean[] booleanValues = snapshot.booleans();
+    for (int i = 0; i < booleans.length; i++) {
+      booleanValues[i] = (boolean) booleans[i].get(target);
+    }
+  }
+
+  @Override
+  public String toString() {
+    String format = "%s[type=%s, references=%s, longs=%s, doubles=%s, booleans=%s, inaccessible=%s]";
+    return String.format(format, getClass().getSimpleName(), type.getName(), referenceNames, longNames, doubleNames,
+        booleanNames, inaccessibleNames);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * The values of all the instance fields of an object, captured by {@link Fields#snapshot(Object)} and stored in flat
+ * arrays, one per kind of field, as described by its {@link FieldLayout}.
+ * <p/>
+ * The arrays returned by this snapshot are not copies: they are overwritten when the snapshot is reused to capture
+ * another object of the same class, using {@link Fields#snapshot(Object, FieldSnapshot)}.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class FieldSnapshot {
+  private final FieldLayout layout;
+  private final Object[] references;
+  private final long[] longs;
+  private final double[] doubles;
+  private final boolean[] booleans;
+
+  FieldSnapshot(@NotNull FieldLayout layout) {
+    this.layout = layout;
+    this.references = new Object[layout.references.length];
+    this.longs = new long[layout.longs.length];
+    this.doubles = new double[layout.doubles.length];
+    this.booleans = new boolean[layout.booleans.length];
+  }
+
+  /**
+   * @return the layout of the fields in this snapshot.
+   */
+  public @NotNull FieldLayout layout() {
+    return layout;
+  }
+
+  /**
+   * @return the values of the reference fields, in the order of {@link FieldLayout#referenceNames()}.
+   */
+  public @NotNull Object[] references() {
+    return references;
+  }
+
+  /**
+   * @return the values of the {@code long}, {@code int}, {@code short}, {@code byte} and {@code char} fields, in the
+   *         order of {@link FieldLayout#longNames()}.
+   */
+  public @NotNull long[] longs() {
+    return longs;
+  }
+
+  /**
+   * @return the values of the {@code double} and {@code float} fields, in the order of
+   *         {@link FieldLayout#doubleNames()}.
+   */
+  public @NotNull double[] doubles() {
+    return doubles;
+  }
+
+  /**
+   * @return the values of the {@code boolean} fields, in the order of {@link FieldLayout#booleanNames()}.
+   */
+  public @NotNull boolean[] booleans() {
+    return booleans;
+  }
+
+  /**
+   * Returns the value of the field with the given name, boxed if the field is primitive. Integral and {@code char}
+   * fields are returned as {@code Long}s, and floating-point fields as {@code Double}s. This method is meant for
+   * diagnostics; bulk readers should read the arrays of this snapshot instead.
+   *
+   * @param fieldName the name of the field, as returned by the {@link FieldLayout} of this snapshot.
+   * @return the value of the field.
+   * @throws NullPointerException     if the given name is {@code null}.
+   * @throws IllegalArgumentException if this snapshot does not contain a field with the given name.
+   */
+  public @Nullable Object get(@NotNull String fieldName) {
+    int index = layout.referenceNames().indexOf(checkNotNull(fieldName));
+    if (index >= 0) {
+      return references[index];
+    }
+    index = layout.longNames().indexOf(fieldName);
+    if (index >= 0) {
+      return longs[index];
+    }
+    index = layout.doubleNames().indexOf(fieldName);
+    if (index >= 0) {
+      return doubles[index];
+    }
+    index = layout.booleanNames().indexOf(fieldName);
+    if (index >= 0) {
+      return booleans[index];
+    }
+    String format = "The snapshot of %s does not contain a field named '%s'";
+    throw new IllegalArgumentException(String.format(format, layout.type().getName(), fieldName));
+  }
+}
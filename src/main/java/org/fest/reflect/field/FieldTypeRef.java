@@ -16,9 +16,16 @@ package org.fest.reflect.field;
 
 import org.fest.reflect.exception.ReflectionError;
 import org.fest.reflect.reference.TypeRef;
+import org.fest.reflect.util.Lambdas;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
+import static org.fest.reflect.field.PreparedField.checkGenericType;
+import static org.fest.reflect.field.PreparedField.findFieldInClassHierarchy;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 
@@ -49,10 +56,10 @@ public class FieldTypeRef<T> {
    * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
    *
    * // Retrieves the value of the field "name"
-   * String name = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(Class) ofType}(String.class).{@link FieldType#in(Object) in}(person).{@link FieldAccessor#get() get}();
+   * String name = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(org.fest.reflect.reference.TypeRef) ofType}(new {@link org.fest.reflect.reference.TypeRef TypeRef}&lt;String&gt;() {}).{@link FieldType#in(Object) in}(person).{@link FieldAccessor#get() get}();
    *
    * // Sets the value of the field "name" to "Yoda"
-   * {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(Class) ofType}(String.class).{@link FieldType#in(Object) in}(person).{@link FieldAccessor#set(Object) set}("Yoda");
+   * {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(org.fest.reflect.reference.TypeRef) ofType}(new {@link org.fest.reflect.reference.TypeRef TypeRef}&lt;String&gt;() {}).{@link FieldType#in(Object) in}(person).{@link FieldAccessor#set(Object) set}("Yoda");
    *
    * // Retrieves the value of the field "powers"
    * List&lt;String&gt; powers = {@link org.fest.reflect.core.Reflection#field(String) field}("powers").{@link FieldName#ofType(TypeRef) ofType}(new {@link TypeRef TypeRef}&lt;List&lt;String&gt;&gt;() {}).{@link FieldTypeRef#in(Object) in}(jedi).{@link FieldAccessor#get() get}();
@@ -72,6 +79,101 @@ public class FieldTypeRef<T> {
    * @throws ReflectionError      if a field with a matching name and type cannot be found.
    */
   public @NotNull FieldAccessor<T> in(@NotNull Object target) {
-    return new FieldAccessor<T>(filedName, value.rawType(), target);
+    return new FieldAccessor<T>(filedName, value, target);
   }
-}
\ No newline at end of file
+
+  /**
+   * Looks up the field to access in the given object or class, like {@link #in(Object)}, but returns {@code null}
+   * instead of throwing an error if a field with a matching name and type cannot be found. Misses are cached, so
+   * probing many objects of the same type for a member they do not have is cheap.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+   *
+   * FieldAccessor&lt;String&gt; name = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(Class) ofType}(String.class).{@link FieldType#find(Object) find}(person);
+   * if (name != null) {
+   *   name.{@link FieldAccessor#set(Object) set}("Yoda");
+   * }
+   * </pre>
+   *
+   * @param target the object containing the field to access. To look up a static field, pass a class instead.
+   * @return the created accessor, or {@code null} if a field with a matching name and type cannot be found.
+   * @throws NullPointerException if the given target is {@code null}.
+   * @since 2.0
+   */
+  public @Nullable FieldAccessor<T> find(@NotNull Object target) {
+    return FieldAccessor.find(filedName, value, target);
+  }
+
+  /**
+   * Specifies the type containing the field to access, so that the field can be accessed in any instance of that type
+   * without looking it up again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+   *
+   * PreparedField&lt;List&lt;String&gt;&gt; powers = {@link org.fest.reflect.core.Reflection#field(String) field}("powers").{@link FieldName#ofType(org.fest.reflect.reference.TypeRef) ofType}(new {@link org.fest.reflect.reference.TypeRef TypeRef}&lt;List&lt;String&gt;&gt;() {}).{@link FieldTypeRef#prepare(Class) prepare}(Jedi.class);
+   * List&lt;String&gt; powers1 = powers.{@link PreparedField#get(Object) get}(jedi1);
+   * List&lt;String&gt; powers2 = powers.{@link PreparedField#get(Object) get}(jedi2);
+   * </pre>
+   *
+   * @param type the type containing the field.
+   * @return the created prepared field.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if a field with a matching name and type cannot be found.
+   * @since 2.0
+   */
+  public @NotNull PreparedField<T> prepare(@NotNull Class<?> type) {
+    return new PreparedField<T>(filedName, value, type);
+  }
+
+  /**
+   * Compiles the field into a {@code Function} that can read the field from any instance of the given type, without
+   * looking up the field again. If the field is static, the argument of the {@code Function} is ignored.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+   *
+   * Function&lt;Person, String&gt; getName = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(org.fest.reflect.reference.TypeRef) ofType}(new {@link org.fest.reflect.reference.TypeRef TypeRef}&lt;String&gt;() {}).{@link FieldTypeRef#compileGetter(Class) compileGetter}(Person.class);
+   * String name = getName.apply(person);
+   * </pre>
+   *
+   * @param type the type containing the field.
+   * @return a {@code Function} that returns the value of the field in the instance it is applied to.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if a field with a matching name and type cannot be found, or if it is not accessible.
+   * @since 2.0
+   */
+  public @NotNull <S> Function<S, T> compileGetter(@NotNull Class<S> type) {
+    Field field = findFieldInClassHierarchy(filedName, value.rawType(), checkNotNull(type));
+    checkGenericType(field, value.type());
+    return Lambdas.fieldGetter(type, field);
+  }
+
+  /**
+   * Compiles the field into a {@code BiConsumer} that can write the field in any instance of the given type, without
+   * looking up the field again. If the field is static, the first argument of the {@code BiConsumer} is ignored.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+   *
+   * BiConsumer&lt;Person, String&gt; setName = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(org.fest.reflect.reference.TypeRef) ofType}(new {@link org.fest.reflect.reference.TypeRef TypeRef}&lt;String&gt;() {}).{@link FieldTypeRef#compileSetter(Class) compileSetter}(Person.class);
+   * setName.accept(person, "Yoda");
+   * </pre>
+   *
+   * @param type the type containing the field.
+   * @return a {@code BiConsumer} that sets the value of the field in the instance it is applied to.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws ReflectionError      if a field with a matching name and type cannot be found, or if it is not accessible.
+   * @since 2.0
+   */
+  public @NotNull <S> BiConsumer<S, T> compileSetter(@NotNull Class<S> type) {
+    Field field = findFieldInClassHierarchy(filedName, value.rawType(), checkNotNull(type));
+    checkGenericType(field, value.type());
+    return Lambdas.fieldSetter(type, field);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.util.InternalApi;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Captures the values of all the instance fields of objects, including the fields declared in their superclasses,
+ * into {@link FieldSnapshot}s. Fields are read through a {@link FieldLayout} computed once per class, so capturing many
+ * objects of the same class does not look up any field, and values of primitive fields are not boxed.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#fields() org.fest.reflect.core.Reflection.fields};
+ *
+ * FieldSnapshot snapshot = null;
+ * for (Person person : persons) {
+ *   snapshot = snapshot == null ? {@link org.fest.reflect.core.Reflection#fields() fields}().{@link #snapshot(Object) snapshot}(person) : {@link org.fest.reflect.core.Reflection#fields() fields}().{@link #snapshot(Object, FieldSnapshot) snapshot}(person, snapshot);
+ *   dump(snapshot.{@link FieldSnapshot#references() references}(), snapshot.{@link FieldSnapshot#longs() longs}());
+ * }
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class Fields {
+  /**
+   * Creates a new {@link Fields}.
+   * <p/>
+   * <strong>Note:</strong> To improve code readability, we recommend invoking
+   * {@link org.fest.reflect.core.Reflection#fields() Reflection.fields()} instead of this constructor.
+   */
+  @InternalApi
+  public Fields() {
+  }
+
+  /**
+   * Returns the layout of the instance fields of the given class.
+   *
+   * @param type the given class.
+   * @return the layout of the fields of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public @NotNull FieldLayout layoutOf(@NotNull Class<?> type) {
+    return FieldLayout.of(type);
+  }
+
+  /**
+   * Captures the values of all the instance fields of the given object into a new snapshot. Fields that cannot be
+   * accessed are skipped, and listed by {@link FieldLayout#inaccessibleNames()}.
+   *
+   * @param target the object to capture.
+   * @return the created snapshot.
+   * @throws NullPointerException if the given object is {@code null}.
+   */
+  public @NotNull FieldSnapshot snapshot(@NotNull Object target) {
+    FieldLayout layout = FieldLayout.of(checkNotNull(target).getClass());
+    FieldSnapshot snapshot = layout.newSnapshot();
+    layout.capture(target, snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Captures the values of all the instance fields of the given object into the given snapshot, overwriting the values
+   * it contains. Reusing a snapshot avoids allocating new arrays for each captured object.
+   *
+   * @param target   the object to capture.
+   * @param snapshot the snapshot to store the values in. It must have been created for the class of the given object.
+   * @return the given snapshot.
+   * @throws NullPointerException     if any of the given arguments is {@code null}.
+   * @throws IllegalArgumentException if the given snapshot was created for a class other than the class of the given
+   *                                  object.
+   */
+  public @NotNull FieldSnapshot snapshot(@NotNull Object target, @NotNull FieldSnapshot snapshot) {
+    FieldLayout layout = snapshot.layout();
+    if (layout.type() != checkNotNull(target).getClass()) {
+      String format = "The snapshot was created for %s, it cannot store the fields of %s";
+      throw new IllegalArgumentException(String.format(format, layout.type().getName(), target.getClass().getName()));
+    }
+    layout.capture(target, snapshot);
+    return snapshot;
+  }
+}
@@ -0,0 +1,648 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.reference.TypeRef;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+import static org.fest.reflect.field.FieldAccessMode.REFLECTION;
+import static org.fest.reflect.field.VarHandleCache.getterFor;
+import static org.fest.reflect.field.VarHandleCache.setterFor;
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.FIELD_ACCESS;
+import static org.fest.reflect.util.GenericTypes.isAssignable;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Preconditions.checkNotNullOrEmpty;
+
+/**
+ * Accesses a field, found once in a given type, in any instance of that type via
+ * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html" target="_blank">Java Reflection</a>.
+ * <p/>
+ * Unlike {@link FieldAccessor}, a {@code PreparedField} is not bound to a target: the target is passed on every call,
+ * and the field is not looked up again.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#field(String) org.fest.reflect.core.Reflection.field};
+ *
+ * PreparedField&lt;String&gt; name = {@link org.fest.reflect.core.Reflection#field(String) field}("name").{@link FieldName#ofType(Class) ofType}(String.class).{@link FieldType#prepare(Class) prepare}(Person.class);
+ * for (Person person : persons) {
+ *   String value = name.{@link PreparedField#get(Object) get}(person);
+ * }
+ * </pre>
+ * <p/>
+ * Fields of primitive types can be accessed without boxing their values, using methods like {@link #getInt(Object)}
+ * and {@link #setInt(Object, int)}. Unless the mode is {@link FieldAccessMode#REFLECTION REFLECTION}, these methods
+ * call {@code MethodHandle}s created once per {@code PreparedField} from the {@code VarHandle} of the field, which
+ * read and write the value as its primitive type.
+ *
+ * @param <T> the type of the field to access.
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class PreparedField<T> {
+  private final Class<T> fieldType;
+  private final Field field;
+  private final FieldAccessMode mode;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  PreparedField(@NotNull String fieldName, @NotNull Class<T> fieldType, @NotNull Class<?> type) {
+    this(fieldType, findFieldInClassHierarchy(checkNotNullOrEmpty(fieldName), checkNotNull(fieldType),
+        checkNotNull(type)));
+  }
+
+  PreparedField(@NotNull String fieldName, @NotNull TypeRef<T> fieldType, @NotNull Class<?> type) {
+    this(fieldType.rawType(), checkGenericType(findFieldInClassHierarchy(checkNotNullOrEmpty(fieldName),
+        checkNotNull(fieldType).rawType(), checkNotNull(type)), fieldType.type()));
+  }
+
+  private PreparedField(@NotNull Class<T> fieldType, @NotNull Field field) {
+    this.fieldType = fieldType;
+    this.mode = REFLECTION;
+    this.getter = null;
+    this.setter = null;
+    // the found field was made accessible once, when it was cached, and its accessible flag is never changed again.
+    // Calls from different threads do not race on the flag.
+    this.field = field;
+  }
+
+  private PreparedField(@NotNull PreparedField<T> original, @NotNull FieldAccessMode mode) {
+    this.fieldType = original.fieldType;
+    this.mode = checkNotNull(mode);
+    this.field = original.field;
+    this.getter = mode == REFLECTION ? null : getterFor(field, mode);
+    this.setter = mode == REFLECTION ? null : setterFor(field, mode);
+  }
+
+  /**
+   * Looks up a field in the given type or any of its superclasses, without throwing an error if it cannot be found.
+   *
+   * @param fieldName the name of the field to find.
+   * @param fieldType the expected type of the field.
+   * @param type      the type where the search starts.
+   * @return the found field, or {@code null} if a field with a matching name and type cannot be found.
+   */
+  static @Nullable <T> PreparedField<T> find(@NotNull String fieldName, @NotNull Class<T> fieldType,
+                                             @NotNull Class<?> type) {
+    checkNotNull(fieldType);
+    Field field = FieldCache.findFieldInClassHierarchy(checkNotNull(type), checkNotNullOrEmpty(fieldName));
+    if (field == null || !fieldType.isAssignableFrom(field.getType())) {
+      return null;
+    }
+    return new PreparedField<T>(fieldType, field);
+  }
+
+  /**
+   * Looks up a field in the given type or any of its superclasses, without throwing an error if it cannot be found or
+   * if its generic type does not match the given one.
+   *
+   * @param fieldName the name of the field to find.
+   * @param fieldType the expected generic type of the field.
+   * @param type      the type where the search starts.
+   * @return the found field, or {@code null} if a field with a matching name and type cannot be found.
+   */
+  static @Nullable <T> PreparedField<T> find(@NotNull String fieldName, @NotNull TypeRef<T> fieldType,
+                                             @NotNull Class<?> type) {
+    PreparedField<T> field = find(fieldName, fieldType.rawType(), type);
+    return field != null && isAssignable(fieldType.type(), field.field) ? field : null;
+  }
+
+  /**
+   * Finds a field in the given type or any of its superclasses.
+   *
+   * @param fieldName the name of the field to find.
+   * @param fieldType the expected type of the field.
+   * @param type      the type where the search starts.
+   * @return the found field, shared with every other caller. It must not be handed out of this package.
+   * @throws ReflectionError if a field with a matching name and type cannot be found.
+   */
+  static @NotNull Field findFieldInClassHierarchy(@NotNull String fieldName, @NotNull Class<?> fieldType,
+                                                  @NotNull Class<?> type) {
+    Field field = FieldCache.findFieldInClassHierarchy(type, fieldName);
+    if (field == null) {
+      throw ReflectionError.of("Failed to find field '%s' in %s", fieldName, type.getName());
+    }
+    Class<?> actualType = field.getType();
+    if (!fieldType.isAssignableFrom(actualType)) {
+      String format = "Expecting type of field '%s' in %s to be <%s> but was <%s>";
+      throw ReflectionError.of(format, fieldName, type.getName(), fieldType.getName(), actualType.getName());
+    }
+    return field;
+  }
+
+  /**
+   * Verifies that the value of the given field can be assigned to a variable of the given generic type. The result is
+   * cached per field, and accessors created from the field do not check the type of its value again.
+   *
+   * @param field    the field to verify.
+   * @param expected the expected generic type of the field.
+   * @return the given field.
+   * @throws ReflectionError if the generic type of the field does not match the expected one.
+   */
+  static @NotNull Field checkGenericType(@NotNull Field field, @NotNull Type expected) {
+    if (!isAssignable(expected, field)) {
+      String format = "Expecting generic type of field '%s' in %s to be <%s> but was <%s>";
+      throw ReflectionError.of(format, field.getName(), field.getDeclaringClass().getName(), expected.getTypeName(),
+          field.getGenericType().getTypeName());
+    }
+    return field;
+  }
+
+  /**
+   * Sets a value in the field of the given target.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   */
+  public void set(@Nullable Object target, @Nullable T value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invoke(target, value);
+      } else {
+        field.set(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the field in the given target.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable T get(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      // the type of the field was checked when it was found, the value is of the type of this field.
+      T value = (T) (getter != null ? getter.invoke(target) : field.get(target));
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code boolean} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code boolean}.
+   * @since 2.0
+   */
+  public boolean getBoolean(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      boolean value = getter != null ? (boolean) getter.invokeExact(target) : field.getBoolean(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code boolean} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setBoolean(@Nullable Object target, boolean value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setBoolean(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code byte} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code byte}.
+   * @since 2.0
+   */
+  public byte getByte(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      byte value = getter != null ? (byte) getter.invokeExact(target) : field.getByte(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code byte} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setByte(@Nullable Object target, byte value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setByte(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code char} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code char}.
+   * @since 2.0
+   */
+  public char getChar(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      char value = getter != null ? (char) getter.invokeExact(target) : field.getChar(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code char} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setChar(@Nullable Object target, char value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setChar(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code short} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code short}.
+   * @since 2.0
+   */
+  public short getShort(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      short value = getter != null ? (short) getter.invokeExact(target) : field.getShort(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code short} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setShort(@Nullable Object target, short value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setShort(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code int} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as an {@code int}.
+   * @since 2.0
+   */
+  public int getInt(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      int value = getter != null ? (int) getter.invokeExact(target) : field.getInt(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code int} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setInt(@Nullable Object target, int value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setInt(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code long} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code long}.
+   * @since 2.0
+   */
+  public long getLong(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      long value = getter != null ? (long) getter.invokeExact(target) : field.getLong(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code long} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setLong(@Nullable Object target, long value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setLong(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code float} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code float}.
+   * @since 2.0
+   */
+  public float getFloat(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      float value = getter != null ? (float) getter.invokeExact(target) : field.getFloat(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code float} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setFloat(@Nullable Object target, float value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setFloat(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Retrieves the value of the {@code double} field in the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @return the value of the field.
+   * @throws ReflectionError if the value of the field cannot be retrieved as a {@code double}.
+   * @since 2.0
+   */
+  public double getDouble(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      double value = getter != null ? (double) getter.invokeExact(target) : field.getDouble(target);
+      succeeded = true;
+      return value;
+    } catch (Throwable t) {
+      throw cannotGet(t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  /**
+   * Sets a value in the {@code double} field of the given target, without boxing it.
+   *
+   * @param target the object containing the field. It is ignored if the field is static.
+   * @param value  the value to set.
+   * @throws ReflectionError if the given value cannot be set.
+   * @since 2.0
+   */
+  public void setDouble(@Nullable Object target, double value) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      if (setter != null) {
+        setter.invokeExact(target, value);
+      } else {
+        field.setDouble(target, value);
+      }
+      succeeded = true;
+    } catch (Throwable t) {
+      throw cannotSet(value, t);
+    } finally {
+      end(FIELD_ACCESS, succeeded, field, start);
+    }
+  }
+
+  private @NotNull ReflectionError cannotGet(@NotNull Throwable cause) {
+    String msg = String.format("Failed to get the value of field '%s'", field.getName());
+    return new ReflectionError(msg, cause);
+  }
+
+  // the value is converted to a String only if it cannot be set, primitive values are not boxed otherwise.
+  private @NotNull ReflectionError cannotSet(@Nullable Object value, @NotNull Throwable cause) {
+    String format = "Failed to set value %s in field '%s'";
+    return new ReflectionError(String.format(format, String.valueOf(value), field.getName()), cause);
+  }
+
+  /**
+   * Returns a {@link PreparedField} that accesses the same field using the given mode.
+   *
+   * @param mode the mode to use to access the field.
+   * @return a {@code PreparedField} that uses the given mode.
+   * @throws NullPointerException if the given mode is {@code null}.
+   * @throws ReflectionError      if the field cannot be accessed using the given mode.
+   * @see FieldAccessor#using(FieldAccessMode)
+   */
+  public @NotNull PreparedField<T> using(@NotNull FieldAccessMode mode) {
+    if (mode == this.mode) {
+      return this;
+    }
+    return new PreparedField<T>(this, mode);
+  }
+
+  // Used by the primitive-specialized accessors, to fail early instead of on every call.
+  void checkTypeIs(@NotNull Class<?> primitiveType) {
+    Class<?> actualType = field.getType();
+    if (actualType != primitiveType) {
+      String format = "Expecting type of field '%s' in %s to be <%s> but was <%s>";
+      throw ReflectionError.of(format, field.getName(), field.getDeclaringClass().getName(), primitiveType.getName(),
+          actualType.getName());
+    }
+  }
+
+  /**
+   * Binds this field to the given target, without looking up the field again.
+   *
+   * @param target the object containing the field to access. To access a static field, pass a class instead.
+   * @return a {@link FieldAccessor} that accesses this field in the given target.
+   * @throws NullPointerException if the given target is {@code null}.
+   */
+  public @NotNull FieldAccessor<T> in(@NotNull Object target) {
+    return new FieldAccessor<T>(this, target);
+  }
+
+  /**
+   * @return a new copy of the underlying field to access.
+   */
+  public @NotNull Field target() {
+    return FieldCache.copyOf(field);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.jetbrains.annotations.NotNull;
+import java.lang.reflect.Field;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Base class of the accessors that read and write a field of a primitive type in a given target, without boxing its
+ * value. The type of the field is checked once, when the accessor is created.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+abstract class PrimitiveFieldAccessor {
+  final PreparedField<?> field;
+  final Object target;
+
+  PrimitiveFieldAccessor(@NotNull PreparedField<?> field, @NotNull Object target, @NotNull Class<?> primitiveType) {
+    field.checkTypeIs(primitiveType);
+    this.field = field;
+    this.target = checkNotNull(target);
+  }
+
+  /**
+   * @return a new copy of the underlying field to access.
+   */
+  public @NotNull Field target() {
+    return field.target();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Process-wide cache of the {@code VarHandle}s used by {@link FieldAccessor}. Handles are created using a private
+ * lookup in the declaring class of the field, and stored in the {@link ClassMetadata} of that class. They are adapted
+ * to {@code MethodHandle}s with a single shape per field type, so that {@link PreparedField} can read and write fields
+ * of any primitive type without boxing their values.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class VarHandleCache {
+  private static final ClassMetadata.Key<ConcurrentMap<Field, VarHandle>> HANDLES =
+      new ClassMetadata.Key<ConcurrentMap<Field, VarHandle>>() {
+        @Override
+        protected @NotNull ConcurrentMap<Field, VarHandle> create(@NotNull Class<?> type) {
+          return new ConcurrentHashMap<Field, VarHandle>();
+        }
+      };
+
+  private VarHandleCache() {
+  }
+
+  /**
+   * Returns a {@code VarHandle} that accesses the given field.
+   *
+   * @param field the field to access.
+   * @return the cached {@code VarHandle}.
+   * @throws ReflectionError if a {@code VarHandle} for the given field cannot be created.
+   */
+  static @NotNull VarHandle varHandleFor(@NotNull Field field) {
+    ConcurrentMap<Field, VarHandle> handles = metadataOf(checkNotNull(field).getDeclaringClass()).get(HANDLES);
+    VarHandle handle = handles.get(field);
+    if (handle == null) {
+      handle = createVarHandle(field);
+      VarHandle existing = handles.putIfAbsent(field, handle);
+      if (existing != null) {
+        handle = existing;
+      }
+    }
+    return handle;
+  }
+
+  /**
+   * Returns a {@code MethodHandle} of type {@code (Object)T}, where {@code T} is the type of the given field, that
+   * reads the field using the {@code VarHandle} access mode matching the given mode. Its argument is ignored if the
+   * field is static. Primitive values are not boxed.
+   *
+   * @param field the field to read.
+   * @param mode  the mode to use to read the field. It must not be {@link FieldAccessMode#REFLECTION REFLECTION}.
+   * @return the created {@code MethodHandle}.
+   * @throws ReflectionError if a {@code VarHandle} for the given field cannot be created.
+   */
+  static @NotNull MethodHandle getterFor(@NotNull Field field, @NotNull FieldAccessMode mode) {
+    AccessMode accessMode;
+    switch (mode) {
+      case OPAQUE:
+        accessMode = AccessMode.GET_OPAQUE;
+        break;
+      case VOLATILE:
+        accessMode = AccessMode.GET_VOLATILE;
+        break;
+      default:
+        accessMode = AccessMode.GET;
+    }
+    MethodHandle handle = varHandleFor(field).toMethodHandle(accessMode);
+    return ignoreTargetIfStatic(field, handle).asType(methodType(field.getType(), Object.class));
+  }
+
+  /**
+   * Returns a {@code MethodHandle} of type {@code (Object, T)void}, where {@code T} is the type of the given field,
+   * that writes the field using the {@code VarHandle} access mode matching the given mode. Its first argument is
+   * ignored if the field is static. Primitive values are not boxed. If the field is {@code final}, the returned
+   * {@code MethodHandle} throws an {@code UnsupportedOperationException}.
+   *
+   * @param field the field to write.
+   * @param mode  the mode to use to write the field. It must not be {@link FieldAccessMode#REFLECTION REFLECTION}.
+   * @return the created {@code MethodHandle}.
+   * @throws ReflectionError if a {@code VarHandle} for the given field cannot be created.
+   */
+  static @NotNull MethodHandle setterFor(@NotNull Field field, @NotNull FieldAccessMode mode) {
+    AccessMode accessMode;
+    switch (mode) {
+      case OPAQUE:
+        accessMode = AccessMode.SET_OPAQUE;
+        break;
+      case VOLATILE:
+        accessMode = AccessMode.SET_VOLATILE;
+        break;
+      default:
+        accessMode = AccessMode.SET;
+    }
+    MethodHandle handle = varHandleFor(field).toMethodHandle(accessMode);
+    return ignoreTargetIfStatic(field, handle).asType(methodType(void.class, Object.class, field.getType()));
+  }
+
+  private static @NotNull MethodHandle ignoreTargetIfStatic(@NotNull Field field, @NotNull MethodHandle handle) {
+    return isStatic(field.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+  }
+
+  private static @NotNull VarHandle createVarHandle(@NotNull Field field) {
+    Class<?> declaringClass = field.getDeclaringClass();
+    try {
+      return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup()).unreflectVarHandle(field);
+    } catch (Throwable t) {
+      String format = "Unable to create a VarHandle for field '%s' in %s";
+      throw new ReflectionError(String.format(format, field.getName(), declaringClass.getName()), t);
+    }
+  }
+}
@@ -18,6 +18,10 @@ import org.fest.reflect.exception.ReflectionError;
 
 import org.jetbrains.annotations.NotNull;
 
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.INNER_CLASS_LOOKUP;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 import static org.fest.util.Strings.concat;
@@ -62,14 +66,13 @@ public class InnerClassFinder {
    */
   public @NotNull Class<?> get() {
     String namespace = declaringClass.getName();
-    String expectedInnerClassName = expectedInnerClassName(namespace);
-    for (Class<?> innerClass : declaringClass.getDeclaredClasses()) {
-      if (innerClass.getName().equals(expectedInnerClassName)) {
-        return innerClass;
-      }
+    long start = start();
+    Class<?> innerClass = metadataOf(declaringClass).declaredClass(expectedInnerClassName(namespace));
+    end(INNER_CLASS_LOOKUP, innerClass != null, declaringClass, innerClassName, start);
+    if (innerClass != null) {
+      return innerClass;
     }
-    String format = "Failed to find static inner class %s in %s";
-    throw new ReflectionError(String.format(format, innerClassName, declaringClass.getName()));
+    throw ReflectionError.of("Failed to find static inner class %s in %s", innerClassName, declaringClass.getName());
   }
 
   private String expectedInnerClassName(String namespace) {
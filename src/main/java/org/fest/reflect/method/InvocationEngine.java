@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.method;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * The mechanism used by {@link MethodInvoker} to call a method.
+ * <p/>
+ * The engine to use can be specified globally, using {@link #setDefault(InvocationEngine)}, or for a single
+ * {@link MethodInvoker}, using {@link MethodInvoker#using(InvocationEngine)}:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+ *
+ * // Equivalent to invoking the method 'person.setName("Luke")', using a method handle
+ * {@link org.fest.reflect.core.Reflection#method(String) method}("setName").{@link org.fest.reflect.method.MethodName#withParameterTypes(Class...) withParameterTypes}(String.class)
+ *                  .{@link org.fest.reflect.method.ParameterTypes#in(Object) in}(person)
+ *                  .{@link org.fest.reflect.method.MethodInvoker#using(InvocationEngine) using}({@link #METHOD_HANDLES})
+ *                  .{@link org.fest.reflect.method.MethodInvoker#invoke(Object...) invoke}("Luke");
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public enum InvocationEngine {
+  /**
+   * Calls methods using {@code Method.invoke}. The method is made accessible once, when it is looked up, and its
+   * {@code accessible} flag is never changed afterwards. This is the default engine.
+   */
+  REFLECTION,
+
+  /**
+   * Calls methods using a {@code MethodHandle} created once per method and shared by all {@link MethodInvoker}s. After
+   * the method handle is created, calling the method involves neither access checks nor changes to the
+   * {@code accessible} flag of the method.
+   */
+  METHOD_HANDLES;
+
+  private static volatile InvocationEngine defaultEngine = REFLECTION;
+
+  /**
+   * @return the engine used by {@link MethodInvoker}s that do not specify one.
+   */
+  public static @NotNull InvocationEngine getDefault() {
+    return defaultEngine;
+  }
+
+  /**
+   * Specifies the engine to be used by {@link MethodInvoker}s that do not specify one. This setting only affects
+   * {@link MethodInvoker}s created after this method is called.
+   *
+   * @param engine the engine to use by default.
+   * @throws NullPointerException if the given engine is {@code null}.
+   */
+  public static void setDefault(@NotNull InvocationEngine engine) {
+    defaultEngine = checkNotNull(engine);
+  }
+}
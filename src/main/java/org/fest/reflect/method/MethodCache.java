@@ -0,0 +1,174 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.method;
+
+import org.fest.reflect.metrics.Outcome;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.METHOD_LOOKUP;
+import static org.fest.reflect.metrics.Outcome.FAILURE;
+import static org.fest.reflect.metrics.Outcome.HIT;
+import static org.fest.reflect.metrics.Outcome.MISS;
+import static org.fest.reflect.util.Accessibles.makeAccessibleOnce;
+import static org.fest.reflect.util.ClassMetadata.MAX_CACHED_MISSES;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Process-wide cache of methods found in a class hierarchy, keyed on the type where the search starts, the name of the
+ * method and its parameter types.
+ * <p/>
+ * Entries are stored in the {@link ClassMetadata} of the type, which keeps them reachable only as long as the type
+ * itself is reachable.
+ * Caching a method does not prevent the {@code ClassLoader} of its declaring class from being garbage-collected.
+ * <p/>
+ * Misses are cached too, so probing a type for a method it does not have searches its class hierarchy only once. A miss
+ * is not cached if any of its parameter types is not visible from the {@code ClassLoader} of the type, or once
+ * {@link ClassMetadata#MAX_CACHED_MISSES} misses have been cached for the type.
+ * <p/>
+ * A hit returns the cached {@code Method} itself, without searching the class hierarchy or the declared methods of a
+ * class again. The cached method is made accessible once, when it is found, and is shared by every
+ * {@link PreparedMethod} that invokes it: it must not be handed out of this package. Callers outside this package get
+ * their own copy from {@link #copyOf(Method)}, so that changes to the copy's {@code accessible} flag are not visible to
+ * anybody else.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class MethodCache {
+  private static final ClassMetadata.Key<Lookups> LOOKUPS = new ClassMetadata.Key<Lookups>() {
+    @Override
+    protected @NotNull Lookups create(@NotNull Class<?> type) {
+      return new Lookups();
+    }
+  };
+
+  private MethodCache() {
+  }
+
+  /**
+   * Finds the method with the given name and parameter types in the given type or any of its superclasses.
+   *
+   * @param type           the type where the search starts.
+   * @param methodName     the name of the method to find.
+   * @param parameterTypes the parameter types of the method to find.
+   * @return the found method, shared with every other caller, or {@code null} if a matching method could not be found.
+   */
+  static @Nullable Method findMethodInClassHierarchy(
+      @NotNull Class<?> type, @NotNull String methodName, @NotNull Class<?>[] parameterTypes) {
+    long start = start();
+    Lookups lookups = metadataOf(type).get(LOOKUPS);
+    ConcurrentMap<Signature, Method> methods = lookups.methods;
+    Signature signature = new Signature(methodName, parameterTypes);
+    Method method = methods.get(signature);
+    Outcome outcome = HIT;
+    if (method == null) {
+      Set<Signature> missing = lookups.missing;
+      if (missing.contains(signature)) {
+        end(METHOD_LOOKUP, FAILURE, type, methodName, start);
+        return null;
+      }
+      method = searchClassHierarchy(type, methodName, parameterTypes);
+      if (method == null) {
+        if (missing.size() < MAX_CACHED_MISSES && metadataOf(type).canReference(parameterTypes)) {
+          missing.add(new Signature(methodName, parameterTypes.clone()));
+        }
+        end(METHOD_LOOKUP, FAILURE, type, methodName, start);
+        return null;
+      }
+      Method existing = methods.putIfAbsent(new Signature(methodName, parameterTypes.clone()),
+          makeAccessibleOnce(method));
+      if (existing != null) {
+        method = existing;
+      }
+      outcome = MISS;
+    }
+    end(METHOD_LOOKUP, outcome, type, methodName, start);
+    return method;
+  }
+
+  /**
+   * Returns a new copy of the given method, which can be handed out of this package.
+   *
+   * @param method the method to copy.
+   * @return a copy of the given method, made accessible.
+   */
+  static @NotNull Method copyOf(@NotNull Method method) {
+    Method copy = findMethod(method.getName(), method.getDeclaringClass(), method.getParameterTypes());
+    return makeAccessibleOnce(checkNotNull(copy));
+  }
+
+  private static @Nullable Method searchClassHierarchy(
+      @NotNull Class<?> type, @NotNull String methodName, @NotNull Class<?>[] parameterTypes) {
+    Class<?> current = type;
+    while (current != null) {
+      Method method = findMethod(methodName, current, parameterTypes);
+      if (method != null) {
+        return method;
+      }
+      current = current.getSuperclass();
+    }
+    return null;
+  }
+
+  private static @Nullable Method findMethod(
+      @NotNull String methodName, @NotNull Class<?> type, @NotNull Class<?>[] parameterTypes) {
+    return metadataOf(type).declaredMethod(methodName, parameterTypes);
+  }
+
+  private static class Lookups {
+    final ConcurrentMap<Signature, Method> methods = new ConcurrentHashMap<Signature, Method>();
+    final Set<Signature> missing = ConcurrentHashMap.newKeySet();
+  }
+
+  private static class Signature {
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+    private final int hashCode;
+
+    Signature(@NotNull String methodName, @NotNull Class<?>[] parameterTypes) {
+      this.methodName = methodName;
+      this.parameterTypes = parameterTypes;
+      this.hashCode = 31 * methodName.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Signature)) {
+        return false;
+      }
+      Signature other = (Signature) o;
+      return methodName.equals(other.methodName) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.method;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Strings.quote;
+
+/**
+ * Process-wide cache of the {@code MethodHandle}s used by {@link InvocationEngine#METHOD_HANDLES} and by the
+ * fixed-arity {@code invoke} methods.
+ * <p/>
+ * Two handles are cached for every method. Both take the target of the call first, which is ignored for static
+ * methods, and return {@code Object}:
+ * <ul>
+ * <li>an <em>invoker</em>, of type {@code (Object, Object...)Object}, which takes one {@code Object} per parameter of
+ * the method</li>
+ * <li>a <em>spread invoker</em>, of type {@code (Object, Object[])Object}, which takes the arguments of the call in an
+ * array and spreads them into the parameters of the method</li>
+ * </ul>
+ * Entries are stored in the {@link ClassMetadata} of the declaring class of the method. Handles are created from the
+ * methods cached by {@link MethodCache}, which are already accessible.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+final class MethodHandleCache {
+  private static final ClassMetadata.Key<ConcurrentMap<Method, Invokers>> HANDLES =
+      new ClassMetadata.Key<ConcurrentMap<Method, Invokers>>() {
+        @Override
+        protected @NotNull ConcurrentMap<Method, Invokers> create(@NotNull Class<?> type) {
+          return new ConcurrentHashMap<Method, Invokers>();
+        }
+      };
+
+  private MethodHandleCache() {
+  }
+
+  /**
+   * Returns a {@code MethodHandle} of type {@code (Object, Object[])Object} that calls the given method.
+   *
+   * @param method the method to call.
+   * @return the cached method handle.
+   * @throws ReflectionError if a method handle for the given method cannot be created.
+   */
+  static @NotNull MethodHandle spreadInvokerFor(@NotNull Method method) {
+    return invokersFor(method).spreadInvoker;
+  }
+
+  /**
+   * Returns a {@code MethodHandle} of type {@code (Object, Object...)Object}, with one {@code Object} per parameter of
+   * the given method, that calls the given method.
+   *
+   * @param method the method to call.
+   * @return the cached method handle.
+   * @throws ReflectionError if a method handle for the given method cannot be created.
+   */
+  static @NotNull MethodHandle invokerFor(@NotNull Method method) {
+    return invokersFor(method).invoker;
+  }
+
+  private static @NotNull Invokers invokersFor(@NotNull Method method) {
+    ConcurrentMap<Method, Invokers> handles = metadataOf(checkNotNull(method).getDeclaringClass()).get(HANDLES);
+    Invokers invokers = handles.get(method);
+    if (invokers == null) {
+      invokers = createInvokers(method);
+      Invokers existing = handles.putIfAbsent(method, invokers);
+      if (existing != null) {
+        invokers = existing;
+      }
+    }
+    return invokers;
+  }
+
+  private static @NotNull Invokers createInvokers(@NotNull Method method) {
+    MethodHandle handle = unreflect(method).asFixedArity();
+    if (isStatic(method.getModifiers())) {
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+    }
+    int parameterCount = method.getParameterTypes().length;
+    MethodHandle invoker = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+    return new Invokers(invoker, invoker.asSpreader(Object[].class, parameterCount));
+  }
+
+  private static @NotNull MethodHandle unreflect(@NotNull Method method) {
+    try {
+      return MethodHandles.lookup().unreflect(method);
+    } catch (Throwable t) {
+      String format = "Unable to create a method handle for method %s in %s";
+      String msg = String.format(format, quote(method.getName()), method.getDeclaringClass().getName());
+      throw new ReflectionError(msg, t);
+    }
+  }
+
+  private static class Invokers {
+    final MethodHandle invoker;
+    final MethodHandle spreadInvoker;
+
+    Invokers(@NotNull MethodHandle invoker, @NotNull MethodHandle spreadInvoker) {
+      this.invoker = invoker;
+      this.spreadInvoker = spreadInvoker;
+    }
+  }
+}
@@ -15,19 +15,13 @@
 package org.fest.reflect.method;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.reference.TypeRef;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Method;
 
-import static org.fest.reflect.util.Accessibles.makeAccessible;
-import static org.fest.reflect.util.Accessibles.setAccessibleIgnoringExceptions;
-import static org.fest.reflect.util.Throwables.targetOf;
-import static org.fest.reflect.util.Types.castSafely;
-import static org.fest.util.Arrays.format;
 import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.Preconditions.checkNotNullOrEmpty;
-import static org.fest.util.Strings.quote;
 
 /**
  * Invokes a method using
@@ -38,44 +32,40 @@ import static org.fest.util.Strings.quote;
  * @author Alex Ruiz
  */
 public final class MethodInvoker<T> {
-  private final Class<T> returnType;
+  private final PreparedMethod<T> method;
   private final Object target;
-  private final Method method;
 
   MethodInvoker(@NotNull String methodName, @NotNull Class<T> returnType, @NotNull Class<?>[] parameterTypes,
                 @NotNull Object target) {
-    this.returnType = checkNotNull(returnType);
+    this(new PreparedMethod<T>(methodName, returnType, parameterTypes, typeOf(checkNotNull(target))), target);
+  }
+
+  MethodInvoker(@NotNull String methodName, @NotNull TypeRef<T> returnType, @NotNull Class<?>[] parameterTypes,
+                @NotNull Object target) {
+    this(new PreparedMethod<T>(methodName, returnType, parameterTypes, typeOf(checkNotNull(target))), target);
+  }
+
+  MethodInvoker(@NotNull PreparedMethod<T> method, @NotNull Object target) {
+    this.method = checkNotNull(method);
     this.target = checkNotNull(target);
-    this.method = findMethodInClassHierarchy(checkNotNullOrEmpty(methodName), checkNotNull(parameterTypes));
   }
 
-  private static @Nullable Method findMethod(
-      @NotNull String methodName, @NotNull Class<?> type, @NotNull Class<?>[] parameterTypes) {
-    try {
-      return type.getDeclaredMethod(methodName, parameterTypes);
-    } catch (SecurityException e) {
-      return null;
-    } catch (NoSuchMethodException e) {
-      return null;
-    }
+  static @Nullable <T> MethodInvoker<T> find(@NotNull String methodName, @NotNull Class<T> returnType,
+                                             @NotNull Class<?>[] parameterTypes, @NotNull Object target) {
+    PreparedMethod<T> method =
+        PreparedMethod.find(methodName, returnType, parameterTypes, typeOf(checkNotNull(target)));
+    return method != null ? new MethodInvoker<T>(method, target) : null;
   }
 
-  private @NotNull Method findMethodInClassHierarchy(@NotNull String methodName, @NotNull Class<?>[] parameterTypes) {
-    Method method = null;
-    Class<?> targetType = target instanceof Class<?> ? (Class<?>) target : target.getClass();
-    Class<?> type = targetType;
-    while (type != null) {
-      method = findMethod(methodName, type, parameterTypes);
-      if (method != null) {
-        break;
-      }
-      type = type.getSuperclass();
-    }
-    if (method == null) {
-      String format = "Unable to find method: %s in: %s with parameter type(s) %s";
-      throw new ReflectionError(String.format(format, quote(methodName), targetType.getName(), format(parameterTypes)));
-    }
-    return method;
+  static @Nullable <T> MethodInvoker<T> find(@NotNull String methodName, @NotNull TypeRef<T> returnType,
+                                             @NotNull Class<?>[] parameterTypes, @NotNull Object target) {
+    PreparedMethod<T> method =
+        PreparedMethod.find(methodName, returnType, parameterTypes, typeOf(checkNotNull(target)));
+    return method != null ? new MethodInvoker<T>(method, target) : null;
+  }
+
+  private static @NotNull Class<?> typeOf(@NotNull Object target) {
+    return target instanceof Class<?> ? (Class<?>) target : target.getClass();
   }
 
   /**
@@ -107,29 +97,110 @@ public final class MethodInvoker<T> {
    * @throws ReflectionError if the method cannot be invoked.
    */
   public @Nullable T invoke(@NotNull Object... args) {
-    checkNotNull(args);
-    Method method = target();
-    boolean accessible = method.isAccessible();
-    try {
-      makeAccessible(method);
-      Object returnValue = method.invoke(target, args);
-      return castSafely(returnValue, checkNotNull(returnType));
-    } catch (Throwable t) {
-      Throwable cause = targetOf(t);
-      if (cause instanceof RuntimeException) {
-        throw (RuntimeException) cause;
-      }
-      String format = "Unable to invoke method %s with arguments %s";
-      throw new ReflectionError(String.format(format, quote(method.getName()), format(args)), cause);
-    } finally {
-      setAccessibleIgnoringExceptions(method, accessible);
+    return method.invoke(target, args);
+  }
+
+  /**
+   * Invokes a method that does not take any arguments. Unlike {@link #invoke(Object...)}, this method does not create
+   * an array to hold the arguments of the call.
+   *
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @see PreparedMethod#invoke(Object)
+   * @since 2.0
+   */
+  public @Nullable T invoke() {
+    return method.invoke(target);
+  }
+
+  /**
+   * Invokes a method that takes one argument, without creating an array to hold the arguments of the call.
+   *
+   * @param a the argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @see #invoke()
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object a) {
+    return method.invoke(target, a);
+  }
+
+  /**
+   * Invokes a method that takes two arguments, without creating an array to hold the arguments of the call.
+   *
+   * @param a the first argument of the call.
+   * @param b the second argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @see #invoke()
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object a, @Nullable Object b) {
+    return method.invoke(target, a, b);
+  }
+
+  /**
+   * Invokes a method that takes three arguments, without creating an array to hold the arguments of the call.
+   *
+   * @param a the first argument of the call.
+   * @param b the second argument of the call.
+   * @param c the third argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @see #invoke()
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object a, @Nullable Object b, @Nullable Object c) {
+    return method.invoke(target, a, b, c);
+  }
+
+  /**
+   * Invokes a method that takes four arguments, without creating an array to hold the arguments of the call.
+   *
+   * @param a the first argument of the call.
+   * @param b the second argument of the call.
+   * @param c the third argument of the call.
+   * @param d the fourth argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @see #invoke()
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d) {
+    return method.invoke(target, a, b, c, d);
+  }
+
+  /**
+   * Returns a {@link MethodInvoker} that calls the same method, on the same target, using the given engine.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Equivalent to invoking the method 'person.setName("Luke")', using a method handle
+   * {@link org.fest.reflect.core.Reflection#method(String) method}("setName").{@link org.fest.reflect.method.MethodName#withParameterTypes(Class...) withParameterTypes}(String.class)
+   *                  .{@link org.fest.reflect.method.ParameterTypes#in(Object) in}(person)
+   *                  .{@link org.fest.reflect.method.MethodInvoker#using(InvocationEngine) using}({@link InvocationEngine#METHOD_HANDLES METHOD_HANDLES})
+   *                  .{@link org.fest.reflect.method.MethodInvoker#invoke(Object...) invoke}("Luke");
+   * </pre>
+   *
+   * @param engine the engine to use to call the method.
+   * @return a {@code MethodInvoker} that uses the given engine.
+   * @throws NullPointerException if the given engine is {@code null}.
+   * @throws ReflectionError      if the method cannot be called using the given engine.
+   * @since 2.0
+   */
+  public @NotNull MethodInvoker<T> using(@NotNull InvocationEngine engine) {
+    PreparedMethod<T> prepared = method.using(engine);
+    if (prepared == method) {
+      return this;
     }
+    return new MethodInvoker<T>(prepared, target);
   }
 
   /**
-   * @return the underlying method to invoke via Java Reflection.
+   * @return a new copy of the underlying method to invoke via Java Reflection.
    */
   public @NotNull Method target() {
-    return method;
+    return method.target();
   }
 }
@@ -14,7 +14,10 @@
  */
 package org.fest.reflect.method;
 
+import org.fest.reflect.reference.TypeRef;
+
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
@@ -29,11 +32,20 @@ import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 public final class ParameterTypes<T> {
   private final String methodName;
   private final Class<T> returnType;
+  private final TypeRef<T> genericReturnType;
   private final Class<?>[] value;
 
   ParameterTypes(@NotNull String methodName, @NotNull Class<T> returnType, @NotNull Class<?>[] parameterTypes) {
     this.methodName = checkNotNullOrEmpty(methodName);
     this.returnType = checkNotNull(returnType);
+    this.genericReturnType = null;
+    this.value = checkNotNull(parameterTypes);
+  }
+
+  ParameterTypes(@NotNull String methodName, @NotNull TypeRef<T> returnType, @NotNull Class<?>[] parameterTypes) {
+    this.methodName = checkNotNullOrEmpty(methodName);
+    this.returnType = returnType.rawType();
+    this.genericReturnType = returnType;
     this.value = checkNotNull(parameterTypes);
   }
 
@@ -73,6 +85,62 @@ public final class ParameterTypes<T> {
    * @throws NullPointerException if the given target is {@code null}.
    */
   public @NotNull MethodInvoker<T> in(@NotNull Object target) {
+    if (genericReturnType != null) {
+      return new MethodInvoker<T>(methodName, genericReturnType, value, target);
+    }
     return new MethodInvoker<T>(methodName, returnType, value, target);
   }
-}
\ No newline at end of file
+
+  /**
+   * Looks up the method to invoke in the given object or class, like {@link #in(Object)}, but returns {@code null}
+   * instead of throwing an error if a matching method cannot be found. Misses are cached, so probing many objects of
+   * the same type for a member they do not have is cheap.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+   *
+   * MethodInvoker&lt;Void&gt; close = {@link org.fest.reflect.core.Reflection#method(String) method}("close").{@link org.fest.reflect.method.MethodName#find(Object) find}(resource);
+   * if (close != null) {
+   *   close.{@link org.fest.reflect.method.MethodInvoker#invoke() invoke}();
+   * }
+   * </pre>
+   *
+   * @param target the object containing the method to invoke. To look up a static method, pass a class instead.
+   * @return the created method invoker, or {@code null} if a matching method cannot be found.
+   * @throws NullPointerException if the given target is {@code null}.
+   * @since 2.0
+   */
+  public @Nullable MethodInvoker<T> find(@NotNull Object target) {
+    if (genericReturnType != null) {
+      return MethodInvoker.find(methodName, genericReturnType, value, target);
+    }
+    return MethodInvoker.find(methodName, returnType, value, target);
+  }
+
+  /**
+   * Specifies the type containing the method to invoke, so that the method can be invoked on any instance of that type
+   * without looking it up again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+   *
+   * PreparedMethod&lt;Void&gt; setName = {@link org.fest.reflect.core.Reflection#method(String) method}("setName").{@link org.fest.reflect.method.MethodName#withParameterTypes(Class...) withParameterTypes}(String.class)
+   *                                                .{@link org.fest.reflect.method.ParameterTypes#prepare(Class) prepare}(Person.class);
+   * setName.{@link org.fest.reflect.method.PreparedMethod#invoke(Object, Object...) invoke}(person, "Luke");
+   * </pre>
+   *
+   * @param type the type containing the method to invoke.
+   * @return the created prepared method.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws org.fest.reflect.exception.ReflectionError if a matching method cannot be found.
+   * @since 2.0
+   */
+  public @NotNull PreparedMethod<T> prepare(@NotNull Class<?> type) {
+    if (genericReturnType != null) {
+      return new PreparedMethod<T>(methodName, genericReturnType, value, type);
+    }
+    return new PreparedMethod<T>(methodName, returnType, value, type);
+  }
+}
@@ -0,0 +1,462 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.method;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.reference.TypeRef;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.METHOD_INVOCATION;
+import static org.fest.reflect.method.InvocationEngine.METHOD_HANDLES;
+import static org.fest.reflect.method.MethodHandleCache.spreadInvokerFor;
+import static org.fest.reflect.util.GenericTypes.isAssignable;
+import static org.fest.reflect.util.Throwables.targetOf;
+import static org.fest.reflect.util.Types.castSafely;
+import static org.fest.reflect.util.Types.isInstance;
+import static org.fest.util.Arrays.format;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Preconditions.checkNotNullOrEmpty;
+import static org.fest.util.Strings.quote;
+
+/**
+ * Invokes a method, found once in a given type, on any instance of that type using
+ * <a href="http://docs.oracle.com/javase/tutorial/reflect/index.html" target="_blank">Java Reflection</a>.
+ * <p/>
+ * Unlike {@link MethodInvoker}, a {@code PreparedMethod} is not bound to a target: the target is passed on every call,
+ * and the method is not looked up again.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+ *
+ * PreparedMethod&lt;Void&gt; setName = {@link org.fest.reflect.core.Reflection#method(String) method}("setName").{@link org.fest.reflect.method.MethodName#withParameterTypes(Class...) withParameterTypes}(String.class)
+ *                                                .{@link org.fest.reflect.method.ParameterTypes#prepare(Class) prepare}(Person.class);
+ * for (Person person : persons) {
+ *   setName.{@link PreparedMethod#invoke(Object, Object...) invoke}(person, "Luke");
+ * }
+ * </pre>
+ *
+ * @param <T> the return type of the method to invoke.
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class PreparedMethod<T> {
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
+  private final Class<T> returnType;
+  private final Method method;
+  private final InvocationEngine engine;
+  private final MethodHandle methodHandle;
+  private final Class<?>[] parameterTypes;
+  private final boolean checked;
+  private MethodHandle invoker;
+
+  PreparedMethod(@NotNull String methodName, @NotNull Class<T> returnType, @NotNull Class<?>[] parameterTypes,
+                 @NotNull Class<?> type) {
+    this(returnType, findMethodInClassHierarchy(checkNotNullOrEmpty(methodName), checkNotNull(parameterTypes),
+        checkNotNull(type)));
+  }
+
+  PreparedMethod(@NotNull String methodName, @NotNull TypeRef<T> returnType, @NotNull Class<?>[] parameterTypes,
+                 @NotNull Class<?> type) {
+    this(methodName, returnType.rawType(), parameterTypes, type);
+    if (!hasGenericReturnType(returnType.type())) {
+      String format = "Expecting generic return type of method '%s' in %s to be <%s> but was <%s>";
+      throw ReflectionError.of(format, methodName, method.getDeclaringClass().getName(),
+          returnType.type().getTypeName(), method.getGenericReturnType().getTypeName());
+    }
+  }
+
+  private PreparedMethod(@NotNull Class<T> returnType, @NotNull Method method) {
+    this.returnType = checkNotNull(returnType);
+    this.checked = returnsInstancesOf(returnType, method);
+    this.engine = InvocationEngine.getDefault();
+    this.methodHandle = methodHandleFor(method, engine);
+    // the found method was made accessible once, when it was cached, and its accessible flag is never changed again.
+    // Calls from different threads do not race on the flag.
+    this.method = method;
+    this.parameterTypes = method.getParameterTypes();
+  }
+
+  private PreparedMethod(@NotNull PreparedMethod<T> original, @NotNull InvocationEngine engine) {
+    this.returnType = original.returnType;
+    this.checked = original.checked;
+    this.engine = checkNotNull(engine);
+    this.method = original.method;
+    this.methodHandle = methodHandleFor(method, engine);
+    this.parameterTypes = original.parameterTypes;
+    this.invoker = original.invoker;
+  }
+
+  // the values returned by the method do not need to be cast on every call if its return type matches the expected one.
+  private static boolean returnsInstancesOf(@NotNull Class<?> returnType, @NotNull Method method) {
+    Class<?> actualType = method.getReturnType();
+    return actualType == void.class || returnType.isAssignableFrom(actualType);
+  }
+
+  // the generic return type can only be checked if the raw return type matches, otherwise the return value is cast on
+  // every call, as it always was.
+  private boolean hasGenericReturnType(@NotNull Type expected) {
+    return !checked || method.getReturnType() == void.class || isAssignable(expected, method);
+  }
+
+  private static @Nullable MethodHandle methodHandleFor(@NotNull Method method, @NotNull InvocationEngine engine) {
+    return engine == METHOD_HANDLES ? spreadInvokerFor(method) : null;
+  }
+
+  /**
+   * Looks up a method in the given type or any of its superclasses, without throwing an error if it cannot be found.
+   *
+   * @param methodName     the name of the method to find.
+   * @param returnType     the return type of the method to find.
+   * @param parameterTypes the parameter types of the method to find.
+   * @param type           the type where the search starts.
+   * @return the found method, or {@code null} if a matching method cannot be found.
+   */
+  static @Nullable <T> PreparedMethod<T> find(@NotNull String methodName, @NotNull Class<T> returnType,
+                                              @NotNull Class<?>[] parameterTypes, @NotNull Class<?> type) {
+    Method method = MethodCache.findMethodInClassHierarchy(checkNotNull(type), checkNotNullOrEmpty(methodName),
+        checkNotNull(parameterTypes));
+    return method != null ? new PreparedMethod<T>(returnType, method) : null;
+  }
+
+  /**
+   * Looks up a method in the given type or any of its superclasses, without throwing an error if it cannot be found or
+   * if its generic return type does not match the given one.
+   *
+   * @param methodName     the name of the method to find.
+   * @param returnType     the generic return type of the method to find.
+   * @param parameterTypes the parameter types of the method to find.
+   * @param type           the type where the search starts.
+   * @return the found method, or {@code null} if a matching method cannot be found.
+   */
+  static @Nullable <T> PreparedMethod<T> find(@NotNull String methodName, @NotNull TypeRef<T> returnType,
+                                              @NotNull Class<?>[] parameterTypes, @NotNull Class<?> type) {
+    PreparedMethod<T> method = find(methodName, returnType.rawType(), parameterTypes, type);
+    return method != null && method.hasGenericReturnType(returnType.type()) ? method : null;
+  }
+
+  private static @NotNull Method findMethodInClassHierarchy(@NotNull String methodName,
+                                                            @NotNull Class<?>[] parameterTypes,
+                                                            @NotNull Class<?> type) {
+    Method method = MethodCache.findMethodInClassHierarchy(type, methodName, parameterTypes);
+    if (method == null) {
+      String format = "Unable to find method: '%s' in: %s with parameter type(s) %s";
+      throw ReflectionError.of(format, methodName, type.getName(), parameterTypes.clone());
+    }
+    return method;
+  }
+
+  /**
+   * Invokes the method on the given target.
+   *
+   * @param target the object to invoke the method on. It is ignored if the method is static.
+   * @param args   the arguments to use to call the method.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   */
+  public @Nullable T invoke(@Nullable Object target, @NotNull Object... args) {
+    checkNotNull(args);
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = invokeWithArguments(target, args);
+      succeeded = true;
+      return value;
+    } finally {
+      end(METHOD_INVOCATION, succeeded, method, start);
+    }
+  }
+
+  /**
+   * Invokes the method, which must take no arguments, on the given target. Unlike
+   * {@link #invoke(Object, Object...)}, this method does not create an array to hold the arguments of the call: when
+   * the arguments match the parameter types of the method, the method is called through a {@code MethodHandle}
+   * created once per method, regardless of the {@link InvocationEngine} in use.
+   *
+   * @param target the object to invoke the method on. It is ignored if the method is static.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object target) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = call(target);
+      succeeded = true;
+      return value;
+    } finally {
+      end(METHOD_INVOCATION, succeeded, method, start);
+    }
+  }
+
+  private @Nullable T call(@Nullable Object target) {
+    MethodHandle invoker = invokerFor(0);
+    if (invoker == null) {
+      return invokeWithArguments(target, NO_ARGUMENTS);
+    }
+    try {
+      return cast((Object) invoker.invokeExact(target));
+    } catch (Throwable t) {
+      throw failedToInvoke(t, NO_ARGUMENTS);
+    }
+  }
+
+  /**
+   * Invokes the method, which must take one argument, on the given target without creating an array to hold the
+   * arguments of the call. See {@link #invoke(Object)} for details.
+   *
+   * @param target the object to invoke the method on. It is ignored if the method is static.
+   * @param a      the argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object target, @Nullable Object a) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = call(target, a);
+      succeeded = true;
+      return value;
+    } finally {
+      end(METHOD_INVOCATION, succeeded, method, start);
+    }
+  }
+
+  private @Nullable T call(@Nullable Object target, @Nullable Object a) {
+    MethodHandle invoker = invokerFor(1);
+    if (invoker == null || !accepts(0, a)) {
+      return invokeWithArguments(target, new Object[] { a });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(target, a));
+    } catch (Throwable t) {
+      throw failedToInvoke(t, new Object[] { a });
+    }
+  }
+
+  /**
+   * Invokes the method, which must take two arguments, on the given target without creating an array to hold the
+   * arguments of the call. See {@link #invoke(Object)} for details.
+   *
+   * @param target the object to invoke the method on. It is ignored if the method is static.
+   * @param a      the first argument of the call.
+   * @param b      the second argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object target, @Nullable Object a, @Nullable Object b) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = call(target, a, b);
+      succeeded = true;
+      return value;
+    } finally {
+      end(METHOD_INVOCATION, succeeded, method, start);
+    }
+  }
+
+  private @Nullable T call(@Nullable Object target, @Nullable Object a, @Nullable Object b) {
+    MethodHandle invoker = invokerFor(2);
+    if (invoker == null || !accepts(0, a) || !accepts(1, b)) {
+      return invokeWithArguments(target, new Object[] { a, b });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(target, a, b));
+    } catch (Throwable t) {
+      throw failedToInvoke(t, new Object[] { a, b });
+    }
+  }
+
+  /**
+   * Invokes the method, which must take three arguments, on the given target without creating an array to hold the
+   * arguments of the call. See {@link #invoke(Object)} for details.
+   *
+   * @param target the object to invoke the method on. It is ignored if the method is static.
+   * @param a      the first argument of the call.
+   * @param b      the second argument of the call.
+   * @param c      the third argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object target, @Nullable Object a, @Nullable Object b, @Nullable Object c) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = call(target, a, b, c);
+      succeeded = true;
+      return value;
+    } finally {
+      end(METHOD_INVOCATION, succeeded, method, start);
+    }
+  }
+
+  private @Nullable T call(@Nullable Object target, @Nullable Object a, @Nullable Object b, @Nullable Object c) {
+    MethodHandle invoker = invokerFor(3);
+    if (invoker == null || !accepts(0, a) || !accepts(1, b) || !accepts(2, c)) {
+      return invokeWithArguments(target, new Object[] { a, b, c });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(target, a, b, c));
+    } catch (Throwable t) {
+      throw failedToInvoke(t, new Object[] { a, b, c });
+    }
+  }
+
+  /**
+   * Invokes the method, which must take four arguments, on the given target without creating an array to hold the
+   * arguments of the call. See {@link #invoke(Object)} for details.
+   *
+   * @param target the object to invoke the method on. It is ignored if the method is static.
+   * @param a      the first argument of the call.
+   * @param b      the second argument of the call.
+   * @param c      the third argument of the call.
+   * @param d      the fourth argument of the call.
+   * @return the result of the method call.
+   * @throws ReflectionError if the method cannot be invoked.
+   * @since 2.0
+   */
+  public @Nullable T invoke(@Nullable Object target, @Nullable Object a, @Nullable Object b, @Nullable Object c,
+                            @Nullable Object d) {
+    long start = start();
+    boolean succeeded = false;
+    try {
+      T value = call(target, a, b, c, d);
+      succeeded = true;
+      return value;
+    } finally {
+      end(METHOD_INVOCATION, succeeded, method, start);
+    }
+  }
+
+  private @Nullable T call(@Nullable Object target, @Nullable Object a, @Nullable Object b, @Nullable Object c,
+                           @Nullable Object d) {
+    MethodHandle invoker = invokerFor(4);
+    if (invoker == null || !accepts(0, a) || !accepts(1, b) || !accepts(2, c) || !accepts(3, d)) {
+      return invokeWithArguments(target, new Object[] { a, b, c, d });
+    }
+    try {
+      return cast((Object) invoker.invokeExact(target, a, b, c, d));
+    } catch (Throwable t) {
+      throw failedToInvoke(t, new Object[] { a, b, c, d });
+    }
+  }
+
+  private @Nullable T invokeWithArguments(@Nullable Object target, @NotNull Object[] args) {
+    if (methodHandle != null) {
+      return invokeWithMethodHandle(methodHandle, target, args);
+    }
+    try {
+      Object returnValue = method.invoke(target, args);
+      return cast(returnValue);
+    } catch (Throwable t) {
+      throw failedToInvoke(t, args);
+    }
+  }
+
+  private @Nullable T invokeWithMethodHandle(@NotNull MethodHandle methodHandle, @Nullable Object target,
+                                             @NotNull Object[] args) {
+    try {
+      Object returnValue = (Object) methodHandle.invokeExact(target, args);
+      return cast(returnValue);
+    } catch (Throwable t) {
+      throw failedToInvoke(t, args);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable T cast(@Nullable Object returnValue) {
+    // the return type of the method was checked when it was found, the value does not need to be checked again.
+    return checked ? (T) returnValue : castSafely(returnValue, returnType);
+  }
+
+  // Returns null if the method does not take the given number of arguments, or if a method handle cannot be created for
+  // it. In both cases, the caller falls back to invoking the method with an array of arguments, which reports errors
+  // the same way as Method.invoke.
+  private @Nullable MethodHandle invokerFor(int argumentCount) {
+    if (parameterTypes.length != argumentCount) {
+      return null;
+    }
+    MethodHandle handle = invoker;
+    if (handle == null) {
+      try {
+        handle = MethodHandleCache.invokerFor(method);
+      } catch (ReflectionError e) {
+        return null;
+      }
+      invoker = handle;
+    }
+    return handle;
+  }
+
+  private boolean accepts(int index, @Nullable Object argument) {
+    return isInstance(parameterTypes[index], argument);
+  }
+
+  private @NotNull RuntimeException failedToInvoke(@NotNull Throwable t, @NotNull Object[] args) {
+    Throwable cause = targetOf(t);
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    String format = "Unable to invoke method %s with arguments %s";
+    return new ReflectionError(String.format(format, quote(method.getName()), format(args)), cause);
+  }
+
+  /**
+   * Returns a {@link PreparedMethod} that calls the same method using the given engine.
+   *
+   * @param engine the engine to use to call the method.
+   * @return a {@code PreparedMethod} that uses the given engine.
+   * @throws NullPointerException if the given engine is {@code null}.
+   * @throws ReflectionError      if the method cannot be called using the given engine.
+   * @see MethodInvoker#using(InvocationEngine)
+   */
+  public @NotNull PreparedMethod<T> using(@NotNull InvocationEngine engine) {
+    if (engine == this.engine) {
+      return this;
+    }
+    return new PreparedMethod<T>(this, engine);
+  }
+
+  /**
+   * Binds this method to the given target, without looking up the method again.
+   *
+   * @param target the object containing the method to invoke. To invoke a static method, pass a class instead.
+   * @return a {@link MethodInvoker} that invokes this method on the given target.
+   * @throws NullPointerException if the given target is {@code null}.
+   */
+  public @NotNull MethodInvoker<T> in(@NotNull Object target) {
+    return new MethodInvoker<T>(this, target);
+  }
+
+  /**
+   * @return a new copy of the underlying method to invoke via Java Reflection.
+   */
+  public @NotNull Method target() {
+    return MethodCache.copyOf(method);
+  }
+}
@@ -15,6 +15,7 @@
 package org.fest.reflect.method;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
@@ -116,4 +117,51 @@ public class ReturnType<T> {
   public @NotNull MethodInvoker<T> in(@NotNull Object target) {
     return new MethodInvoker<T>(methodName, value, new Class<?>[0], target);
   }
-}
\ No newline at end of file
+
+  /**
+   * Looks up the method to invoke in the given object or class, like {@link #in(Object)}, but returns {@code null}
+   * instead of throwing an error if a matching method cannot be found. Misses are cached, so probing many objects of
+   * the same type for a member they do not have is cheap.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+   *
+   * MethodInvoker&lt;Void&gt; close = {@link org.fest.reflect.core.Reflection#method(String) method}("close").{@link org.fest.reflect.method.MethodName#find(Object) find}(resource);
+   * if (close != null) {
+   *   close.{@link org.fest.reflect.method.MethodInvoker#invoke() invoke}();
+   * }
+   * </pre>
+   *
+   * @param target the object containing the method to invoke. To look up a static method, pass a class instead.
+   * @return the created method invoker, or {@code null} if a matching method cannot be found.
+   * @throws NullPointerException if the given target is {@code null}.
+   * @since 2.0
+   */
+  public @Nullable MethodInvoker<T> find(@NotNull Object target) {
+    return MethodInvoker.find(methodName, value, new Class<?>[0], target);
+  }
+
+  /**
+   * Specifies the type containing the method to invoke, so that the method can be invoked on any instance of that type
+   * without looking it up again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+   *
+   * PreparedMethod&lt;String&gt; getName = {@link org.fest.reflect.core.Reflection#method(String) method}("getName").{@link org.fest.reflect.method.MethodName#withReturnType(Class) withReturnType}(String.class)
+   *                                                  .{@link org.fest.reflect.method.ReturnType#prepare(Class) prepare}(Person.class);
+   * String name = getName.{@link org.fest.reflect.method.PreparedMethod#invoke(Object, Object...) invoke}(person);
+   * </pre>
+   *
+   * @param type the type containing the method to invoke.
+   * @return the created prepared method.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws org.fest.reflect.exception.ReflectionError if a matching method cannot be found.
+   * @since 2.0
+   */
+  public @NotNull PreparedMethod<T> prepare(@NotNull Class<?> type) {
+    return new PreparedMethod<T>(methodName, value, new Class<?>[0], type);
+  }
+}
@@ -17,6 +17,7 @@ package org.fest.reflect.method;
 import org.fest.reflect.reference.TypeRef;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
@@ -79,7 +80,7 @@ public class ReturnTypeRef<T> {
    * @throws NullPointerException if the array of parameter types is {@code null}.
    */
   public @NotNull ParameterTypes<T> withParameterTypes(@NotNull Class<?>... parameterTypes) {
-    return new ParameterTypes<T>(methodName, value.rawType(), parameterTypes);
+    return new ParameterTypes<T>(methodName, value, parameterTypes);
   }
 
   /**
@@ -118,6 +119,53 @@ public class ReturnTypeRef<T> {
    * @throws NullPointerException if the given target is {@code null}.
    */
   public @NotNull MethodInvoker<T> in(@NotNull Object target) {
-    return new MethodInvoker<T>(methodName, value.rawType(), new Class<?>[0], target);
+    return new MethodInvoker<T>(methodName, value, new Class<?>[0], target);
   }
-}
\ No newline at end of file
+
+  /**
+   * Looks up the method to invoke in the given object or class, like {@link #in(Object)}, but returns {@code null}
+   * instead of throwing an error if a matching method cannot be found. Misses are cached, so probing many objects of
+   * the same type for a member they do not have is cheap.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+   *
+   * MethodInvoker&lt;Void&gt; close = {@link org.fest.reflect.core.Reflection#method(String) method}("close").{@link org.fest.reflect.method.MethodName#find(Object) find}(resource);
+   * if (close != null) {
+   *   close.{@link org.fest.reflect.method.MethodInvoker#invoke() invoke}();
+   * }
+   * </pre>
+   *
+   * @param target the object containing the method to invoke. To look up a static method, pass a class instead.
+   * @return the created method invoker, or {@code null} if a matching method cannot be found.
+   * @throws NullPointerException if the given target is {@code null}.
+   * @since 2.0
+   */
+  public @Nullable MethodInvoker<T> find(@NotNull Object target) {
+    return MethodInvoker.find(methodName, value, new Class<?>[0], target);
+  }
+
+  /**
+   * Specifies the type containing the method to invoke, so that the method can be invoked on any instance of that type
+   * without looking it up again.
+   * <p/>
+   * Example:
+   * <pre>
+   * // import static {@link org.fest.reflect.core.Reflection#method(String) org.fest.reflect.core.Reflection.method};
+   *
+   * PreparedMethod&lt;List&lt;String&gt;&gt; getPowers = {@link org.fest.reflect.core.Reflection#method(String) method}("getPowers").{@link org.fest.reflect.method.MethodName#withReturnType(org.fest.reflect.reference.TypeRef) withReturnType}(new {@link org.fest.reflect.reference.TypeRef TypeRef}&lt;List&lt;String&gt;&gt;() {})
+   *                                                              .{@link org.fest.reflect.method.ReturnTypeRef#prepare(Class) prepare}(Jedi.class);
+   * List&lt;String&gt; powers = getPowers.{@link org.fest.reflect.method.PreparedMethod#invoke(Object, Object...) invoke}(jedi);
+   * </pre>
+   *
+   * @param type the type containing the method to invoke.
+   * @return the created prepared method.
+   * @throws NullPointerException if the given type is {@code null}.
+   * @throws org.fest.reflect.exception.ReflectionError if a matching method cannot be found.
+   * @since 2.0
+   */
+  public @NotNull PreparedMethod<T> prepare(@NotNull Class<?> type) {
+    return new PreparedMethod<T>(methodName, value, new Class<?>[0], type);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.reflect.metrics.Outcome.FAILURE;
+import static org.fest.reflect.metrics.Outcome.HIT;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * {@link ReflectionListener} that records slow operations as
+ * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/jdk.jfr/jdk/jfr/package-summary.html" target="_blank">Java Flight Recorder</a> events,
+ * so latency spikes found in a flight recording can be attributed to the reflective call site that caused them.
+ * <p/>
+ * Lookups of members and types are recorded as {@code org.fest.reflect.Lookup} events, and accesses to members as
+ * {@code org.fest.reflect.Invocation} events. Both include the operation, the class and name of the member, the
+ * duration of the operation and the stack trace of the caller; lookups also indicate whether they were served by a
+ * cache. Only operations taking at least the threshold of their kind are recorded, 1 millisecond by default. Events are
+ * recorded only while a recording with these events enabled is running.
+ * <p/>
+ * Example:
+ * <pre>
+ * FlightRecorderEvents events = new FlightRecorderEvents();
+ * events.{@link #withThreshold(Operation, long, TimeUnit) withThreshold}({@link Operation#METHOD_INVOCATION METHOD_INVOCATION}, 10, MILLISECONDS);
+ * {@link Instrumentation#addListener(ReflectionListener) Instrumentation.addListener}(events);
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class FlightRecorderEvents implements ReflectionListener {
+  private static final long DEFAULT_THRESHOLD_NANOS = MILLISECONDS.toNanos(1);
+
+  private final long[] thresholds = new long[Operation.values().length];
+
+  /**
+   * Creates a new {@link FlightRecorderEvents}, using a threshold of 1 millisecond for all operations.
+   */
+  public FlightRecorderEvents() {
+    for (int i = 0; i < thresholds.length; i++) {
+      thresholds[i] = DEFAULT_THRESHOLD_NANOS;
+    }
+  }
+
+  /**
+   * Specifies the minimum duration an operation must take to be recorded. Thresholds must be specified before this
+   * listener is registered.
+   *
+   * @param operation the operation.
+   * @param threshold the minimum duration; {@code 0} records every operation.
+   * @param unit      the unit of the given duration.
+   * @return this listener.
+   * @throws NullPointerException     if the given operation or unit is {@code null}.
+   * @throws IllegalArgumentException if the given duration is negative.
+   */
+  public @NotNull FlightRecorderEvents withThreshold(@NotNull Operation operation, long threshold,
+                                                     @NotNull TimeUnit unit) {
+    checkNotNull(operation);
+    if (threshold < 0) {
+      throw new IllegalArgumentException("The threshold should not be negative");
+    }
+    thresholds[operation.ordinal()] = checkNotNull(unit).toNanos(threshold);
+    return this;
+  }
+
+  /**
+   * Returns the minimum duration the given operation must take to be recorded.
+   *
+   * @param operation the operation.
+   * @return the threshold of the given operation, in nanoseconds.
+   */
+  public long thresholdNanos(@NotNull Operation operation) {
+    return thresholds[operation.ordinal()];
+  }
+
+  // Instrumentation always reports the class and the name of the member, operations without them are not recorded.
+  @Override
+  public void operationCompleted(@NotNull Operation operation, @NotNull Outcome outcome, long durationNanos) {
+  }
+
+  @Override
+  public void operationCompleted(@NotNull Operation operation, @NotNull Outcome outcome, @Nullable Class<?> type,
+                                 @NotNull String name, long durationNanos) {
+    if (durationNanos < thresholds[operation.ordinal()]) {
+      return;
+    }
+    if (isLookup(operation)) {
+      LookupEvent event = new LookupEvent();
+      if (event.isEnabled()) {
+        event.operation = operation.name();
+        event.type = type;
+        event.name = name;
+        event.cacheHit = outcome == HIT;
+        event.found = outcome != FAILURE;
+        event.lookupTime = durationNanos;
+        event.commit();
+      }
+      return;
+    }
+    InvocationEvent event = new InvocationEvent();
+    if (event.isEnabled()) {
+      event.operation = operation.name();
+      event.type = type;
+      event.name = name;
+      event.succeeded = outcome != FAILURE;
+      event.invocationTime = durationNanos;
+      event.commit();
+    }
+  }
+
+  private static boolean isLookup(@NotNull Operation operation) {
+    switch (operation) {
+      case FIELD_ACCESS:
+      case METHOD_INVOCATION:
+      case CONSTRUCTOR_INVOCATION:
+      case PROPERTY_ACCESS:
+        return false;
+      default:
+        return true;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import org.fest.util.InternalApi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.util.Arrays;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Reports the lookups and invocations performed by this library to the registered {@link ReflectionListener}s.
+ * <p/>
+ * Instrumentation is disabled until a listener is registered. While disabled, every operation costs only one volatile
+ * read: no time is measured and no listener is called.
+ * <p/>
+ * Example:
+ * <pre>
+ * ReflectionStatistics statistics = new ReflectionStatistics();
+ * {@link Instrumentation#addListener(ReflectionListener) Instrumentation.addListener}(statistics);
+ * statistics.{@link ReflectionStatistics#registerMBean() registerMBean}();
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class Instrumentation {
+  private static final long DISABLED = Long.MIN_VALUE;
+  private static final ReflectionListener[] NO_LISTENERS = new ReflectionListener[0];
+
+  private static volatile ReflectionListener[] listeners = NO_LISTENERS;
+
+  private Instrumentation() {
+  }
+
+  /**
+   * Registers the given listener. Registering the same listener more than once has no effect.
+   *
+   * @param listener the listener to register.
+   * @throws NullPointerException if the given listener is {@code null}.
+   */
+  public static synchronized void addListener(@NotNull ReflectionListener listener) {
+    checkNotNull(listener);
+    ReflectionListener[] current = listeners;
+    for (ReflectionListener registered : current) {
+      if (registered == listener) {
+        return;
+      }
+    }
+    ReflectionListener[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = listener;
+    listeners = updated;
+  }
+
+  /**
+   * Removes the given listener. Instrumentation is disabled again once the last listener is removed.
+   *
+   * @param listener the listener to remove.
+   */
+  public static synchronized void removeListener(@NotNull ReflectionListener listener) {
+    ReflectionListener[] current = listeners;
+    for (int i = 0; i < current.length; i++) {
+      if (current[i] == listener) {
+        ReflectionListener[] updated = new ReflectionListener[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, i);
+        System.arraycopy(current, i + 1, updated, i, updated.length - i);
+        listeners = updated.length == 0 ? NO_LISTENERS : updated;
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if at least one listener is registered; {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+    return listeners.length != 0;
+  }
+
+  /**
+   * Marks the start of an operation.
+   *
+   * @return the value to pass to {@link #end(Operation, Outcome, Class, String, long)} once the operation completes.
+   */
+  @InternalApi
+  public static long start() {
+    return listeners.length == 0 ? DISABLED : System.nanoTime();
+  }
+
+  /**
+   * Reports a completed operation to the registered listeners.
+   *
+   * @param operation the operation.
+   * @param outcome   the outcome of the operation.
+   * @param type      the class the operation was performed on, or {@code null} when loading a type.
+   * @param name      the name of the member or type the operation was performed on.
+   * @param start     the value returned by {@link #start()} when the operation started.
+   */
+  @InternalApi
+  public static void end(@NotNull Operation operation, @NotNull Outcome outcome, @Nullable Class<?> type,
+                         @NotNull String name, long start) {
+    if (start == DISABLED) {
+      return;
+    }
+    long durationNanos = System.nanoTime() - start;
+    for (ReflectionListener listener : listeners) {
+      try {
+        listener.operationCompleted(operation, outcome, type, name, durationNanos);
+      } catch (RuntimeException ignored) {
+        // a broken listener must not break the code using this library.
+      }
+    }
+  }
+
+  /**
+   * Reports a completed operation, which does not use a cache, to the registered listeners.
+   *
+   * @param operation the operation.
+   * @param succeeded indicates whether the operation completed normally.
+   * @param type      the class the operation was performed on, or {@code null} when loading a type.
+   * @param name      the name of the member or type the operation was performed on.
+   * @param start     the value returned by {@link #start()} when the operation started.
+   */
+  @InternalApi
+  public static void end(@NotNull Operation operation, boolean succeeded, @Nullable Class<?> type,
+                         @NotNull String name, long start) {
+    if (start != DISABLED) {
+      end(operation, succeeded ? Outcome.SUCCESS : Outcome.FAILURE, type, name, start);
+    }
+  }
+
+  /**
+   * Reports a completed access to the given member to the registered listeners.
+   *
+   * @param operation the operation.
+   * @param succeeded indicates whether the operation completed normally.
+   * @param member    the accessed field, method or constructor.
+   * @param start     the value returned by {@link #start()} when the operation started.
+   */
+  @InternalApi
+  public static void end(@NotNull Operation operation, boolean succeeded, @NotNull Member member, long start) {
+    if (start != DISABLED) {
+      String name = member instanceof Constructor ? "<init>" : member.getName();
+      end(operation, succeeded ? Outcome.SUCCESS : Outcome.FAILURE, member.getDeclaringClass(), name, start);
+    }
+  }
+}
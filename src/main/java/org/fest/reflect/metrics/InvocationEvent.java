@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a slow field or property access, method invocation or constructor invocation.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+@Name(InvocationEvent.NAME)
+@Label("Reflective Invocation")
+@Description("A slow access to a member performed by FEST-Reflect")
+@Category("FEST-Reflect")
+@StackTrace
+@Threshold("0 ns")
+final class InvocationEvent extends jdk.jfr.Event {
+  static final String NAME = "org.fest.reflect.Invocation";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Declaring Class")
+  Class<?> type;
+
+  @Label("Name")
+  @Description("The name of the member")
+  String name;
+
+  @Label("Succeeded")
+  boolean succeeded;
+
+  @Label("Invocation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long invocationTime;
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a slow lookup of a field, method, constructor, property, inner class or type.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+@Name(LookupEvent.NAME)
+@Label("Reflective Lookup")
+@Description("A slow lookup of a member or type performed by FEST-Reflect")
+@Category("FEST-Reflect")
+@StackTrace
+@Threshold("0 ns")
+final class LookupEvent extends jdk.jfr.Event {
+  static final String NAME = "org.fest.reflect.Lookup";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Class")
+  @Description("The class the member was looked up in")
+  Class<?> type;
+
+  @Label("Name")
+  @Description("The name of the member or type")
+  String name;
+
+  @Label("Cache Hit")
+  boolean cacheHit;
+
+  @Label("Found")
+  boolean found;
+
+  @Label("Lookup Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long lookupTime;
+}
@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+/**
+ * An operation reported to {@link ReflectionListener}s.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public enum Operation {
+  /** Looking up a field in a type and its superclasses. */
+  FIELD_LOOKUP,
+
+  /** Reading or writing the value of a field. */
+  FIELD_ACCESS,
+
+  /** Looking up a method in a type and its superclasses. */
+  METHOD_LOOKUP,
+
+  /** Invoking a method. */
+  METHOD_INVOCATION,
+
+  /** Looking up a constructor in a type. */
+  CONSTRUCTOR_LOOKUP,
+
+  /** Creating a new instance using a constructor. */
+  CONSTRUCTOR_INVOCATION,
+
+  /** Looking up a JavaBeans property in a type. */
+  PROPERTY_LOOKUP,
+
+  /** Reading or writing the value of a JavaBeans property. */
+  PROPERTY_ACCESS,
+
+  /** Loading a class by name. */
+  TYPE_LOAD,
+
+  /** Looking up a static inner class. */
+  INNER_CLASS_LOOKUP
+}
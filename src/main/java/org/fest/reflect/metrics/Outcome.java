@@ -0,0 +1,35 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+/**
+ * The outcome of an {@link Operation} reported to {@link ReflectionListener}s.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public enum Outcome {
+  /** A lookup whose result was found in a cache. */
+  HIT,
+
+  /** A lookup whose result was not cached, and was found by searching the type. */
+  MISS,
+
+  /** An operation that does not use a cache, like an invocation, that completed normally. */
+  SUCCESS,
+
+  /** A lookup that did not find a matching member, or an operation that threw an exception. */
+  FAILURE
+}
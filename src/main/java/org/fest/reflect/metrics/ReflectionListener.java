@@ -0,0 +1,56 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the lookups and invocations performed by this library, to export them to a metrics system. Listeners are
+ * registered using {@link Instrumentation#addListener(ReflectionListener)}.
+ * <p/>
+ * Listeners are called synchronously, by the thread that performed the operation, so they must be thread-safe and
+ * fast. Exceptions thrown by a listener are ignored.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public interface ReflectionListener {
+  /**
+   * Called after an operation completes.
+   *
+   * @param operation     the operation.
+   * @param outcome       the outcome of the operation.
+   * @param durationNanos how long the operation took, in nanoseconds.
+   */
+  void operationCompleted(@NotNull Operation operation, @NotNull Outcome outcome, long durationNanos);
+
+  /**
+   * Called after an operation completes, with the class and the name of the member the operation was performed on.
+   * The default implementation calls {@link #operationCompleted(Operation, Outcome, long)}.
+   *
+   * @param operation     the operation.
+   * @param outcome       the outcome of the operation.
+   * @param type          the class the operation was performed on: the class a member was looked up in, or the class
+   *                      declaring the accessed member. It is {@code null} when loading a type.
+   * @param name          the name of the member, or the name of the type for lookups of types and inner classes.
+   *                      Constructors are named {@code "<init>"}.
+   * @param durationNanos how long the operation took, in nanoseconds.
+   */
+  default void operationCompleted(@NotNull Operation operation, @NotNull Outcome outcome, @Nullable Class<?> type,
+                                  @NotNull String name, long durationNanos) {
+    operationCompleted(operation, outcome, durationNanos);
+  }
+}
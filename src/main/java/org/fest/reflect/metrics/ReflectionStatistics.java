@@ -0,0 +1,209 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
+
+import org.jetbrains.annotations.NotNull;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ReflectionListener} that keeps counters and latency histograms of the operations performed by this library,
+ * and exposes them through JMX.
+ * <p/>
+ * Example:
+ * <pre>
+ * ReflectionStatistics statistics = new ReflectionStatistics();
+ * {@link Instrumentation#addListener(ReflectionListener) Instrumentation.addListener}(statistics);
+ * statistics.{@link #registerMBean() registerMBean}();
+ *
+ * long hits = statistics.{@link #count(Operation, Outcome) count}({@link Operation#METHOD_LOOKUP METHOD_LOOKUP}, {@link Outcome#HIT HIT});
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class ReflectionStatistics implements ReflectionListener, ReflectionStatisticsMXBean {
+  /**
+   * The name this MBean is registered with.
+   */
+  public static final String OBJECT_NAME = "org.fest.reflect:type=ReflectionStatistics";
+
+  private static final Operation[] OPERATIONS = Operation.values();
+  private static final Outcome[] OUTCOMES = Outcome.values();
+  private static final int BUCKET_COUNT = 64;
+
+  private final LongAdder[] counts = new LongAdder[OPERATIONS.length * OUTCOMES.length];
+  private final LongAdder[] totalTimes = new LongAdder[OPERATIONS.length];
+  private final AtomicLongArray[] histograms = new AtomicLongArray[OPERATIONS.length];
+
+  /**
+   * Creates a new {@link ReflectionStatistics}.
+   */
+  public ReflectionStatistics() {
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = new LongAdder();
+    }
+    for (int i = 0; i < OPERATIONS.length; i++) {
+      totalTimes[i] = new LongAdder();
+      histograms[i] = new AtomicLongArray(BUCKET_COUNT);
+    }
+  }
+
+  @Override
+  public void operationCompleted(@NotNull Operation operation, @NotNull Outcome outcome, long durationNanos) {
+    int index = operation.ordinal();
+    counts[index * OUTCOMES.length + outcome.ordinal()].increment();
+    long duration = Math.max(durationNanos, 0);
+    totalTimes[index].add(duration);
+    histograms[index].incrementAndGet(bucketOf(duration));
+  }
+
+  // bucket i holds durations in [2^i, 2^(i + 1)), durations of 0 and 1 nanoseconds go to the first bucket.
+  private static int bucketOf(long durationNanos) {
+    return durationNanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(durationNanos);
+  }
+
+  /**
+   * Returns the number of completed operations with the given outcome.
+   *
+   * @param operation the operation.
+   * @param outcome   the outcome of the operation.
+   * @return the number of completed operations with the given outcome.
+   */
+  public long count(@NotNull Operation operation, @NotNull Outcome outcome) {
+    return counts[operation.ordinal() * OUTCOMES.length + outcome.ordinal()].sum();
+  }
+
+  /**
+   * Returns the total time spent in the given operation.
+   *
+   * @param operation the operation.
+   * @return the total time spent in the given operation, in nanoseconds.
+   */
+  public long totalTimeNanos(@NotNull Operation operation) {
+    return totalTimes[operation.ordinal()].sum();
+  }
+
+  /**
+   * Returns the latency histogram of the given operation.
+   *
+   * @param operation the operation.
+   * @return the latency histogram of the given operation. The element at index {@code i} is the number of operations
+   *         that took between 2<sup>i</sup> and 2<sup>i+1</sup> nanoseconds.
+   */
+  public @NotNull long[] latencyHistogram(@NotNull Operation operation) {
+    AtomicLongArray histogram = histograms[operation.ordinal()];
+    long[] buckets = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = histogram.get(i);
+    }
+    return buckets;
+  }
+
+  @Override
+  public Map<String, Long> getCounts() {
+    Map<String, Long> result = new LinkedHashMap<String, Long>();
+    for (Operation operation : OPERATIONS) {
+      for (Outcome outcome : OUTCOMES) {
+        result.put(operation.name() + "." + outcome.name(), count(operation, outcome));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, Long> getTotalTimeNanos() {
+    Map<String, Long> result = new LinkedHashMap<String, Long>();
+    for (Operation operation : OPERATIONS) {
+      result.put(operation.name(), totalTimeNanos(operation));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, long[]> getLatencyHistograms() {
+    Map<String, long[]> result = new LinkedHashMap<String, long[]>();
+    for (Operation operation : OPERATIONS) {
+      result.put(operation.name(), latencyHistogram(operation));
+    }
+    return result;
+  }
+
+  @Override
+  public int getCachedTypeCount() {
+    return ClassMetadata.cachedTypes().size();
+  }
+
+  @Override
+  public void reset() {
+    for (LongAdder count : counts) {
+      count.reset();
+    }
+    for (int i = 0; i < OPERATIONS.length; i++) {
+      totalTimes[i].reset();
+      for (int j = 0; j < BUCKET_COUNT; j++) {
+        histograms[i].set(j, 0);
+      }
+    }
+  }
+
+  @Override
+  public void clearCaches() {
+    ClassMetadata.clear();
+  }
+
+  /**
+   * Registers this object in the platform {@code MBeanServer}, using the name {@link #OBJECT_NAME}.
+   *
+   * @throws ReflectionError if this object cannot be registered.
+   */
+  public void registerMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName());
+    } catch (Exception e) {
+      throw ReflectionError.of(e, "Unable to register MBean %s", OBJECT_NAME);
+    }
+  }
+
+  /**
+   * Removes the MBean registered with the name {@link #OBJECT_NAME} from the platform {@code MBeanServer}, if any.
+   *
+   * @throws ReflectionError if the MBean cannot be removed.
+   */
+  public static void unregisterMBean() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = objectName();
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    } catch (Exception e) {
+      throw ReflectionError.of(e, "Unable to unregister MBean %s", OBJECT_NAME);
+    }
+  }
+
+  private static @NotNull ObjectName objectName() throws MalformedObjectNameException {
+    return new ObjectName(OBJECT_NAME);
+  }
+}
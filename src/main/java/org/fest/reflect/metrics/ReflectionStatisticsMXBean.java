@@ -0,0 +1,57 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ReflectionStatistics}.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public interface ReflectionStatisticsMXBean {
+  /**
+   * @return the number of completed operations, keyed by operation and outcome (for example,
+   *         {@code "METHOD_LOOKUP.HIT"}.)
+   */
+  Map<String, Long> getCounts();
+
+  /**
+   * @return the total time spent in each operation, in nanoseconds, keyed by operation.
+   */
+  Map<String, Long> getTotalTimeNanos();
+
+  /**
+   * @return the latency histogram of each operation, keyed by operation. The element at index {@code i} of a histogram
+   *         is the number of operations that took between 2<sup>i</sup> and 2<sup>i+1</sup> nanoseconds.
+   */
+  Map<String, long[]> getLatencyHistograms();
+
+  /**
+   * @return the number of classes whose reflection metadata is currently cached.
+   */
+  int getCachedTypeCount();
+
+  /**
+   * Resets all counters and histograms.
+   */
+  void reset();
+
+  /**
+   * Removes the cached reflection metadata of all classes.
+   */
+  void clearCaches();
+}
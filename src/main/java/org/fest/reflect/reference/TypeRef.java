@@ -15,11 +15,13 @@
 package org.fest.reflect.reference;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
 
 import org.jetbrains.annotations.NotNull;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
 import static org.fest.util.Preconditions.checkNotNull;
 
 /**
@@ -34,6 +36,15 @@ import static org.fest.util.Preconditions.checkNotNull;
  * @since 1.1
  */
 public abstract class TypeRef<T> {
+  // the generic type of a reference is constant per subclass, it is resolved only once.
+  private static final ClassMetadata.Key<Resolved> RESOLVED = new ClassMetadata.Key<Resolved>() {
+    @Override
+    protected @NotNull Resolved create(@NotNull Class<?> type) {
+      return resolve(type);
+    }
+  };
+
+  private final Type type;
   private final Class<T> rawType;
 
   /**
@@ -43,13 +54,32 @@ public abstract class TypeRef<T> {
    */
   @SuppressWarnings("unchecked")
   public TypeRef() {
-    Type superclass = getClass().getGenericSuperclass();
+    Resolved resolved = metadataOf(getClass()).get(RESOLVED);
+    type = resolved.type;
+    rawType = (Class<T>) resolved.rawType;
+  }
+
+  private static @NotNull Resolved resolve(@NotNull Class<?> typeRefType) {
+    Type superclass = typeRefType.getGenericSuperclass();
     if (superclass instanceof Class<?>) {
       throw new ReflectionError("Missing type parameter.");
     }
     Type type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
-    rawType = type instanceof Class<?> ? (Class<T>) type : (Class<T>) ((ParameterizedType) type).getRawType();
-    checkNotNull(rawType);
+    if (type instanceof Class<?>) {
+      return new Resolved(type, (Class<?>) type);
+    }
+    if (type instanceof ParameterizedType) {
+      return new Resolved(type, checkNotNull((Class<?>) ((ParameterizedType) type).getRawType()));
+    }
+    throw ReflectionError.of("Unable to resolve the raw type of %s", type);
+  }
+
+  /**
+   * @return the generic type in this reference, including its type arguments.
+   * @since 2.0
+   */
+  public final @NotNull Type type() {
+    return type;
   }
 
   /**
@@ -58,4 +88,14 @@ public abstract class TypeRef<T> {
   public final @NotNull Class<T> rawType() {
     return rawType;
   }
+
+  private static class Resolved {
+    final Type type;
+    final Class<?> rawType;
+
+    Resolved(@NotNull Type type, @NotNull Class<?> rawType) {
+      this.type = type;
+      this.rawType = rawType;
+    }
+  }
 }
@@ -0,0 +1,52 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.type;
+
+/**
+ * Indicates when the static initializers of the classes loaded by {@link TypeLoader} and {@link TypesLoader} are run.
+ * <p/>
+ * Classes are initialized at most once, the first time they are used; moving their initialization out of the
+ * latency-critical path of an application means initializing them before they are used:
+ * <pre>
+ * // import static  {@link org.fest.reflect.core.Reflection#type(String) org.fest.reflect.core.Reflection.type};
+ *
+ * // Loads and initializes the class 'org.republic.Jedi'
+ * Class&lt;?&gt; jediType = {@link org.fest.reflect.core.Reflection#type(String) type}("org.republic.Jedi").{@link Type#using(Initialization) using}({@link #EAGER}).{@link TypeLoader#load() load}();
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public enum Initialization {
+  /**
+   * Loads classes without initializing them: their static initializers run the first time they are used. This is the
+   * default.
+   */
+  LAZY,
+
+  /**
+   * Initializes classes before returning them. When loading a batch of classes, classes are loaded in parallel but
+   * initialized one at a time, in the order their names were specified, by the calling thread: initializing classes
+   * that depend on each other in different threads can cause a deadlock.
+   */
+  EAGER,
+
+  /**
+   * Returns classes without initializing them, and initializes them afterwards, one at a time, in a background task.
+   * Errors thrown by static initializers are reported by the returned {@link LoadedTypes}, when loading a batch of
+   * classes; otherwise, they are thrown again when the class is used.
+   */
+  BACKGROUND
+}
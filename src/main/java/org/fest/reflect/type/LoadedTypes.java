@@ -0,0 +1,184 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.type;
+
+import org.fest.reflect.exception.ReflectionError;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * The result of loading a batch of classes using a {@link TypesLoader}: the loaded class, or the error that occurred,
+ * for every name in the batch, and the time it took to load them.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class LoadedTypes {
+  private final String[] names;
+  private final Class<?>[] types;
+  private final ReflectionError[] errors;
+  private final long[] loadTimes;
+  private final long elapsedNanos;
+  private final CompletableFuture<Void> initialization;
+  private final Map<String, Integer> indices;
+
+  LoadedTypes(@NotNull String[] names, @NotNull Class<?>[] types, @NotNull ReflectionError[] errors,
+              @NotNull long[] loadTimes, long elapsedNanos, @NotNull CompletableFuture<Void> initialization) {
+    this.names = names;
+    this.types = types;
+    this.errors = errors;
+    this.loadTimes = loadTimes;
+    this.elapsedNanos = elapsedNanos;
+    this.initialization = initialization;
+    indices = new HashMap<String, Integer>();
+    for (int i = 0; i < names.length; i++) {
+      indices.put(names[i], i);
+    }
+  }
+
+  /**
+   * Returns the class with the given name.
+   *
+   * @param name the name of the class.
+   * @return the loaded class.
+   * @throws IllegalArgumentException if the given name is not part of the batch.
+   * @throws ReflectionError          if the class could not be loaded.
+   */
+  public @NotNull Class<?> get(@NotNull String name) {
+    int index = indexOf(name);
+    ReflectionError error = errors[index];
+    if (error != null) {
+      // the stored error is shared by all callers, each caller gets a new error with its own stack trace.
+      throw new ReflectionError(error.getMessage(), error);
+    }
+    return types[index];
+  }
+
+  /**
+   * Returns the error that occurred when loading the class with the given name.
+   *
+   * @param name the name of the class.
+   * @return the error that occurred, or {@code null} if the class was loaded.
+   * @throws IllegalArgumentException if the given name is not part of the batch.
+   */
+  public @Nullable ReflectionError errorOf(@NotNull String name) {
+    return errors[indexOf(name)];
+  }
+
+  /**
+   * Returns the time spent loading the class with the given name.
+   *
+   * @param name the name of the class.
+   * @return the time spent loading the class, in nanoseconds.
+   * @throws IllegalArgumentException if the given name is not part of the batch.
+   */
+  public long loadTimeNanos(@NotNull String name) {
+    return loadTimes[indexOf(name)];
+  }
+
+  private int indexOf(@NotNull String name) {
+    Integer index = indices.get(checkNotNull(name));
+    if (index == null) {
+      throw new IllegalArgumentException(String.format("Class '%s' is not part of this batch", name));
+    }
+    return index;
+  }
+
+  /**
+   * @return the loaded classes, keyed by name, in the order their names were specified.
+   */
+  public @NotNull Map<String, Class<?>> types() {
+    Map<String, Class<?>> result = new LinkedHashMap<String, Class<?>>();
+    for (int i = 0; i < names.length; i++) {
+      if (types[i] != null) {
+        result.put(names[i], types[i]);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * @return the errors that occurred, keyed by the name of the class that could not be loaded, in the order the names
+   *         were specified.
+   */
+  public @NotNull Map<String, ReflectionError> failures() {
+    Map<String, ReflectionError> result = new LinkedHashMap<String, ReflectionError>();
+    for (int i = 0; i < names.length; i++) {
+      if (errors[i] != null) {
+        result.put(names[i], errors[i]);
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * @return {@code true} if all the classes in the batch were loaded; {@code false} otherwise.
+   */
+  public boolean isSuccessful() {
+    for (ReflectionError error : errors) {
+      if (error != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the wall-clock time it took to load the whole batch, in nanoseconds.
+   */
+  public long elapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the wall-clock time it took to load the whole batch.
+   *
+   * @param unit the unit of the returned time.
+   * @return the wall-clock time it took to load the whole batch, in the given unit.
+   * @throws NullPointerException if the given unit is {@code null}.
+   */
+  public long elapsedTime(@NotNull TimeUnit unit) {
+    return checkNotNull(unit).convert(elapsedNanos, NANOSECONDS);
+  }
+
+  /**
+   * Returns the initialization of the loaded classes, when they are initialized in the background. The returned future
+   * completes exceptionally, with a {@link ReflectionError}, if any of the classes fails to initialize.
+   *
+   * @return the initialization of the loaded classes. It is already completed if the classes were not initialized in
+   *         the background.
+   * @see Initialization#BACKGROUND
+   */
+  public @NotNull CompletableFuture<Void> initialization() {
+    // callers completing the returned future must not affect other callers.
+    return initialization.copy();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[loaded=%d, failed=%d, elapsed=%dms]", getClass().getSimpleName(), types().size(),
+        failures().size(), elapsedTime(TimeUnit.MILLISECONDS));
+  }
+}
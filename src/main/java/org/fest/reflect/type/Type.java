@@ -123,6 +123,24 @@ public final class Type {
     return new TypeLoader(checkNotNullOrEmpty(name), thisClassLoader()).loadAs(superType);
   }
 
+  /**
+   * Specifies when the class should be initialized, when loading it using {@code this} class' {@code ClassLoader}.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Loads the class 'org.republic.Jedi', and runs its static initializers in the background
+   * Class&lt;?&gt; jediType = {@link org.fest.reflect.core.Reflection#type(String) type}("org.republic.Jedi").{@link #using(Initialization) using}({@link Initialization#BACKGROUND BACKGROUND}).{@link org.fest.reflect.type.TypeLoader#load() load}();
+   * </pre>
+   *
+   * @param initialization indicates when the class should be initialized.
+   * @return an object responsible of loading the class, initializing it as specified.
+   * @throws NullPointerException if the given option is {@code null}.
+   * @since 2.0
+   */
+  public @NotNull TypeLoader using(@NotNull Initialization initialization) {
+    return new TypeLoader(checkNotNullOrEmpty(name), thisClassLoader()).using(initialization);
+  }
+
   private @NotNull ClassLoader thisClassLoader() {
     return checkNotNull(getClass().getClassLoader());
   }
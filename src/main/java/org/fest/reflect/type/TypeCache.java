@@ -0,0 +1,180 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.type;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Process-wide cache of the classes loaded by this library, keyed on the {@code ClassLoader} used to load them and
+ * their names. {@link Type}, {@link TypeLoader} and {@link TypesLoader} call {@code ClassLoader.loadClass} only the
+ * first time a name is loaded with a given {@code ClassLoader}.
+ * <p/>
+ * Names that could not be found are cached too: loading them again throws a {@code ClassNotFoundException} without
+ * calling the {@code ClassLoader}. Applications using {@code ClassLoader}s that can find a class after failing to find
+ * it (for example, {@code ClassLoader}s whose class path changes at runtime) should call
+ * {@link #invalidate(ClassLoader)} or {@link #invalidate(ClassLoader, String)} when that happens.
+ * <p/>
+ * {@code ClassLoader}s and classes are weakly referenced: caching a class does not prevent it, or its
+ * {@code ClassLoader}, from being garbage-collected.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class TypeCache {
+  private static final Object MISSING = new Object();
+
+  private static final ConcurrentMap<LoaderKey, ConcurrentMap<String, Object>> CACHE =
+      new ConcurrentHashMap<LoaderKey, ConcurrentMap<String, Object>>();
+  private static final ReferenceQueue<ClassLoader> COLLECTED = new ReferenceQueue<ClassLoader>();
+
+  private TypeCache() {
+  }
+
+  /**
+   * Returns the cached class with the given name.
+   *
+   * @param classLoader the {@code ClassLoader} the class was loaded with.
+   * @param name        the name of the class.
+   * @return the cached class, or {@code null} if the class has not been loaded with the given {@code ClassLoader} yet.
+   * @throws ClassNotFoundException if the given {@code ClassLoader} failed to find the class before.
+   */
+  static @Nullable Class<?> cachedType(@NotNull ClassLoader classLoader, @NotNull String name)
+      throws ClassNotFoundException {
+    ConcurrentMap<String, Object> types = CACHE.get(new LoaderKey(classLoader, null));
+    if (types == null) {
+      return null;
+    }
+    Object entry = types.get(name);
+    if (entry == MISSING) {
+      throw new ClassNotFoundException(name);
+    }
+    return entry != null ? ((TypeReference) entry).get() : null;
+  }
+
+  /**
+   * Caches the given class.
+   *
+   * @param classLoader the {@code ClassLoader} the class was loaded with.
+   * @param name        the name the class was loaded with.
+   * @param type        the loaded class.
+   */
+  static void cacheType(@NotNull ClassLoader classLoader, @NotNull String name, @NotNull Class<?> type) {
+    typesLoadedBy(classLoader).put(name, new TypeReference(type));
+  }
+
+  /**
+   * Records that the given {@code ClassLoader} could not find a class with the given name.
+   *
+   * @param classLoader the {@code ClassLoader} that could not find the class.
+   * @param name        the name of the class.
+   */
+  static void cacheMissingType(@NotNull ClassLoader classLoader, @NotNull String name) {
+    typesLoadedBy(classLoader).put(name, MISSING);
+  }
+
+  private static @NotNull ConcurrentMap<String, Object> typesLoadedBy(@NotNull ClassLoader classLoader) {
+    expungeCollectedLoaders();
+    ConcurrentMap<String, Object> types = CACHE.get(new LoaderKey(classLoader, null));
+    if (types == null) {
+      types = new ConcurrentHashMap<String, Object>();
+      ConcurrentMap<String, Object> existing = CACHE.putIfAbsent(new LoaderKey(classLoader, COLLECTED), types);
+      if (existing != null) {
+        types = existing;
+      }
+    }
+    return types;
+  }
+
+  private static void expungeCollectedLoaders() {
+    Reference<? extends ClassLoader> collected;
+    while ((collected = COLLECTED.poll()) != null) {
+      CACHE.remove(collected);
+    }
+  }
+
+  /**
+   * Removes all the classes loaded with the given {@code ClassLoader}, including the names it could not find, from
+   * this cache.
+   *
+   * @param classLoader the given {@code ClassLoader}.
+   * @throws NullPointerException if the given {@code ClassLoader} is {@code null}.
+   */
+  public static void invalidate(@NotNull ClassLoader classLoader) {
+    CACHE.remove(new LoaderKey(checkNotNull(classLoader), null));
+  }
+
+  /**
+   * Removes the class with the given name, loaded with the given {@code ClassLoader}, from this cache.
+   *
+   * @param classLoader the given {@code ClassLoader}.
+   * @param name        the name of the class.
+   * @throws NullPointerException if any of the arguments is {@code null}.
+   */
+  public static void invalidate(@NotNull ClassLoader classLoader, @NotNull String name) {
+    checkNotNull(name);
+    ConcurrentMap<String, Object> types = CACHE.get(new LoaderKey(checkNotNull(classLoader), null));
+    if (types != null) {
+      types.remove(name);
+    }
+  }
+
+  /**
+   * Removes all the classes from this cache.
+   */
+  public static void invalidateAll() {
+    CACHE.clear();
+  }
+
+  // a strong reference to a class would keep its ClassLoader, the key of the map holding the reference, reachable.
+  private static class TypeReference extends WeakReference<Class<?>> {
+    TypeReference(@NotNull Class<?> type) {
+      super(type);
+    }
+  }
+
+  private static class LoaderKey extends WeakReference<ClassLoader> {
+    private final int hashCode;
+
+    LoaderKey(@NotNull ClassLoader classLoader, @Nullable ReferenceQueue<ClassLoader> queue) {
+      super(classLoader, queue);
+      hashCode = System.identityHashCode(classLoader);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LoaderKey)) {
+        return false;
+      }
+      ClassLoader classLoader = get();
+      return classLoader != null && classLoader == ((LoaderKey) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -15,9 +15,24 @@
 package org.fest.reflect.type;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.metrics.Outcome;
 
 import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import static org.fest.reflect.metrics.Instrumentation.end;
+import static org.fest.reflect.metrics.Instrumentation.start;
+import static org.fest.reflect.metrics.Operation.TYPE_LOAD;
+import static org.fest.reflect.metrics.Outcome.FAILURE;
+import static org.fest.reflect.metrics.Outcome.HIT;
+import static org.fest.reflect.metrics.Outcome.MISS;
+import static org.fest.reflect.type.Initialization.BACKGROUND;
+import static org.fest.reflect.type.Initialization.EAGER;
+import static org.fest.reflect.type.Initialization.LAZY;
+import static org.fest.reflect.type.TypeCache.cacheMissingType;
+import static org.fest.reflect.type.TypeCache.cacheType;
+import static org.fest.reflect.type.TypeCache.cachedType;
 import static org.fest.util.Preconditions.checkNotNull;
 
 /**
@@ -41,10 +56,34 @@ import static org.fest.util.Preconditions.checkNotNull;
 public final class TypeLoader {
   private final String name;
   private final ClassLoader classLoader;
+  private final Initialization initialization;
 
   TypeLoader(@NotNull String name, @NotNull ClassLoader classLoader) {
+    this(name, checkNotNull(classLoader), LAZY);
+  }
+
+  private TypeLoader(@NotNull String name, @NotNull ClassLoader classLoader, @NotNull Initialization initialization) {
     this.name = name;
-    this.classLoader = checkNotNull(classLoader);
+    this.classLoader = classLoader;
+    this.initialization = initialization;
+  }
+
+  /**
+   * Returns a {@link TypeLoader} that loads the same class, initializing it as specified by the given option.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Loads and initializes the class 'org.republic.Jedi' using a custom class loader
+   * Class&lt;?&gt; jediType = {@link org.fest.reflect.core.Reflection#type(String) type}("org.republic.Jedi").{@link Type#withClassLoader(ClassLoader) withClassLoader}(myClassLoader).{@link #using(Initialization) using}({@link Initialization#EAGER EAGER}).{@link #load() load}();
+   * </pre>
+   *
+   * @param initialization indicates when the class should be initialized.
+   * @return a {@code TypeLoader} that uses the given option.
+   * @throws NullPointerException if the given option is {@code null}.
+   * @since 2.0
+   */
+  public @NotNull TypeLoader using(@NotNull Initialization initialization) {
+    return new TypeLoader(name, classLoader, checkNotNull(initialization));
   }
 
   /**
@@ -71,8 +110,7 @@ public final class TypeLoader {
     try {
       return loadType();
     } catch (Throwable t) {
-      String format = "Unable to load class '%s' using ClassLoader %s";
-      throw new ReflectionError(String.format(format, name, classLoader), t);
+      throw ReflectionError.of(t, "Unable to load class '%s' using ClassLoader %s", name, classLoader);
     }
   }
 
@@ -104,11 +142,83 @@ public final class TypeLoader {
       return checkNotNull(loadType().asSubclass(superType));
     } catch (Throwable t) {
       String format = "Unable to load class '%s' as %s using ClassLoader %s";
-      throw new ReflectionError(String.format(format, name, superType.getName(), classLoader), t);
+      throw ReflectionError.of(t, format, name, superType.getName(), classLoader);
     }
   }
 
   private @NotNull Class<?> loadType() throws ClassNotFoundException {
-    return checkNotNull(classLoader.loadClass(name));
+    Class<?> type = loadType(name, classLoader);
+    if (initialization == EAGER) {
+      initialize(type);
+    } else if (initialization == BACKGROUND) {
+      initializeInBackground(type, ForkJoinPool.commonPool());
+    }
+    return type;
+  }
+
+  /**
+   * Loads the class with the given name, calling the given {@code ClassLoader} only if the class is not in the
+   * {@link TypeCache}. The class is not initialized.
+   *
+   * @param name        the name of the class to load.
+   * @param classLoader the {@code ClassLoader} to use.
+   * @return the loaded class.
+   * @throws ClassNotFoundException if the class cannot be found.
+   */
+  static @NotNull Class<?> loadType(@NotNull String name, @NotNull ClassLoader classLoader)
+      throws ClassNotFoundException {
+    long start = start();
+    Outcome outcome = FAILURE;
+    try {
+      Class<?> type = cachedType(classLoader, name);
+      if (type != null) {
+        outcome = HIT;
+        return type;
+      }
+      type = loadAndCacheType(name, classLoader);
+      outcome = MISS;
+      return type;
+    } finally {
+      end(TYPE_LOAD, outcome, null, name, start);
+    }
+  }
+
+  private static @NotNull Class<?> loadAndCacheType(@NotNull String name, @NotNull ClassLoader classLoader)
+      throws ClassNotFoundException {
+    Class<?> type;
+    try {
+      type = classLoader.loadClass(name);
+    } catch (ClassNotFoundException e) {
+      cacheMissingType(classLoader, name);
+      throw e;
+    }
+    cacheType(classLoader, name, checkNotNull(type));
+    return type;
+  }
+
+  /**
+   * Initializes the given class, if it has not been initialized yet.
+   *
+   * @param type the class to initialize.
+   * @throws ExceptionInInitializerError if the static initializer of the class throws an exception.
+   * @throws LinkageError                if the class cannot be linked.
+   */
+  static void initialize(@NotNull Class<?> type) {
+    try {
+      // the class is already loaded, asking its defining ClassLoader for it does not load it again.
+      Class.forName(type.getName(), true, type.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  // Initialization errors are thrown again, as NoClassDefFoundError, when the class is used.
+  static void initializeInBackground(@NotNull final Class<?> type, @NotNull Executor executor) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        initialize(type);
+      }
+    });
   }
 }
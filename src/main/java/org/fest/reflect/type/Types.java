@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.type;
+
+import org.fest.util.InternalApi;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Preconditions.checkNotNullOrEmpty;
+
+/**
+ * Stores the names of the types to load in a single batch.
+ * <p/>
+ * <strong>Note:</strong> To improve code readability, we recommend invoking
+ * {@link org.fest.reflect.core.Reflection#types(String...) Reflection.types(String...)} instead of this class'
+ * constructor:
+ * <pre>
+ * // import static  {@link org.fest.reflect.core.Reflection#types(String...) org.fest.reflect.core.Reflection.types};
+ *
+ * // Loads the classes 'org.republic.Jedi' and 'org.republic.Sith' in parallel
+ * LoadedTypes loaded = {@link org.fest.reflect.core.Reflection#types(String...) types}("org.republic.Jedi", "org.republic.Sith").{@link org.fest.reflect.type.Types#withClassLoader(ClassLoader) withClassLoader}(myClassLoader).{@link org.fest.reflect.type.TypesLoader#loadAll() loadAll}();
+ * Class&lt;?&gt; jediType = loaded.{@link org.fest.reflect.type.LoadedTypes#get(String) get}("org.republic.Jedi");
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class Types {
+  private final String[] names;
+
+  /**
+   * Creates a new {@link Types}.
+   *
+   * @param names the names of the classes to load. Duplicate names are ignored.
+   * @throws NullPointerException     if the given collection is {@code null}, or if any of the names is {@code null}.
+   * @throws IllegalArgumentException if any of the names is empty.
+   */
+  @InternalApi
+  public Types(@NotNull Collection<String> names) {
+    Set<String> unique = new LinkedHashSet<String>();
+    for (String name : checkNotNull(names)) {
+      unique.add(checkNotNullOrEmpty(name));
+    }
+    this.names = unique.toArray(new String[unique.size()]);
+  }
+
+  /**
+   * Loads the classes with the names specified in this object, using this class' {@code ClassLoader}, with the
+   * default options of {@link TypesLoader}.
+   *
+   * @return the loaded classes and the errors that occurred, per name.
+   */
+  public @NotNull LoadedTypes loadAll() {
+    return withClassLoader(checkNotNull(getClass().getClassLoader())).loadAll();
+  }
+
+  /**
+   * Specifies the {@code ClassLoader} to use when loading the classes.
+   *
+   * @param classLoader the given {@code ClassLoader}.
+   * @return an object responsible of loading the classes with the given {@code ClassLoader}.
+   * @throws NullPointerException if the given {@code ClassLoader} is {@code null}.
+   */
+  public @NotNull TypesLoader withClassLoader(@NotNull ClassLoader classLoader) {
+    return new TypesLoader(names, classLoader);
+  }
+}
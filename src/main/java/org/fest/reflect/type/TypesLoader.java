@@ -0,0 +1,234 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.type;
+
+import org.fest.reflect.exception.ReflectionError;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.reflect.type.Initialization.BACKGROUND;
+import static org.fest.reflect.type.Initialization.EAGER;
+import static org.fest.reflect.type.Initialization.LAZY;
+import static org.fest.reflect.type.TypeLoader.initialize;
+import static org.fest.reflect.type.TypeLoader.loadType;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Loads a batch of classes in parallel, using a specific {@code ClassLoader}.
+ * <p/>
+ * Unlike {@link TypeLoader}, this loader does not stop at the first class that cannot be loaded: it reports the loaded
+ * class, or the error that occurred, for every name in the batch, together with the time spent loading it.
+ * <p/>
+ * Classes are loaded by the thread calling {@link #loadAll()} and by up to one task per available processor, submitted
+ * to an {@code Executor}. By default, tasks run in the common {@code ForkJoinPool}, and classes are loaded without
+ * being initialized, like {@link TypeLoader#load()} does; see {@link #using(Initialization)}.
+ * <p/>
+ * Example:
+ * <pre>
+ * // import static  {@link org.fest.reflect.core.Reflection#types(String...) org.fest.reflect.core.Reflection.types};
+ *
+ * LoadedTypes loaded = {@link org.fest.reflect.core.Reflection#types(java.util.Collection) types}(pluginClassNames).{@link org.fest.reflect.type.Types#withClassLoader(ClassLoader) withClassLoader}(pluginClassLoader).{@link #using(Executor) using}(startupExecutor).{@link #loadAll() loadAll}();
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class TypesLoader {
+  private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+  private final String[] names;
+  private final ClassLoader classLoader;
+  private final Executor executor;
+  private final Initialization initialization;
+
+  TypesLoader(@NotNull String[] names, @NotNull ClassLoader classLoader) {
+    this(names, checkNotNull(classLoader), ForkJoinPool.commonPool(), LAZY);
+  }
+
+  private TypesLoader(@NotNull String[] names, @NotNull ClassLoader classLoader, @NotNull Executor executor,
+                      @NotNull Initialization initialization) {
+    this.names = names;
+    this.classLoader = classLoader;
+    this.executor = executor;
+    this.initialization = initialization;
+  }
+
+  /**
+   * Returns a loader that loads the classes using the given {@code Executor}.
+   *
+   * @param executor the {@code Executor} to use.
+   * @return a loader that uses the given {@code Executor}.
+   * @throws NullPointerException if the given {@code Executor} is {@code null}.
+   */
+  public @NotNull TypesLoader using(@NotNull Executor executor) {
+    return new TypesLoader(names, classLoader, checkNotNull(executor), initialization);
+  }
+
+  /**
+   * Returns a loader that initializes the loaded classes as specified by the given option. Classes initialized in the
+   * background are initialized by a single task, submitted to the {@code Executor} of this loader.
+   * <p/>
+   * Example:
+   * <pre>
+   * // Loads the plugin classes, and runs their static initializers in the background
+   * LoadedTypes loaded = {@link org.fest.reflect.core.Reflection#types(java.util.Collection) types}(pluginClassNames).{@link org.fest.reflect.type.Types#withClassLoader(ClassLoader) withClassLoader}(pluginClassLoader).{@link #using(Initialization) using}({@link Initialization#BACKGROUND BACKGROUND}).{@link #loadAll() loadAll}();
+   * loaded.{@link LoadedTypes#initialization() initialization}().join();
+   * </pre>
+   *
+   * @param initialization indicates when the classes should be initialized.
+   * @return a loader that uses the given option.
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  public @NotNull TypesLoader using(@NotNull Initialization initialization) {
+    return new TypesLoader(names, classLoader, executor, checkNotNull(initialization));
+  }
+
+  /**
+   * Loads the classes of this batch, waiting until all of them have been loaded or have failed to load.
+   *
+   * @return the loaded classes and the errors that occurred, per name.
+   * @throws ReflectionError if the calling thread is interrupted while waiting for the classes to be loaded.
+   */
+  public @NotNull LoadedTypes loadAll() {
+    long start = System.nanoTime();
+    final Batch batch = new Batch(names.length);
+    int taskCount = Math.min(names.length, Runtime.getRuntime().availableProcessors()) - 1;
+    for (int i = 0; i < taskCount; i++) {
+      try {
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            // a task that starts after all the classes have been taken by other threads does nothing.
+            loadRemaining(batch);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        // the calling thread loads the classes this task would have loaded.
+        break;
+      }
+    }
+    loadRemaining(batch);
+    try {
+      // only waits for the classes being loaded by other threads, not for tasks that have not started yet: those may
+      // never run if the executor is saturated, or if this method is called from one of its threads.
+      batch.loaded.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ReflectionError("Interrupted while waiting for classes to be loaded", e);
+    }
+    CompletableFuture<Void> initialized = COMPLETED;
+    if (initialization == EAGER) {
+      initializeAll(batch);
+    } else if (initialization == BACKGROUND) {
+      initialized = initializeAllInBackground(batch.types.clone());
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    return new LoadedTypes(names, batch.types, batch.errors, batch.loadTimes, elapsedNanos, initialized);
+  }
+
+  private void initializeAll(@NotNull Batch batch) {
+    for (int i = 0; i < names.length; i++) {
+      Class<?> type = batch.types[i];
+      if (type == null) {
+        continue;
+      }
+      long start = System.nanoTime();
+      try {
+        initialize(type);
+      } catch (Throwable t) {
+        batch.types[i] = null;
+        batch.errors[i] = failedToInitialize(t, names[i]);
+      }
+      batch.loadTimes[i] += System.nanoTime() - start;
+    }
+  }
+
+  private @NotNull CompletableFuture<Void> initializeAllInBackground(@NotNull final Class<?>[] types) {
+    final CompletableFuture<Void> initialized = new CompletableFuture<Void>();
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          ReflectionError failure = null;
+          for (int i = 0; i < names.length; i++) {
+            if (types[i] == null) {
+              continue;
+            }
+            try {
+              initialize(types[i]);
+            } catch (Throwable t) {
+              ReflectionError error = failedToInitialize(t, names[i]);
+              if (failure == null) {
+                failure = error;
+              } else {
+                failure.addSuppressed(error);
+              }
+            }
+          }
+          if (failure != null) {
+            initialized.completeExceptionally(failure);
+          } else {
+            initialized.complete(null);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      initialized.completeExceptionally(new ReflectionError("Unable to initialize classes in the background", e));
+    }
+    return initialized;
+  }
+
+  private static @NotNull ReflectionError failedToInitialize(@NotNull Throwable t, @NotNull String name) {
+    return ReflectionError.of(t, "Unable to initialize class '%s'", name);
+  }
+
+  private void loadRemaining(@NotNull Batch batch) {
+    int index;
+    while ((index = batch.next.getAndIncrement()) < names.length) {
+      String name = names[index];
+      long start = System.nanoTime();
+      try {
+        batch.types[index] = loadType(name, classLoader);
+      } catch (Throwable t) {
+        batch.errors[index] = ReflectionError.of(t, "Unable to load class '%s' using ClassLoader %s", name,
+            classLoader);
+      }
+      batch.loadTimes[index] = System.nanoTime() - start;
+      batch.loaded.countDown();
+    }
+  }
+
+  // each element of the arrays is written by a single thread, and read after the latch has been released.
+  private static class Batch {
+    final AtomicInteger next = new AtomicInteger();
+    final CountDownLatch loaded;
+    final Class<?>[] types;
+    final ReflectionError[] errors;
+    final long[] loadTimes;
+
+    Batch(int size) {
+      loaded = new CountDownLatch(size);
+      types = new Class<?>[size];
+      errors = new ReflectionError[size];
+      loadTimes = new long[size];
+    }
+  }
+}
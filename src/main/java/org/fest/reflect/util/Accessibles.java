@@ -73,6 +73,26 @@ public final class Accessibles {
     AccessController.doPrivileged(new SetAccessibleAction(o, accessible));
   }
 
+  /**
+   * Sets the {@code accessible} flag of the given {@code AccessibleObject} to {@code true}, if access is permitted. The
+   * given {@code AccessibleObject} must be a copy that is not shared with other callers: its flag is set once, when it
+   * is resolved, and never changed afterwards. If access is denied, the flag is left unchanged, and the denial is
+   * reported when the {@code AccessibleObject} is used.
+   *
+   * @param o the given {@code AccessibleObject}.
+   * @return the given {@code AccessibleObject}.
+   * @throws NullPointerException if the given {@code AccessibleObject} is {@code null}.
+   * @since 2.0
+   */
+  public static @NotNull <T extends AccessibleObject> T makeAccessibleOnce(@NotNull T o) {
+    try {
+      AccessController.doPrivileged(new TrySetAccessibleAction(o));
+    } catch (SecurityException ignored) {
+      // the denial is reported when the member is used.
+    }
+    return o;
+  }
+
   private static class SetAccessibleAction implements PrivilegedAction<Void> {
     private final AccessibleObject o;
     private final boolean accessible;
@@ -88,4 +108,17 @@ public final class Accessibles {
       return null;
     }
   }
+
+  private static class TrySetAccessibleAction implements PrivilegedAction<Boolean> {
+    private final AccessibleObject o;
+
+    TrySetAccessibleAction(@NotNull AccessibleObject o) {
+      this.o = checkNotNull(o);
+    }
+
+    @Override
+    public Boolean run() {
+      return o.trySetAccessible();
+    }
+  }
 }
@@ -0,0 +1,363 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Process-wide store of the reflection metadata of a class: its declared fields, methods, constructors and inner
+ * classes, and any data derived from them, like the cached lookups and method handles used by the accessors of this
+ * library. All the accessors of this library read members through this store, instead of calling the
+ * {@code getDeclared*} methods of {@code Class} themselves.
+ * <p/>
+ * Metadata is stored in a {@code ClassValue}, which makes reads lock-free and keeps the metadata reachable only as long
+ * as its class is reachable. Data that refers to other classes, like the parameter types of a lookup that missed, is
+ * cached only if those classes are visible from the {@code ClassLoader} of the class (see
+ * {@link #canReference(Class[])}), so caching the metadata of a shared class, like a JDK class, does not prevent the
+ * {@code ClassLoader} of a plug-in from being garbage-collected. At most {@link #MAX_CACHED_MISSES} misses are cached
+ * per class and kind of lookup.
+ * <p/>
+ * Like {@link Class#getDeclaredField(String)}, this store returns a new copy of a member on every lookup, so that
+ * changes to the copy's {@code accessible} flag are not visible to other callers.
+ * <p/>
+ * Long-running applications can inspect the store, using {@link #cachedTypes()} and {@link #size()}, and clear it,
+ * using {@link #clear()} or {@link #clear(Class)}.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class ClassMetadata {
+  /**
+   * The maximum number of lookup misses cached per class and kind of lookup. Once it is reached, further misses are
+   * looked up every time.
+   */
+  public static final int MAX_CACHED_MISSES = 1024;
+
+  private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+    @Override
+    protected ClassMetadata computeValue(Class<?> type) {
+      TYPES.put(type, Boolean.TRUE);
+      return new ClassMetadata(type);
+    }
+  };
+
+  // Only used to inspect and clear the store, never read when looking up metadata.
+  private static final Map<Class<?>, Boolean> TYPES = Collections.synchronizedMap(new WeakHashMap<Class<?>, Boolean>());
+
+  private final Class<?> type;
+  private final ConcurrentMap<Signature, Boolean> methods = new ConcurrentHashMap<Signature, Boolean>();
+  private final ConcurrentMap<Signature, Boolean> constructors = new ConcurrentHashMap<Signature, Boolean>();
+  private final ConcurrentMap<Key<?>, Object> entries = new ConcurrentHashMap<Key<?>, Object>();
+  private volatile Set<String> fieldNames;
+  private volatile Map<String, Class<?>> declaredClasses;
+
+  private ClassMetadata(@NotNull Class<?> type) {
+    this.type = type;
+  }
+
+  /**
+   * Returns the metadata of the given class.
+   *
+   * @param type the given class.
+   * @return the metadata of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public static @NotNull ClassMetadata metadataOf(@NotNull Class<?> type) {
+    return METADATA.get(checkNotNull(type));
+  }
+
+  /**
+   * @return the classes whose metadata is currently stored.
+   */
+  public static @NotNull List<Class<?>> cachedTypes() {
+    synchronized (TYPES) {
+      return new ArrayList<Class<?>>(TYPES.keySet());
+    }
+  }
+
+  /**
+   * Removes the metadata of all classes. Metadata is created again the next time it is needed.
+   */
+  public static void clear() {
+    for (Class<?> type : cachedTypes()) {
+      clear(type);
+    }
+  }
+
+  /**
+   * Removes the metadata of the given class. Metadata is created again the next time it is needed.
+   *
+   * @param type the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public static void clear(@NotNull Class<?> type) {
+    TYPES.remove(checkNotNull(type));
+    METADATA.remove(type);
+  }
+
+  /**
+   * @return the class this metadata belongs to.
+   */
+  public @NotNull Class<?> type() {
+    return type;
+  }
+
+  /**
+   * Returns the field with the given name declared in this class.
+   *
+   * @param name the name of the field.
+   * @return a copy of the field, or {@code null} if this class does not declare a field with the given name.
+   */
+  public @Nullable Field declaredField(@NotNull String name) {
+    if (!declaredFieldNames().contains(name)) {
+      return null;
+    }
+    try {
+      return type.getDeclaredField(name);
+    } catch (NoSuchFieldException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the names of the fields declared in this class, in the order returned by {@link Class#getDeclaredFields()}.
+   * @since 2.0
+   */
+  public @NotNull Set<String> declaredFieldNames() {
+    Set<String> fieldNames = this.fieldNames;
+    if (fieldNames == null) {
+      Set<String> names = new LinkedHashSet<String>();
+      for (Field field : type.getDeclaredFields()) {
+        names.add(field.getName());
+      }
+      fieldNames = Collections.unmodifiableSet(names);
+      this.fieldNames = fieldNames;
+    }
+    return fieldNames;
+  }
+
+  /**
+   * Returns the method with the given name and parameter types declared in this class.
+   *
+   * @param name           the name of the method.
+   * @param parameterTypes the parameter types of the method.
+   * @return a copy of the method, or {@code null} if this class does not declare a matching method.
+   * @throws SecurityException if access to the declared methods of this class is denied.
+   */
+  public @Nullable Method declaredMethod(@NotNull String name, @NotNull Class<?>... parameterTypes) {
+    Signature signature = new Signature(checkNotNull(name), parameterTypes);
+    Boolean declared = methods.get(signature);
+    if (declared == Boolean.FALSE) {
+      return null;
+    }
+    try {
+      Method method = type.getDeclaredMethod(name, parameterTypes);
+      if (declared == null) {
+        methods.putIfAbsent(signature.copy(), Boolean.TRUE);
+      }
+      return method;
+    } catch (NoSuchMethodException e) {
+      cacheMiss(methods, signature);
+      return null;
+    }
+  }
+
+  /**
+   * Returns the constructor with the given parameter types declared in this class.
+   *
+   * @param parameterTypes the parameter types of the constructor.
+   * @return a copy of the constructor, or {@code null} if this class does not declare a matching constructor.
+   * @throws SecurityException if access to the declared constructors of this class is denied.
+   */
+  public @Nullable Constructor<?> declaredConstructor(@NotNull Class<?>... parameterTypes) {
+    Signature signature = new Signature("<init>", parameterTypes);
+    Boolean declared = constructors.get(signature);
+    if (declared == Boolean.FALSE) {
+      return null;
+    }
+    try {
+      Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+      if (declared == null) {
+        constructors.putIfAbsent(signature.copy(), Boolean.TRUE);
+      }
+      return constructor;
+    } catch (NoSuchMethodException e) {
+      cacheMiss(constructors, signature);
+      return null;
+    }
+  }
+
+  // the parameter types of a miss are given by the caller, and may belong to a ClassLoader this class cannot see.
+  private void cacheMiss(@NotNull ConcurrentMap<Signature, Boolean> signatures, @NotNull Signature signature) {
+    if (signatures.size() < MAX_CACHED_MISSES && canReference(signature.parameterTypes)) {
+      signatures.putIfAbsent(signature.copy(), Boolean.FALSE);
+    }
+  }
+
+  /**
+   * Indicates whether data stored in this metadata can refer to the given classes without keeping their
+   * {@code ClassLoader}s reachable longer than this class. This is the case of classes loaded by the
+   * {@code ClassLoader} of this class, or by any of its ancestors.
+   *
+   * @param types the given classes.
+   * @return {@code true} if all the given classes are visible from the {@code ClassLoader} of this class; {@code false}
+   *         otherwise.
+   * @since 2.0
+   */
+  public boolean canReference(@NotNull Class<?>... types) {
+    ClassLoader classLoader = type.getClassLoader();
+    for (Class<?> other : types) {
+      if (!isVisible(other.getClassLoader(), classLoader)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isVisible(@Nullable ClassLoader other, @Nullable ClassLoader classLoader) {
+    if (other == null) {
+      // the bootstrap ClassLoader is never garbage-collected.
+      return true;
+    }
+    for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+      if (current == other) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the class with the given name declared as a member of this class.
+   *
+   * @param name the binary name of the declared class (for example, {@code "org.republic.Jedi$Master"}.)
+   * @return the declared class, or {@code null} if this class does not declare a class with the given name.
+   */
+  public @Nullable Class<?> declaredClass(@NotNull String name) {
+    Map<String, Class<?>> declaredClasses = this.declaredClasses;
+    if (declaredClasses == null) {
+      declaredClasses = new HashMap<String, Class<?>>();
+      for (Class<?> declaredClass : type.getDeclaredClasses()) {
+        declaredClasses.put(declaredClass.getName(), declaredClass);
+      }
+      this.declaredClasses = declaredClasses;
+    }
+    return declaredClasses.get(name);
+  }
+
+  /**
+   * Returns the data stored under the given key, creating it if this is the first time it is requested.
+   *
+   * @param key the key of the data.
+   * @return the data stored under the given key.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull <V> V get(@NotNull Key<V> key) {
+    Object value = entries.get(key);
+    if (value == null) {
+      value = checkNotNull(key.create(type));
+      Object existing = entries.putIfAbsent(key, value);
+      if (existing != null) {
+        value = existing;
+      }
+    }
+    // the value was created by the given key, it is of the type of the key.
+    return (V) value;
+  }
+
+  /**
+   * @return the number of members and entries cached for this class.
+   */
+  public int size() {
+    int size = methods.size() + constructors.size() + entries.size();
+    Set<String> fieldNames = this.fieldNames;
+    if (fieldNames != null) {
+      size += fieldNames.size();
+    }
+    Map<String, Class<?>> declaredClasses = this.declaredClasses;
+    if (declaredClasses != null) {
+      size += declaredClasses.size();
+    }
+    return size;
+  }
+
+  /**
+   * Identifies data derived from the metadata of a class, and knows how to create it. Keys are compared by identity,
+   * so each key should be a constant.
+   *
+   * @param <V> the type of the data.
+   */
+  public abstract static class Key<V> {
+    /**
+     * Creates the data identified by this key. This method may be called more than once for the same class, by
+     * different threads; only one result is stored.
+     *
+     * @param type the class the data belongs to.
+     * @return the created data.
+     */
+    protected abstract @NotNull V create(@NotNull Class<?> type);
+  }
+
+  private static class Signature {
+    private final String name;
+    private final Class<?>[] parameterTypes;
+    private final int hashCode;
+
+    Signature(@NotNull String name, @NotNull Class<?>[] parameterTypes) {
+      this.name = name;
+      this.parameterTypes = parameterTypes;
+      this.hashCode = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+
+    // the parameter types given by the caller may be modified later on, keys stored in a map must use a copy.
+    @NotNull Signature copy() {
+      return new Signature(name, parameterTypes.clone());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Signature)) {
+        return false;
+      }
+      Signature other = (Signature) o;
+      return name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,382 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Utility methods related to generic types, like the ones captured by {@link org.fest.reflect.reference.TypeRef}.
+ * <p/>
+ * Only what can be verified without an instance is checked: type variables, raw types used where a parameterized type
+ * is expected, and wildcards whose bounds include the expected type argument, are considered compatible, like the Java
+ * compiler does with an unchecked cast.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class GenericTypes {
+  // bounds the number of results cached per class: once it is reached, further checks are not cached.
+  private static final int MAX_CACHED_ASSIGNMENTS = 256;
+
+  private static final ClassMetadata.Key<ConcurrentMap<Assignment, Boolean>> ASSIGNMENTS =
+      new ClassMetadata.Key<ConcurrentMap<Assignment, Boolean>>() {
+        @Override
+        protected @NotNull ConcurrentMap<Assignment, Boolean> create(@NotNull Class<?> type) {
+          return new ConcurrentHashMap<Assignment, Boolean>();
+        }
+      };
+
+  private GenericTypes() {
+  }
+
+  /**
+   * Indicates whether the value of the given field, or the value returned by the given method, can be assigned to a
+   * variable of the given type. The result is cached in the {@link ClassMetadata} of the class declaring the member,
+   * unless the given type refers to classes that are not visible from the {@code ClassLoader} of that class.
+   *
+   * @param to     the type of the variable.
+   * @param member the field, or the method.
+   * @return {@code true} if the value of the member can be assigned to a variable of the given type; {@code false}
+   *         otherwise.
+   * @throws IllegalArgumentException if the given member is neither a field nor a method.
+   */
+  public static boolean isAssignable(@NotNull Type to, @NotNull Member member) {
+    ClassMetadata metadata = metadataOf(member.getDeclaringClass());
+    ConcurrentMap<Assignment, Boolean> assignments = metadata.get(ASSIGNMENTS);
+    Assignment assignment = new Assignment(checkNotNull(to), member);
+    Boolean assignable = assignments.get(assignment);
+    if (assignable == null) {
+      assignable = isAssignable(to, genericTypeOf(member));
+      if (assignments.size() < MAX_CACHED_ASSIGNMENTS && canReference(metadata, to)) {
+        assignments.putIfAbsent(assignment, assignable);
+      }
+    }
+    return assignable;
+  }
+
+  private static boolean canReference(@NotNull ClassMetadata metadata, @NotNull Type type) {
+    if (type instanceof Class<?>) {
+      return metadata.canReference((Class<?>) type);
+    }
+    if (type instanceof ParameterizedType) {
+      ParameterizedType parameterized = (ParameterizedType) type;
+      Type ownerType = parameterized.getOwnerType();
+      if (ownerType != null && !canReference(metadata, ownerType)) {
+        return false;
+      }
+      return canReference(metadata, parameterized.getRawType())
+          && canReference(metadata, parameterized.getActualTypeArguments());
+    }
+    if (type instanceof GenericArrayType) {
+      return canReference(metadata, ((GenericArrayType) type).getGenericComponentType());
+    }
+    if (type instanceof WildcardType) {
+      WildcardType wildcard = (WildcardType) type;
+      return canReference(metadata, wildcard.getUpperBounds()) && canReference(metadata, wildcard.getLowerBounds());
+    }
+    if (type instanceof TypeVariable<?>) {
+      // a type variable refers to its declaration, which refers to the class declaring it.
+      GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+      Class<?> declaringClass = declaration instanceof Class<?> ? (Class<?>) declaration
+          : ((Member) declaration).getDeclaringClass();
+      return metadata.canReference(declaringClass);
+    }
+    return false;
+  }
+
+  private static boolean canReference(@NotNull ClassMetadata metadata, @NotNull Type[] types) {
+    for (Type type : types) {
+      if (!canReference(metadata, type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static @NotNull Type genericTypeOf(@NotNull Member member) {
+    if (member instanceof Field) {
+      return ((Field) member).getGenericType();
+    }
+    if (member instanceof Method) {
+      return ((Method) member).getGenericReturnType();
+    }
+    throw new IllegalArgumentException(String.format("%s is neither a field nor a method", member));
+  }
+
+  /**
+   * Indicates whether a value of the type {@code from} can be assigned to a variable of the type {@code to}.
+   *
+   * @param to   the type of the variable.
+   * @param from the type of the value.
+   * @return {@code true} if the assignment is allowed; {@code false} otherwise.
+   */
+  public static boolean isAssignable(@NotNull Type to, @NotNull Type from) {
+    if (to.equals(from) || to == Object.class) {
+      return true;
+    }
+    if (to instanceof Class<?>) {
+      return ((Class<?>) to).isAssignableFrom(erasure(from));
+    }
+    if (to instanceof ParameterizedType) {
+      return isAssignable((ParameterizedType) to, from);
+    }
+    if (to instanceof GenericArrayType) {
+      Type fromComponent = componentTypeOf(from);
+      return fromComponent != null && isAssignable(((GenericArrayType) to).getGenericComponentType(), fromComponent);
+    }
+    // type variables and wildcards cannot be checked.
+    return true;
+  }
+
+  private static boolean isAssignable(@NotNull ParameterizedType to, @NotNull Type from) {
+    Class<?> rawType = (Class<?>) to.getRawType();
+    if (!rawType.isAssignableFrom(erasure(from))) {
+      return false;
+    }
+    Type supertype = supertypeOf(from, rawType);
+    if (!(supertype instanceof ParameterizedType)) {
+      // a raw type can be assigned to any parameterization of it, with an unchecked warning.
+      return true;
+    }
+    Type[] toArguments = to.getActualTypeArguments();
+    Type[] fromArguments = ((ParameterizedType) supertype).getActualTypeArguments();
+    for (int i = 0; i < toArguments.length; i++) {
+      if (!contains(toArguments[i], fromArguments[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean contains(@NotNull Type to, @NotNull Type from) {
+    if (from instanceof TypeVariable<?> || to instanceof TypeVariable<?>) {
+      return true;
+    }
+    if (!(to instanceof WildcardType)) {
+      // a wildcard, like the one in the return type of Object.getClass(), may be captured as the expected type.
+      return to.equals(from) || from instanceof WildcardType && isAssignable(upperBoundOf(from), to);
+    }
+    WildcardType wildcard = (WildcardType) to;
+    for (Type upperBound : wildcard.getUpperBounds()) {
+      if (!isAssignable(upperBound, upperBoundOf(from))) {
+        return false;
+      }
+    }
+    for (Type lowerBound : wildcard.getLowerBounds()) {
+      Type fromLowerBound = lowerBoundOf(from);
+      if (fromLowerBound == null || !isAssignable(fromLowerBound, lowerBound)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static @NotNull Type upperBoundOf(@NotNull Type type) {
+    return type instanceof WildcardType ? ((WildcardType) type).getUpperBounds()[0] : type;
+  }
+
+  private static @Nullable Type lowerBoundOf(@NotNull Type type) {
+    if (!(type instanceof WildcardType)) {
+      return type;
+    }
+    Type[] lowerBounds = ((WildcardType) type).getLowerBounds();
+    return lowerBounds.length != 0 ? lowerBounds[0] : null;
+  }
+
+  // Returns the parameterization of the given class that the given type extends or implements, with the type
+  // variables of the intermediate supertypes replaced by their actual type arguments.
+  private static @NotNull Type supertypeOf(@NotNull Type type, @NotNull Class<?> superclass) {
+    Class<?> rawType = erasure(type);
+    if (rawType == superclass) {
+      return type;
+    }
+    Map<TypeVariable<?>, Type> arguments = new HashMap<TypeVariable<?>, Type>();
+    if (type instanceof ParameterizedType) {
+      TypeVariable<?>[] variables = rawType.getTypeParameters();
+      Type[] actualArguments = ((ParameterizedType) type).getActualTypeArguments();
+      for (int i = 0; i < variables.length; i++) {
+        arguments.put(variables[i], actualArguments[i]);
+      }
+    }
+    for (Type parent : supertypesOf(rawType)) {
+      if (superclass.isAssignableFrom(erasure(parent))) {
+        return supertypeOf(substitute(parent, arguments), superclass);
+      }
+    }
+    return superclass;
+  }
+
+  private static @NotNull Type[] supertypesOf(@NotNull Class<?> type) {
+    Type[] interfaces = type.getGenericInterfaces();
+    Type superclass = type.getGenericSuperclass();
+    if (superclass == null) {
+      return interfaces;
+    }
+    Type[] supertypes = Arrays.copyOf(interfaces, interfaces.length + 1);
+    supertypes[interfaces.length] = superclass;
+    return supertypes;
+  }
+
+  private static @NotNull Type substitute(@NotNull Type type, @NotNull Map<TypeVariable<?>, Type> arguments) {
+    if (type instanceof TypeVariable<?>) {
+      Type argument = arguments.get(type);
+      return argument != null ? argument : type;
+    }
+    if (!(type instanceof ParameterizedType) || arguments.isEmpty()) {
+      return type;
+    }
+    ParameterizedType parameterized = (ParameterizedType) type;
+    Type[] typeArguments = parameterized.getActualTypeArguments().clone();
+    for (int i = 0; i < typeArguments.length; i++) {
+      typeArguments[i] = substitute(typeArguments[i], arguments);
+    }
+    return new Parameterized(parameterized.getOwnerType(), parameterized.getRawType(), typeArguments);
+  }
+
+  private static @Nullable Type componentTypeOf(@NotNull Type type) {
+    if (type instanceof GenericArrayType) {
+      return ((GenericArrayType) type).getGenericComponentType();
+    }
+    return type instanceof Class<?> ? ((Class<?>) type).getComponentType() : null;
+  }
+
+  /**
+   * Returns the class a generic type is erased to.
+   *
+   * @param type the generic type.
+   * @return the erasure of the given type.
+   */
+  public static @NotNull Class<?> erasure(@NotNull Type type) {
+    if (type instanceof Class<?>) {
+      return (Class<?>) type;
+    }
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+    if (type instanceof GenericArrayType) {
+      Class<?> componentType = erasure(((GenericArrayType) type).getGenericComponentType());
+      return Array.newInstance(componentType, 0).getClass();
+    }
+    if (type instanceof TypeVariable<?>) {
+      return erasure(((TypeVariable<?>) type).getBounds()[0]);
+    }
+    if (type instanceof WildcardType) {
+      return erasure(((WildcardType) type).getUpperBounds()[0]);
+    }
+    return Object.class;
+  }
+
+  private static class Assignment {
+    private final Type to;
+    private final Member member;
+
+    Assignment(@NotNull Type to, @NotNull Member member) {
+      this.to = to;
+      this.member = member;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Assignment)) {
+        return false;
+      }
+      Assignment other = (Assignment) o;
+      return to.equals(other.to) && member.equals(other.member);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * to.hashCode() + member.hashCode();
+    }
+  }
+
+  // equal to the ParameterizedType created by the JDK for the same declaration.
+  private static class Parameterized implements ParameterizedType {
+    private final Type ownerType;
+    private final Type rawType;
+    private final Type[] typeArguments;
+
+    Parameterized(@Nullable Type ownerType, @NotNull Type rawType, @NotNull Type[] typeArguments) {
+      this.ownerType = ownerType;
+      this.rawType = rawType;
+      this.typeArguments = typeArguments;
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+      return typeArguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+      return rawType;
+    }
+
+    @Override
+    public Type getOwnerType() {
+      return ownerType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof ParameterizedType)) {
+        return false;
+      }
+      ParameterizedType other = (ParameterizedType) o;
+      return Objects.equals(ownerType, other.getOwnerType()) && Objects.equals(rawType, other.getRawType())
+          && Arrays.equals(typeArguments, other.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder b = new StringBuilder(((Class<?>) rawType).getName()).append('<');
+      for (int i = 0; i < typeArguments.length; i++) {
+        if (i > 0) {
+          b.append(", ");
+        }
+        b.append(typeArguments[i].getTypeName());
+      }
+      return b.append('>').toString();
+    }
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.util;
+
+import org.fest.reflect.exception.ReflectionError;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.fest.reflect.util.Accessibles.makeAccessible;
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.fest.util.Preconditions.checkNotNull;
+
+/**
+ * Utility methods that compile members into functional objects that are not bound to a target.
+ * <p/>
+ * Methods and constructors are compiled using {@code LambdaMetafactory}, which generates a class that calls the member
+ * directly, the same way a lambda expression or a method reference does. When {@code LambdaMetafactory} cannot be used
+ * (for example, because the member is not accessible from the given type,) or when the member is a field, the
+ * returned object delegates to a {@code MethodHandle} instead.
+ *
+ * @author Alex Ruiz
+ * @since 2.0
+ */
+public final class Lambdas {
+  private static final MethodType FUNCTION = methodType(Object.class, Object.class);
+  private static final MethodType BI_CONSUMER = methodType(void.class, Object.class, Object.class);
+  private static final MethodType SUPPLIER = methodType(Object.class);
+
+  private Lambdas() {
+  }
+
+  /**
+   * Compiles the given getter method into a {@code Function} that takes the target and returns the value returned by
+   * the getter.
+   *
+   * @param type   the type of the targets the returned {@code Function} will be applied to.
+   * @param getter the getter method.
+   * @return the created {@code Function}.
+   * @throws ReflectionError if the getter method is not accessible.
+   */
+  public static @NotNull <S, T> Function<S, T> getter(@NotNull Class<S> type, @NotNull Method getter) {
+    Lookup lookup = privateLookupIn(type);
+    MethodHandle handle = unreflect(lookup, getter);
+    MethodType instantiatedType = handle.type().changeParameterType(0, type).wrap();
+    Object lambda = metafactory(lookup, "apply", Function.class, FUNCTION, handle, instantiatedType);
+    if (lambda == null) {
+      lambda = new HandleFunction(handle.asType(FUNCTION));
+    }
+    return cast(lambda);
+  }
+
+  /**
+   * Compiles the given setter method into a {@code BiConsumer} that takes the target and the value to set.
+   *
+   * @param type   the type of the targets the returned {@code BiConsumer} will be applied to.
+   * @param setter the setter method.
+   * @return the created {@code BiConsumer}.
+   * @throws ReflectionError if the setter method is not accessible.
+   */
+  public static @NotNull <S, T> BiConsumer<S, T> setter(@NotNull Class<S> type, @NotNull Method setter) {
+    Lookup lookup = privateLookupIn(type);
+    MethodHandle handle = unreflect(lookup, setter);
+    MethodType instantiatedType = handle.type().changeParameterType(0, type).wrap().changeReturnType(void.class);
+    Object lambda = metafactory(lookup, "accept", BiConsumer.class, BI_CONSUMER, handle, instantiatedType);
+    if (lambda == null) {
+      lambda = new HandleBiConsumer(handle.asType(BI_CONSUMER));
+    }
+    return cast(lambda);
+  }
+
+  /**
+   * Compiles the given constructor, which must not have parameters, into a {@code Supplier} that creates new instances.
+   *
+   * @param constructor the constructor.
+   * @return the created {@code Supplier}.
+   * @throws ReflectionError if the constructor is not accessible.
+   */
+  public static @NotNull <T> Supplier<T> constructor(@NotNull Constructor<T> constructor) {
+    Class<T> type = constructor.getDeclaringClass();
+    Lookup lookup = privateLookupIn(type);
+    MethodHandle handle = unreflectConstructor(lookup, constructor);
+    Object lambda = metafactory(lookup, "get", Supplier.class, SUPPLIER, handle, handle.type());
+    if (lambda == null) {
+      lambda = new HandleSupplier(handle.asType(SUPPLIER));
+    }
+    return cast(lambda);
+  }
+
+  /**
+   * Compiles the given field into a {@code Function} that takes the target and returns the value of the field. If the
+   * field is static, the argument of the {@code Function} is ignored.
+   *
+   * @param type  the type of the targets the returned {@code Function} will be applied to.
+   * @param field the field.
+   * @return the created {@code Function}.
+   * @throws ReflectionError if the field is not accessible.
+   */
+  public static @NotNull <S, T> Function<S, T> fieldGetter(@NotNull Class<S> type, @NotNull Field field) {
+    MethodHandle handle = unreflectField(privateLookupIn(type), field, true);
+    if (isStatic(field.getModifiers())) {
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+    }
+    return cast(new HandleFunction(handle.asType(FUNCTION)));
+  }
+
+  /**
+   * Compiles the given field into a {@code BiConsumer} that takes the target and the value to set in the field. If the
+   * field is static, the first argument of the {@code BiConsumer} is ignored.
+   *
+   * @param type  the type of the targets the returned {@code BiConsumer} will be applied to.
+   * @param field the field.
+   * @return the created {@code BiConsumer}.
+   * @throws ReflectionError if the field is not accessible or if it is {@code final}.
+   */
+  public static @NotNull <S, T> BiConsumer<S, T> fieldSetter(@NotNull Class<S> type, @NotNull Field field) {
+    MethodHandle handle = unreflectField(privateLookupIn(type), field, false);
+    if (isStatic(field.getModifiers())) {
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+    }
+    return cast(new HandleBiConsumer(handle.asType(BI_CONSUMER)));
+  }
+
+  private static @Nullable Lookup privateLookupIn(@NotNull Class<?> type) {
+    try {
+      return MethodHandles.privateLookupIn(checkNotNull(type), MethodHandles.lookup());
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  private static @NotNull MethodHandle unreflect(@Nullable Lookup lookup, @NotNull Method method) {
+    if (lookup != null) {
+      try {
+        return lookup.unreflect(method);
+      } catch (IllegalAccessException ignored) {
+        // the method is not accessible from the lookup class, try with an accessible copy of the method.
+      }
+    }
+    try {
+      ClassMetadata metadata = metadataOf(method.getDeclaringClass());
+      Method copy = metadata.declaredMethod(method.getName(), method.getParameterTypes());
+      return MethodHandles.lookup().unreflect(accessible(checkNotNull(copy)));
+    } catch (Throwable t) {
+      throw cannotAccess(method, t);
+    }
+  }
+
+  private static @NotNull MethodHandle unreflectConstructor(@Nullable Lookup lookup,
+                                                            @NotNull Constructor<?> constructor) {
+    if (lookup != null) {
+      try {
+        return lookup.unreflectConstructor(constructor);
+      } catch (IllegalAccessException ignored) {
+        // the constructor is not accessible from the lookup class, try with an accessible copy of the constructor.
+      }
+    }
+    try {
+      ClassMetadata metadata = metadataOf(constructor.getDeclaringClass());
+      Constructor<?> copy = metadata.declaredConstructor(constructor.getParameterTypes());
+      return MethodHandles.lookup().unreflectConstructor(accessible(checkNotNull(copy)));
+    } catch (Throwable t) {
+      throw cannotAccess(constructor, t);
+    }
+  }
+
+  private static @NotNull MethodHandle unreflectField(@Nullable Lookup lookup, @NotNull Field field, boolean getter) {
+    if (lookup != null) {
+      try {
+        return getter ? lookup.unreflectGetter(field) : lookup.unreflectSetter(field);
+      } catch (IllegalAccessException ignored) {
+        // the field is not accessible from the lookup class, try with an accessible copy of the field.
+      }
+    }
+    try {
+      Field copy = accessible(checkNotNull(metadataOf(field.getDeclaringClass()).declaredField(field.getName())));
+      return getter ? MethodHandles.lookup().unreflectGetter(copy) : MethodHandles.lookup().unreflectSetter(copy);
+    } catch (Throwable t) {
+      throw cannotAccess(field, t);
+    }
+  }
+
+  private static @NotNull <T extends AccessibleObject> T accessible(@NotNull T member) {
+    makeAccessible(member);
+    return member;
+  }
+
+  // Returns null if LambdaMetafactory cannot be used with the given lookup and method handle.
+  private static @Nullable Object metafactory(@Nullable Lookup lookup, @NotNull String methodName,
+                                             @NotNull Class<?> functionalInterface, @NotNull MethodType methodType,
+                                             @NotNull MethodHandle implementation,
+                                             @NotNull MethodType instantiatedMethodType) {
+    if (lookup == null) {
+      return null;
+    }
+    try {
+      CallSite site = LambdaMetafactory.metafactory(lookup, methodName, methodType(functionalInterface), methodType,
+          implementation, instantiatedMethodType);
+      return site.getTarget().invoke();
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  private static @NotNull ReflectionError cannotAccess(@NotNull Object member, @NotNull Throwable cause) {
+    return new ReflectionError(String.format("Unable to compile %s", member), cause);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T cast(Object o) {
+    return (T) o;
+  }
+
+  private static @NotNull RuntimeException propagate(@NotNull Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    return new ReflectionError("Unable to complete compiled call", t);
+  }
+
+  private static class HandleFunction implements Function<Object, Object> {
+    private final MethodHandle handle;
+
+    HandleFunction(@NotNull MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public Object apply(Object target) {
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (Throwable t) {
+        throw propagate(t);
+      }
+    }
+  }
+
+  private static class HandleBiConsumer implements BiConsumer<Object, Object> {
+    private final MethodHandle handle;
+
+    HandleBiConsumer(@NotNull MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public void accept(Object target, Object value) {
+      try {
+        handle.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw propagate(t);
+      }
+    }
+  }
+
+  private static class HandleSupplier implements Supplier<Object> {
+    private final MethodHandle handle;
+
+    HandleSupplier(@NotNull MethodHandle handle) {
+      this.handle = handle;
+    }
+
+    @Override
+    public Object get() {
+      try {
+        return (Object) handle.invokeExact();
+      } catch (Throwable t) {
+        throw propagate(t);
+      }
+    }
+  }
+}
@@ -59,6 +59,22 @@ public final class Types {
     return type.cast(o);
   }
 
+  /**
+   * Indicates whether the given value can be passed as an argument of the given type without any conversion other than
+   * unboxing. Unlike {@link Class#isInstance(Object)}, this method handles primitive types.
+   *
+   * @param type  the type of the argument.
+   * @param value the value to pass as argument.
+   * @return {@code true} if the value is an instance of the given type, or of its wrapper type if the given type is
+   *         primitive; {@code false} otherwise.
+   */
+  public static boolean isInstance(@NotNull Class<?> type, @Nullable Object value) {
+    if (!type.isPrimitive()) {
+      return value == null || type.isInstance(value);
+    }
+    return value != null && getWrapperType(type) == value.getClass();
+  }
+
   @SuppressWarnings("unchecked")
   private static @NotNull <T> Class<T> getWrapperType(@NotNull Class<T> primitiveClass) {
     checkNotNull(primitiveClass);
@@ -18,6 +18,7 @@ import org.junit.Test;
 
 import static org.fest.reflect.core.Reflection.constructor;
 import static org.fest.reflect.core.Reflection.method;
+import static org.fest.reflect.method.InvocationEngine.METHOD_HANDLES;
 
 /**
  * Tests for <a href="http://jira.codehaus.org/browse/FEST-68" target="_blank">FEST-68</a>.
@@ -32,6 +33,12 @@ public class FEST68_CatchingWrongExceptions_Test {
     method("set").in(main).invoke();
   }
 
+  @Test(expected = MyRuntimeException.class)
+  public void should_not_catch_RuntimeException_when_calling_method_using_method_handles() {
+    Main main = new Main();
+    method("set").in(main).using(METHOD_HANDLES).invoke();
+  }
+
   @Test(expected = MyRuntimeException.class)
   public void should_not_catch_RuntimeException_when_calling_constructor() {
     constructor().withParameterTypes(String.class).in(Main.class).newInstance("Hello");
@@ -0,0 +1,228 @@
+/*
+ * Created on May 18, 2007
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2007-2013 the original author or authors.
+ */
+package org.fest.reflect.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.reverseOrder;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link Reflection#cloner()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Reflection_cloner_Test {
+  @Test
+  public void should_copy_fields_of_object_and_its_superclasses() {
+    Node original = new Node("root", 1);
+    original.weights = new int[] { 1, 2 };
+    original.unit = TimeUnit.SECONDS;
+    Node copy = Reflection.cloner().copy(original);
+    assertNotSame(original, copy);
+    assertEquals("root", copy.name);
+    assertEquals(1, copy.id);
+    assertSame(TimeUnit.SECONDS, copy.unit);
+    assertNotSame(original.weights, copy.weights);
+    assertArrayEquals(original.weights, copy.weights);
+  }
+
+  @Test
+  public void should_preserve_shared_references_and_cycles() {
+    Node root = new Node("root", 1);
+    Node child = new Node("child", 2);
+    root.children.add(child);
+    root.children.add(child);
+    child.parent = root;
+    Node copy = Reflection.cloner().copy(root);
+    Node childCopy = copy.children.get(0);
+    assertNotSame(child, childCopy);
+    assertSame(childCopy, copy.children.get(1));
+    assertSame(copy, childCopy.parent);
+  }
+
+  @Test
+  public void should_copy_arrays_collections_and_maps() {
+    Node original = new Node("root", 1);
+    Node child = new Node("child", 2);
+    original.related = new Node[] { child, null };
+    original.attributes.put("child", child);
+    original.tags.add("b");
+    original.tags.add("a");
+    Node copy = Reflection.cloner().copy(original);
+    Node childCopy = copy.related[0];
+    assertNotSame(child, childCopy);
+    assertNull(copy.related[1]);
+    assertSame(childCopy, copy.attributes.get("child"));
+    assertEquals(newArrayList("b", "a"), new ArrayList<String>(copy.tags));
+    assertNotSame(original.tags, copy.tags);
+  }
+
+  @Test
+  public void should_share_instances_of_immutable_types() {
+    Node original = new Node("root", 1);
+    Node child = new Node("child", 2);
+    original.children.add(child);
+    Node copy = Reflection.cloner().withImmutableTypes(Node.class).copy(original);
+    assertSame(original, copy);
+  }
+
+  @Test
+  public void should_copy_collections_created_by_factory_methods() {
+    Node child = new Node("child", 2);
+    Settings original = new Settings();
+    original.list = List.of(child);
+    original.map = Map.of("child", child);
+    original.fixedSize = Arrays.asList(child, null);
+    original.unmodifiableList = Collections.unmodifiableList(newArrayList(child));
+    original.unmodifiableMap = Collections.unmodifiableMap(new HashMap<String, Node>(original.map));
+    original.empty = Collections.emptyList();
+    original.singleton = Collections.singletonMap("child", child);
+    Settings copy = Reflection.cloner().copy(original);
+    Node childCopy = copy.list.get(0);
+    assertNotSame(child, childCopy);
+    assertEquals(List.of(childCopy), copy.list);
+    assertSame(childCopy, copy.map.get("child"));
+    assertEquals(Arrays.asList(childCopy, null), copy.fixedSize);
+    assertSame(childCopy, copy.unmodifiableList.get(0));
+    assertSame(childCopy, copy.unmodifiableMap.get("child"));
+    assertEquals(Collections.emptyList(), copy.empty);
+    assertSame(childCopy, copy.singleton.get("child"));
+    assertUnmodifiable(copy.list);
+    assertUnmodifiable(copy.unmodifiableList);
+    assertUnmodifiable(copy.empty);
+    assertUnmodifiable(copy.fixedSize);
+  }
+
+  @Test
+  public void should_copy_value_types_from_jdk() {
+    Node child = new Node("child", 2);
+    Settings original = new Settings();
+    original.count.set(6);
+    original.created = new Date(8L);
+    original.parent = Optional.of(child);
+    Settings copy = Reflection.cloner().copy(original);
+    assertNotSame(original.count, copy.count);
+    assertEquals(6, copy.count.get());
+    assertNotSame(original.created, copy.created);
+    assertEquals(original.created, copy.created);
+    assertNotSame(child, copy.parent.get());
+    assertEquals("child", copy.parent.get().name);
+  }
+
+  @Test
+  public void should_keep_comparator_of_priority_queues() {
+    Schedule original = new Schedule();
+    for (int priority : new int[] { 3, 1, 2 }) {
+      original.tasks.add(new int[] { priority });
+      original.pending.add(new int[] { priority });
+    }
+    Schedule copy = Reflection.cloner().copy(original);
+    assertNotSame(original.tasks, copy.tasks);
+    assertSame(original.tasks.comparator(), copy.tasks.comparator());
+    assertSame(original.pending.comparator(), copy.pending.comparator());
+    for (int priority = 1; priority <= 3; priority++) {
+      assertEquals(priority, copy.tasks.poll()[0]);
+      assertEquals(priority, copy.pending.poll()[0]);
+    }
+    assertEquals(3, original.tasks.size());
+  }
+
+  private static void assertUnmodifiable(List<?> list) {
+    try {
+      list.add(null);
+      fail("Expecting list to be unmodifiable");
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  private static class Entity {
+    final int id;
+
+    Entity() {
+      this(0);
+    }
+
+    Entity(int id) {
+      this.id = id;
+    }
+  }
+
+  private static class Node extends Entity {
+    final String name;
+    final List<Node> children = newArrayList();
+    final Map<String, Node> attributes = new HashMap<String, Node>();
+    final TreeSet<String> tags = new TreeSet<String>(reverseOrder());
+    Node parent;
+    Node[] related;
+    int[] weights;
+    TimeUnit unit;
+
+    Node() {
+      this(null, 0);
+    }
+
+    Node(String name, int id) {
+      super(id);
+      this.name = name;
+    }
+  }
+
+  private static class Schedule {
+    private static final Comparator<int[]> BY_PRIORITY = new Comparator<int[]>() {
+      @Override
+      public int compare(int[] a, int[] b) {
+        return a[0] - b[0];
+      }
+    };
+
+    final PriorityQueue<int[]> tasks = new PriorityQueue<int[]>(BY_PRIORITY);
+    final PriorityBlockingQueue<int[]> pending = new PriorityBlockingQueue<int[]>(11, BY_PRIORITY);
+  }
+
+  private static class Settings {
+    final AtomicInteger count = new AtomicInteger();
+    List<Node> list;
+    Map<String, Node> map;
+    List<Node> fixedSize;
+    List<Node> unmodifiableList;
+    Map<String, Node> unmodifiableMap;
+    List<Node> empty;
+    Map<String, Node> singleton;
+    Date created;
+    Optional<Node> parent;
+  }
+}
@@ -14,12 +14,14 @@
  */
 package org.fest.reflect.core;
 
+import org.fest.reflect.constructor.ConstructorInvoker;
 import org.fest.reflect.exception.ReflectionError;
 import org.fest.test.ExpectedException;
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
 import static org.fest.test.ExpectedException.none;
 import static org.junit.Assert.*;
@@ -87,6 +89,35 @@ public class Reflection_constructor_Test {
     }
   }
 
+  @Test
+  public void should_compile_default_constructor() {
+    Supplier<Person> newPerson = Reflection.constructor().in(Person.class).compile();
+    Person person = newPerson.get();
+    assertNotNull(person);
+    assertNotSame(person, newPerson.get());
+  }
+
+  @Test
+  public void should_throw_error_if_compiled_constructor_has_parameters() {
+    thrown.expect(ReflectionError.class);
+    Reflection.constructor().withParameterTypes(String.class).in(Person.class).compile();
+  }
+
+  @Test
+  public void should_create_new_instance_with_array_of_arguments() {
+    ConstructorInvoker<Person> newPerson = Reflection.constructor().withParameterTypes(String.class).in(Person.class);
+    assertEquals("Yoda", newPerson.newInstance(new Object[] { "Yoda" }).name);
+    assertEquals("Leia", newPerson.newInstance("Leia").name);
+  }
+
+  @Test
+  public void should_make_constructor_accessible_only_once() {
+    ConstructorInvoker<Person> newPerson = Reflection.constructor().withParameterTypes(String.class).in(Person.class);
+    assertTrue(newPerson.target().isAccessible());
+    assertEquals("Yoda", newPerson.newInstance("Yoda").name);
+    assertTrue(newPerson.target().isAccessible());
+  }
+
   static class Person {
     String name;
 
@@ -0,0 +1,126 @@
+/*
+ * Created on May 18, 2007
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2007-2013 the original author or authors.
+ */
+package org.fest.reflect.core;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.field.FieldCopier;
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link Reflection#copier(Class, Class)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Reflection_copier_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_copy_matching_fields() {
+    Entity entity = newEntity();
+    Dto dto = Reflection.copier(Entity.class, Dto.class).copy(entity, new Dto());
+    assertEquals("Yoda", dto.name);
+    assertEquals(900, dto.age);
+    assertEquals(66L, dto.height);
+    assertEquals(0.5d, dto.force, 0d);
+    assertEquals(true, dto.master);
+    assertEquals('Y', dto.initial);
+    assertSame(entity.powers, dto.powers);
+  }
+
+  @Test
+  public void should_skip_fields_that_cannot_be_copied() {
+    FieldCopier<Entity, Dto> copier = Reflection.copier(Entity.class, Dto.class);
+    assertEquals(newArrayList("age", "height", "force", "master", "initial", "powers", "name"), copier.fieldNames());
+    Dto dto = copier.copy(newEntity(), new Dto());
+    assertNull(dto.id);
+    assertEquals(0, dto.rank);
+  }
+
+  @Test
+  public void should_copy_only_selected_fields() {
+    Dto dto = Reflection.copier(Entity.class, Dto.class).only("name", "age").copy(newEntity(), new Dto());
+    assertEquals("Yoda", dto.name);
+    assertEquals(900, dto.age);
+    assertEquals(0L, dto.height);
+  }
+
+  @Test
+  public void should_not_copy_excluded_fields() {
+    Dto dto = Reflection.copier(Entity.class, Dto.class).excluding("name").copy(newEntity(), new Dto());
+    assertNull(dto.name);
+    assertEquals(900, dto.age);
+  }
+
+  @Test
+  public void should_throw_error_if_selected_field_cannot_be_copied() {
+    String msg = "Field 'rank' cannot be copied from " + Entity.class.getName() + " to " + Dto.class.getName();
+    thrown.expect(ReflectionError.class, msg);
+    Reflection.copier(Entity.class, Dto.class).only("rank");
+  }
+
+  private static Entity newEntity() {
+    Entity entity = new Entity();
+    entity.id = "1138";
+    entity.name = "Yoda";
+    entity.age = 900;
+    entity.height = 66L;
+    entity.force = 0.5d;
+    entity.master = true;
+    entity.initial = 'Y';
+    entity.rank = 1;
+    entity.powers = newArrayList("heal");
+    return entity;
+  }
+
+  private static class Person {
+    String name;
+  }
+
+  private static class Entity extends Person {
+    static int count;
+
+    String id;
+    int age;
+    long height;
+    double force;
+    boolean master;
+    char initial;
+    int rank;
+    List<String> powers;
+  }
+
+  private static class Dto {
+    final String id = null;
+    String name;
+    int age;
+    long height;
+    double force;
+    boolean master;
+    char initial;
+    long rank;
+    Iterable<String> powers;
+  }
+}
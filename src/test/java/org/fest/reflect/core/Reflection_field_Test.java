@@ -15,18 +15,33 @@
 package org.fest.reflect.core;
 
 import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.field.FieldAccessMode;
+import org.fest.reflect.field.FieldAccessor;
+import org.fest.reflect.field.IntFieldAccessor;
+import org.fest.reflect.field.PreparedField;
 import org.fest.reflect.reference.TypeRef;
 import org.fest.test.ExpectedException;
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
+import static org.fest.reflect.field.FieldAccessMode.OPAQUE;
+import static org.fest.reflect.field.FieldAccessMode.PLAIN;
+import static org.fest.reflect.field.FieldAccessMode.VOLATILE;
 import static org.fest.test.ExpectedException.none;
 import static org.fest.util.Lists.newArrayList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests for {@link Reflection#field(String)}.
@@ -69,6 +84,16 @@ public class Reflection_field_Test {
     Reflection.field("name").ofType(Integer.class).in(person).get();
   }
 
+  @Test
+  public void should_throw_error_if_wrong_field_type_was_specified_after_field_was_found() {
+    Person person = new Person();
+    Reflection.field("name").ofType(String.class).in(person);
+    String msg = "Expecting type of field 'name' in " + getClass().getName()
+        + "$Person to be <java.lang.Integer> but was <java.lang.String>";
+    thrown.expect(ReflectionError.class, msg);
+    Reflection.field("name").ofType(Integer.class).in(person);
+  }
+
   @Test
   public void should_throw_error_if_field_name_is_invalid() {
     Person person = new Person();
@@ -93,6 +118,25 @@ public class Reflection_field_Test {
     assertSame(jedi.powers, powers);
   }
 
+  @Test
+  public void should_throw_error_if_wrong_generic_field_type_was_specified() {
+    Jedi jedi = new Jedi();
+    String msg = "Expecting generic type of field 'powers' in " + getClass().getName()
+        + "$Jedi to be <java.util.List<java.lang.Integer>> but was <java.util.List<java.lang.String>>";
+    thrown.expect(ReflectionError.class, msg);
+    Reflection.field("powers").ofType(new TypeRef<List<Integer>>() {
+    }).in(jedi);
+  }
+
+  @Test
+  public void should_return_null_if_generic_type_of_field_to_find_does_not_match() {
+    Jedi jedi = new Jedi();
+    assertNull(Reflection.field("powers").ofType(new TypeRef<List<Integer>>() {
+    }).find(jedi));
+    assertNotNull(Reflection.field("powers").ofType(new TypeRef<Collection<? extends CharSequence>>() {
+    }).find(jedi));
+  }
+
   @Test
   public void should_access_static_field() {
     List<Person> persons = Reflection.field("elements").ofType(new TypeRef<List<Person>>() {
@@ -100,6 +144,209 @@ public class Reflection_field_Test {
     assertSame(Persons.elements, persons);
   }
 
+  @Test
+  public void should_get_and_set_field_value_using_VarHandle() {
+    Person person = new Person();
+    for (FieldAccessMode mode : new FieldAccessMode[] { PLAIN, OPAQUE, VOLATILE }) {
+      FieldAccessor<String> name = Reflection.field("name").ofType(String.class).in(person).using(mode);
+      name.set("Yoda " + mode);
+      assertEquals("Yoda " + mode, person.name);
+      assertEquals("Yoda " + mode, name.get());
+    }
+  }
+
+  @Test
+  public void should_throw_error_if_final_field_is_set_using_VarHandle() {
+    Droid droid = new Droid("R2-D2");
+    for (FieldAccessMode mode : new FieldAccessMode[] { PLAIN, OPAQUE, VOLATILE }) {
+      FieldAccessor<String> name = Reflection.field("name").ofType(String.class).in(droid).using(mode);
+      assertEquals("R2-D2", name.get());
+      try {
+        name.set("C-3PO");
+        fail("Expecting ReflectionError");
+      } catch (ReflectionError e) {
+        assertEquals("Failed to set value C-3PO in field 'name'", e.getMessage());
+        assertTrue(e.getCause() instanceof UnsupportedOperationException);
+      }
+    }
+    assertEquals("R2-D2", droid.name);
+  }
+
+  @Test
+  public void should_set_final_field_using_reflection() {
+    Droid droid = new Droid("R2-D2");
+    Reflection.field("name").ofType(String.class).in(droid).set("C-3PO");
+    assertEquals("C-3PO", Reflection.field("name").ofType(String.class).in(droid).get());
+  }
+
+  @Test
+  public void should_access_static_field_using_VarHandle() {
+    List<Person> persons = Reflection.field("elements").ofType(new TypeRef<List<Person>>() {
+    }).in(Persons.class).using(VOLATILE).get();
+    assertSame(Persons.elements, persons);
+  }
+
+  @Test
+  public void should_access_primitive_field_using_VarHandle() {
+    Counter counter = new Counter();
+    Reflection.field("value").ofType(int.class).in(counter).using(PLAIN).set(8);
+    assertEquals(8, counter.value);
+  }
+
+  @Test
+  public void should_compile_field_getter_and_setter() {
+    Function<Jedi, String> getName = Reflection.field("name").ofType(String.class).compileGetter(Jedi.class);
+    BiConsumer<Jedi, String> setName = Reflection.field("name").ofType(String.class).compileSetter(Jedi.class);
+    Jedi jedi = new Jedi();
+    setName.accept(jedi, "Yoda");
+    assertEquals("Yoda", jedi.name);
+    assertEquals("Yoda", getName.apply(jedi));
+  }
+
+  @Test
+  public void should_compile_static_field_getter() {
+    Function<Persons, List<Person>> getElements = Reflection.field("elements").ofType(new TypeRef<List<Person>>() {
+    }).compileGetter(Persons.class);
+    assertSame(Persons.elements, getElements.apply(null));
+  }
+
+  @Test
+  public void should_access_prepared_field_in_different_targets() {
+    PreparedField<String> name = Reflection.field("name").ofType(String.class).prepare(Jedi.class);
+    Jedi luke = new Jedi();
+    Jedi yoda = new Jedi();
+    name.set(luke, "Luke");
+    name.in(yoda).set("Yoda");
+    assertEquals("Luke", name.get(luke));
+    assertEquals("Yoda", name.get(yoda));
+  }
+
+  @Test
+  public void should_access_prepared_static_field_using_VarHandle() {
+    PreparedField<List<Person>> elements = Reflection.field("elements").ofType(new TypeRef<List<Person>>() {
+    }).prepare(Persons.class).using(VOLATILE);
+    assertSame(Persons.elements, elements.get(null));
+  }
+
+  @Test
+  public void should_make_field_accessible_only_once() {
+    Person person = new Person();
+    FieldAccessor<String> name = Reflection.field("name").ofType(String.class).in(person);
+    assertTrue(name.target().isAccessible());
+    name.set("Yoda");
+    assertEquals("Yoda", name.get());
+    assertTrue(name.target().isAccessible());
+  }
+
+  @Test
+  public void should_return_a_different_copy_of_field_on_every_call_to_target() {
+    Person person = new Person();
+    FieldAccessor<String> name = Reflection.field("name").ofType(String.class).in(person);
+    Field first = name.target();
+    first.setAccessible(false);
+    Field second = name.target();
+    assertEquals(first, second);
+    assertNotSame(first, second);
+    assertTrue(second.isAccessible());
+    name.set("Yoda");
+    assertEquals("Yoda", person.name);
+  }
+
+  @Test
+  public void should_access_int_field_without_boxing() {
+    Counter counter = new Counter();
+    IntFieldAccessor value = Reflection.field("value").ofType(int.class).in(counter).asInt();
+    value.setInt(6);
+    assertEquals(6, counter.value);
+    assertEquals(6, value.getInt());
+  }
+
+  @Test
+  public void should_access_primitive_fields_using_VarHandle() {
+    Counter counter = new Counter();
+    Reflection.field("total").ofType(long.class).in(counter).using(VOLATILE).asLong().setLong(8L);
+    PreparedField<Boolean> enabled = Reflection.field("enabled").ofType(boolean.class).prepare(Counter.class)
+        .using(OPAQUE);
+    enabled.setBoolean(counter, true);
+    assertEquals(8L, counter.total);
+    assertTrue(enabled.getBoolean(counter));
+  }
+
+  @Test
+  public void should_access_remaining_primitive_fields_without_boxing() {
+    Sensor sensor = new Sensor();
+    for (FieldAccessMode mode : FieldAccessMode.values()) {
+      Reflection.field("flags").ofType(byte.class).in(sensor).using(mode).asByte().setByte((byte) 3);
+      Reflection.field("level").ofType(short.class).in(sensor).using(mode).asShort().setShort((short) 300);
+      Reflection.field("unit").ofType(char.class).in(sensor).using(mode).asChar().setChar('C');
+      Reflection.field("reading").ofType(float.class).in(sensor).using(mode).asFloat().setFloat(1.5f);
+      assertEquals(3, sensor.flags);
+      assertEquals(300, sensor.level);
+      assertEquals('C', sensor.unit);
+      assertEquals(1.5f, sensor.reading, 0f);
+      PreparedField<Float> reading = Reflection.field("reading").ofType(float.class).prepare(Sensor.class).using(mode);
+      assertEquals(1.5f, reading.getFloat(sensor), 0f);
+      sensor.flags = 0;
+      sensor.level = 0;
+      sensor.unit = 0;
+      sensor.reading = 0f;
+    }
+  }
+
+  @Test
+  public void should_access_static_primitive_field_using_VarHandle() {
+    PreparedField<Double> ratio = Reflection.field("ratio").ofType(double.class).prepare(Counter.class)
+        .using(VOLATILE);
+    ratio.setDouble(null, 0.25d);
+    assertEquals(0.25d, Counter.ratio, 0d);
+    assertEquals(0.25d, ratio.getDouble(null), 0d);
+  }
+
+  @Test
+  public void should_access_static_double_field() {
+    PreparedField<Double> ratio = Reflection.field("ratio").ofType(double.class).prepare(Counter.class);
+    ratio.setDouble(null, 0.5d);
+    assertEquals(0.5d, ratio.getDouble(null), 0d);
+  }
+
+  @Test
+  public void should_throw_error_if_field_is_not_of_expected_primitive_type() {
+    String msg = "Expecting type of field 'value' in " + Counter.class.getName() + " to be <long> but was <int>";
+    thrown.expect(ReflectionError.class, msg);
+    Reflection.field("value").ofType(int.class).in(new Counter()).asLong();
+  }
+
+  @Test
+  public void should_find_field() {
+    Jedi jedi = new Jedi();
+    Reflection.field("name").ofType(String.class).find(jedi).set("Yoda");
+    assertEquals("Yoda", jedi.name);
+  }
+
+  @Test
+  public void should_return_null_if_field_to_find_does_not_exist() {
+    for (int i = 0; i < 2; i++) {
+      assertNull(Reflection.field("age").ofType(int.class).find(new Jedi()));
+      assertNull(Reflection.field("name").ofType(Integer.class).find(new Jedi()));
+    }
+    assertNotNull(Reflection.field("name").ofType(String.class).find(new Jedi()));
+  }
+
+  private static class Counter {
+    static double ratio;
+
+    int value;
+    long total;
+    boolean enabled;
+  }
+
+  private static class Sensor {
+    byte flags;
+    short level;
+    char unit;
+    float reading;
+  }
+
   private static class Persons {
     static List<Person> elements = newArrayList();
   }
@@ -108,6 +355,14 @@ public class Reflection_field_Test {
     String name;
   }
 
+  private static class Droid {
+    final String name;
+
+    Droid(String name) {
+      this.name = name;
+    }
+  }
+
   private static class Jedi extends Person {
     List<String> powers = newArrayList();
   }
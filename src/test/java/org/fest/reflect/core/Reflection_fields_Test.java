@@ -0,0 +1,145 @@
+/*
+ * Created on May 18, 2007
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2007-2013 the original author or authors.
+ */
+package org.fest.reflect.core;
+
+import org.fest.reflect.field.FieldLayout;
+import org.fest.reflect.field.FieldSnapshot;
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.fest.test.ExpectedException.none;
+import static org.fest.util.Lists.newArrayList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Reflection#fields()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Reflection_fields_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_compute_layout_including_superclass_fields() {
+    FieldLayout layout = Reflection.fields().layoutOf(Jedi.class);
+    assertSame(layout, Reflection.fields().layoutOf(Jedi.class));
+    assertEquals(newArrayList("Person.name", "Jedi.name", "master"), layout.referenceNames());
+    assertEquals(newArrayList("age", "midichlorians", "rank", "initial"), layout.longNames());
+    assertEquals(newArrayList("height", "force"), layout.doubleNames());
+    assertEquals(newArrayList("alive"), layout.booleanNames());
+  }
+
+  @Test
+  public void should_capture_values_of_fields() {
+    Jedi jedi = newJedi("Yoda");
+    FieldSnapshot snapshot = Reflection.fields().snapshot(jedi);
+    assertArrayEquals(new Object[] { "Person Yoda", "Yoda", null }, snapshot.references());
+    assertArrayEquals(new long[] { 900, 20000L, 3, 'Y' }, snapshot.longs());
+    assertEquals(0.66d, snapshot.doubles()[0], 0.0001d);
+    assertEquals(0.5d, snapshot.doubles()[1], 0d);
+    assertEquals(true, snapshot.booleans()[0]);
+    assertEquals(20000L, snapshot.get("midichlorians"));
+    assertEquals("Yoda", snapshot.get("Jedi.name"));
+  }
+
+  @Test
+  public void should_reuse_snapshot() {
+    FieldSnapshot snapshot = Reflection.fields().snapshot(newJedi("Yoda"));
+    Object[] references = snapshot.references();
+    assertSame(snapshot, Reflection.fields().snapshot(newJedi("Luke"), snapshot));
+    assertSame(references, snapshot.references());
+    assertEquals("Luke", snapshot.get("Jedi.name"));
+  }
+
+  @Test
+  public void should_skip_inaccessible_fields_of_jdk_superclasses() {
+    Roster roster = new Roster("Jedi");
+    roster.add("Yoda");
+    FieldSnapshot snapshot = Reflection.fields().snapshot(roster);
+    FieldLayout layout = snapshot.layout();
+    assertEquals(newArrayList("title"), layout.referenceNames());
+    assertTrue(layout.inaccessibleNames().containsAll(newArrayList("modCount", "elementData", "size")));
+    assertEquals("Jedi", snapshot.get("title"));
+  }
+
+  @Test
+  public void should_capture_fields_of_exceptions() {
+    FieldSnapshot snapshot = Reflection.fields().snapshot(new JediException(6));
+    assertEquals(6L, snapshot.get("code"));
+    assertTrue(snapshot.layout().inaccessibleNames().contains("detailMessage"));
+  }
+
+  @Test
+  public void should_throw_error_if_snapshot_was_created_for_another_class() {
+    FieldSnapshot snapshot = Reflection.fields().snapshot(new Person());
+    thrown.expect(IllegalArgumentException.class);
+    Reflection.fields().snapshot(newJedi("Yoda"), snapshot);
+  }
+
+  private static Jedi newJedi(String name) {
+    Jedi jedi = new Jedi();
+    ((Person) jedi).name = "Person " + name;
+    jedi.name = name;
+    jedi.age = 900;
+    jedi.height = 0.66f;
+    jedi.alive = true;
+    jedi.midichlorians = 20000L;
+    jedi.force = 0.5d;
+    jedi.rank = 3;
+    jedi.initial = name.charAt(0);
+    return jedi;
+  }
+
+  private static class Person {
+    static int count;
+
+    String name;
+    int age;
+    float height;
+    boolean alive;
+  }
+
+  private static class Jedi extends Person {
+    String name;
+    long midichlorians;
+    double force;
+    byte rank;
+    char initial;
+    Jedi master;
+  }
+
+  private static class Roster extends ArrayList<String> {
+    final String title;
+
+    Roster(String title) {
+      this.title = title;
+    }
+  }
+
+  private static class JediException extends RuntimeException {
+    final int code;
+
+    JediException(int code) {
+      this.code = code;
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Created on Nov 23, 2009
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2009-2013 the original author or authors.
+ */
+package org.fest.reflect.core;
+
+import org.fest.reflect.beanproperty.BeanMapper;
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.test.ExpectedException.none;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link Reflection#mapper(Class)}.
+ *
+ * @author Alex Ruiz
+ */
+public class Reflection_mapper_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_convert_bean_to_map() {
+    Map<String, Object> values = Reflection.mapper(Person.class).toMap(new Person("Yoda", 900));
+    assertEquals(3, values.size());
+    assertEquals("Yoda", values.get("name"));
+    assertEquals(900, values.get("age"));
+    assertTrue(values.containsKey("title"));
+    assertFalse(values.containsKey("class"));
+  }
+
+  @Test
+  public void should_skip_null_values() {
+    BeanMapper<Person> mapper = Reflection.mapper(Person.class).skippingNulls();
+    Map<String, Object> values = mapper.toMap(new Person("Yoda", 900));
+    assertFalse(values.containsKey("title"));
+    Person person = new Person("Luke", 19);
+    person.title = "Jedi";
+    values.put("title", null);
+    mapper.fromMap(values, person);
+    assertEquals("Jedi", person.title);
+  }
+
+  @Test
+  public void should_reuse_output_map() {
+    BeanMapper<Person> mapper = Reflection.mapper(Person.class);
+    Map<String, Object> output = new HashMap<String, Object>();
+    output.put("unrelated", true);
+    assertSame(output, mapper.toMap(new Person("Yoda", 900), output));
+    assertEquals(3, output.size());
+    assertEquals("Yoda", output.get("name"));
+  }
+
+  @Test
+  public void should_convert_map_to_bean() {
+    Map<String, Object> values = new HashMap<String, Object>();
+    values.put("name", "Yoda");
+    values.put("age", 900);
+    Person person = Reflection.mapper(Person.class).fromMap(values);
+    assertEquals("Yoda", person.getName());
+    assertEquals(900, person.getAge());
+    assertNull(person.getTitle());
+  }
+
+  @Test
+  public void should_convert_bean_to_row_and_back() {
+    BeanMapper<Person> mapper = Reflection.mapper(Person.class);
+    List<String> names = mapper.propertyNames();
+    Object[] row = mapper.toRow(new Person("Yoda", 900));
+    assertEquals(names.size(), row.length);
+    assertEquals("Yoda", row[names.indexOf("name")]);
+    Person person = mapper.fromRow(row);
+    assertEquals("Yoda", person.getName());
+    assertEquals(900, person.getAge());
+  }
+
+  @Test
+  public void should_throw_error_if_value_cannot_be_set() {
+    Map<String, Object> values = new HashMap<String, Object>();
+    values.put("age", "old");
+    thrown.expect(ReflectionError.class, "Failed to set value old in property 'age'");
+    Reflection.mapper(Person.class).fromMap(values);
+  }
+
+  @Test
+  public void should_wrap_checked_exception_thrown_by_getter() {
+    try {
+      Reflection.mapper(Ship.class).toMap(new Ship());
+      fail("Expecting ReflectionError");
+    } catch (ReflectionError e) {
+      assertEquals("Failed to get the value of property 'hyperdrive'", e.getMessage());
+      assertTrue(e.getCause() instanceof IOException);
+    }
+  }
+
+  public static class Ship {
+    public String getHyperdrive() throws IOException {
+      throw new IOException("Broken hyperdrive");
+    }
+  }
+
+  public static class Person {
+    private String name;
+    private int age;
+    private String title;
+
+    public Person() {
+    }
+
+    Person(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public void setAge(int age) {
+      this.age = age;
+    }
+
+    public String getTitle() {
+      return title;
+    }
+
+    public void setTitle(String title) {
+      this.title = title;
+    }
+  }
+}
@@ -14,16 +14,26 @@
  */
 package org.fest.reflect.core;
 
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.method.InvocationEngine;
+import org.fest.reflect.method.MethodInvoker;
+import org.fest.reflect.method.PreparedMethod;
 import org.fest.reflect.reference.TypeRef;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.Iterator;
 import java.util.List;
 
 import static java.math.BigDecimal.ONE;
+import static org.fest.reflect.method.InvocationEngine.METHOD_HANDLES;
+import static org.fest.reflect.method.InvocationEngine.REFLECTION;
 import static org.fest.util.Lists.newArrayList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests for {@link Reflection#method(String)}.
@@ -74,6 +84,12 @@ public class Reflection_method_Test {
     assertEquals(list, newArrayList(iterator));
   }
 
+  @Test(expected = ReflectionError.class)
+  public void should_throw_error_if_wrong_generic_return_type_was_specified() {
+    Reflection.method("history").withReturnType(new TypeRef<List<String>>() {
+    }).in(new Counter());
+  }
+
   @Test
   public void should_invoke_method_with_primitive_parameters_and_primitive_return_type() {
     Counter counter = new Counter();
@@ -92,12 +108,156 @@ public class Reflection_method_Test {
     assertEquals(new BigDecimal("11.00"), result);
   }
 
+  @Test
+  public void should_invoke_method_declared_in_super_type() {
+    SubCounter counter = new SubCounter();
+    counter.value = 1;
+    int result = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class).in(counter).invoke(2);
+    assertEquals(3, result);
+  }
+
+  @Test
+  public void should_return_a_different_copy_of_method_on_every_lookup() {
+    Counter counter = new Counter();
+    Method first = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class).in(counter)
+        .target();
+    Method second = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class).in(counter)
+        .target();
+    assertEquals(first, second);
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void should_invoke_method_using_method_handles() {
+    Counter counter = new Counter();
+    counter.value = 2;
+    int result = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class).in(counter)
+        .using(METHOD_HANDLES)
+        .invoke(6);
+    assertEquals(8, result);
+  }
+
+  @Test
+  public void should_invoke_static_method_using_method_handles() {
+    Reflection.method("reset").in(Counter.class).using(METHOD_HANDLES).invoke();
+    assertEquals(0, Counter.count);
+  }
+
+  @Test
+  public void should_invoke_method_with_void_return_type_using_method_handles() {
+    List<String> list = newArrayList();
+    Reflection.method("add").withParameterTypes(int.class, Object.class).in(list).using(METHOD_HANDLES)
+        .invoke(0, "Test");
+    assertEquals(newArrayList("Test"), list);
+  }
+
+  @Test
+  public void should_use_default_invocation_engine() {
+    InvocationEngine.setDefault(METHOD_HANDLES);
+    try {
+      Counter counter = new Counter();
+      int result = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class).in(counter)
+          .invoke(6);
+      assertEquals(6, result);
+    } finally {
+      InvocationEngine.setDefault(REFLECTION);
+    }
+  }
+
+  @Test
+  public void should_invoke_prepared_method_on_different_targets() {
+    PreparedMethod<Integer> add = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class)
+        .prepare(SubCounter.class);
+    SubCounter first = new SubCounter();
+    SubCounter second = new SubCounter();
+    assertEquals(2, (int) add.invoke(first, 2));
+    assertEquals(3, (int) add.invoke(second, 3));
+    assertEquals(6, (int) add.in(first).invoke(4));
+  }
+
+  @Test
+  public void should_invoke_prepared_method_using_method_handles() {
+    PreparedMethod<Integer> add = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class)
+        .prepare(Counter.class).using(METHOD_HANDLES);
+    Counter counter = new Counter();
+    assertEquals(5, (int) add.invoke(counter, 5));
+  }
+
+  @Test
+  public void should_return_a_different_copy_of_prepared_method_on_every_call() {
+    PreparedMethod<Void> reset = Reflection.method("reset").prepare(Counter.class);
+    Method first = reset.target();
+    first.setAccessible(false);
+    Method second = reset.target();
+    assertEquals(first, second);
+    assertNotSame(first, second);
+    assertTrue(second.isAccessible());
+    Counter.count = 1;
+    reset.invoke(null);
+    assertEquals(0, Counter.count);
+  }
+
+  @Test
+  public void should_make_method_accessible_only_once() {
+    PreparedMethod<Void> reset = Reflection.method("reset").prepare(Counter.class);
+    assertTrue(reset.target().isAccessible());
+    Counter.count = 1;
+    reset.invoke(null);
+    assertEquals(0, Counter.count);
+    assertTrue(reset.target().isAccessible());
+  }
+
+  @Test
+  public void should_invoke_method_with_fixed_number_of_arguments() {
+    PreparedMethod<Integer> add = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class)
+        .prepare(Counter.class);
+    Counter counter = new Counter();
+    assertEquals(2, (int) add.invoke(counter, 2));
+    assertEquals(5, (int) add.invoke(counter, new Object[] { 3 }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_argument_does_not_match_parameter_type() {
+    PreparedMethod<Integer> add = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class)
+        .prepare(Counter.class);
+    add.invoke(new Counter(), "two");
+  }
+
+  @Test
+  public void should_find_method() {
+    Counter counter = new Counter();
+    MethodInvoker<Integer> add = Reflection.method("add").withReturnType(int.class).withParameterTypes(int.class)
+        .find(counter);
+    assertEquals(3, (int) add.invoke(3));
+  }
+
+  @Test
+  public void should_return_null_if_method_to_find_does_not_exist() {
+    for (int i = 0; i < 2; i++) {
+      assertNull(Reflection.method("close").find(new SubCounter()));
+      assertNull(Reflection.method("add").withParameterTypes(long.class).find(Counter.class));
+    }
+  }
+
   static class Counter {
+    static int count = 1;
+
     int value;
 
+    private static void reset() {
+      count = 0;
+    }
+
     int add(int value) {
       this.value += value;
       return this.value;
     }
+
+    List<Integer> history() {
+      return newArrayList(value);
+    }
+  }
+
+  static class SubCounter extends Counter {
   }
 }
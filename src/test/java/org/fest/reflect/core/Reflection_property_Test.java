@@ -14,15 +14,19 @@
  */
 package org.fest.reflect.core;
 
+import org.fest.reflect.beanproperty.PreparedProperty;
 import org.fest.reflect.exception.ReflectionError;
 import org.fest.reflect.reference.TypeRef;
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.beans.PropertyDescriptor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static org.fest.test.ExpectedException.none;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 /**
  * Tests for {@link Reflection#property(String)}.
@@ -96,8 +100,90 @@ public class Reflection_property_Test {
     assertEquals("Yoda", person.getName());
   }
 
+  @Test
+  public void should_get_boolean_property_value() {
+    Person person = new Person();
+    person.setJedi(true);
+    boolean jedi = Reflection.property("jedi").ofType(boolean.class).in(person).get();
+    assertEquals(true, jedi);
+  }
+
+  @Test
+  public void should_get_property_value_using_Introspector() {
+    Person person = new Person();
+    person.setName("Yoda");
+    String name = Reflection.property("name").usingIntrospector().ofType(String.class).in(person).get();
+    assertEquals("Yoda", name);
+  }
+
+  @Test
+  public void should_set_property_value_using_Introspector() {
+    Person person = new Person();
+    Reflection.property("name").usingIntrospector().ofType(String.class).in(person).set("Yoda");
+    assertEquals("Yoda", person.getName());
+  }
+
+  @Test
+  public void should_return_property_descriptor_using_Introspector() {
+    Person person = new Person();
+    PropertyDescriptor property = Reflection.property("name").usingIntrospector().ofType(String.class).in(person)
+        .target();
+    assertEquals("name", property.getName());
+    assertEquals(String.class, property.getPropertyType());
+  }
+
+  @Test
+  public void should_compile_property_getter_and_setter() {
+    Function<Person, String> getName = Reflection.property("name").ofType(String.class).compileGetter(Person.class);
+    BiConsumer<Person, String> setName = Reflection.property("name").ofType(String.class).compileSetter(Person.class);
+    Person person = new Person();
+    setName.accept(person, "Yoda");
+    assertEquals("Yoda", person.getName());
+    assertEquals("Yoda", getName.apply(person));
+  }
+
+  @Test
+  public void should_compile_primitive_property_getter() {
+    Function<Person, Boolean> isJedi = Reflection.property("jedi").ofType(boolean.class).compileGetter(Person.class);
+    Person person = new Person();
+    person.setJedi(true);
+    assertEquals(true, isJedi.apply(person));
+  }
+
+  @Test
+  public void should_throw_error_if_compiled_property_does_not_have_a_setter() {
+    String message = "Failed to find a setter for property 'class' in " + getClass().getName() + "$Person";
+    thrown.expect(ReflectionError.class, message);
+    Reflection.property("class").ofType(Class.class).compileSetter(Person.class);
+  }
+
+  @Test
+  public void should_access_prepared_property_in_different_targets() {
+    PreparedProperty<String> name = Reflection.property("name").ofType(String.class).prepare(Person.class);
+    Person luke = new Person();
+    Person yoda = new Person();
+    name.set(luke, "Luke");
+    name.in(yoda).set("Yoda");
+    assertEquals("Luke", name.get(luke));
+    assertEquals("Yoda", name.get(yoda));
+  }
+
+  @Test
+  public void should_find_property() {
+    Person person = new Person();
+    Reflection.property("name").ofType(String.class).find(person).set("Yoda");
+    assertEquals("Yoda", person.getName());
+  }
+
+  @Test
+  public void should_return_null_if_property_to_find_does_not_exist() {
+    assertNull(Reflection.property("age").ofType(int.class).find(new Person()));
+    assertNull(Reflection.property("name").ofType(Integer.class).find(new Person()));
+  }
+
   public static class Person {
     private String name;
+    private boolean jedi;
 
     public String getName() {
       return name;
@@ -106,5 +192,13 @@ public class Reflection_property_Test {
     public void setName(String name) {
       this.name = name;
     }
+
+    public boolean isJedi() {
+      return jedi;
+    }
+
+    public void setJedi(boolean jedi) {
+      this.jedi = jedi;
+    }
   }
 }
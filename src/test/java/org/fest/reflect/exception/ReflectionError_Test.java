@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.exception;
+
+import org.junit.Test;
+
+import java.util.IllegalFormatException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ReflectionError}.
+ *
+ * @author Alex Ruiz
+ */
+public class ReflectionError_Test {
+  @Test
+  public void should_format_message_lazily() {
+    Throwable cause = new IllegalStateException();
+    Class<?>[] types = { int.class };
+    CountingToString name = new CountingToString("name");
+    ReflectionError error = ReflectionError.of(cause, "Failed to find %s with types %s", name, types);
+    assertEquals(1, name.count);
+    assertEquals("Failed to find name with types [int]", error.getMessage());
+    assertEquals("Failed to find name with types [int]", error.getMessage());
+    assertEquals(1, name.count);
+    assertSame(cause, error.getCause());
+  }
+
+  @Test
+  public void should_not_format_message_until_requested() {
+    ReflectionError error = ReflectionError.of("Expecting %d columns", "three");
+    try {
+      error.getMessage();
+      fail("Expecting IllegalFormatException");
+    } catch (IllegalFormatException expected) {
+    }
+    assertEquals("Expecting 3 columns", ReflectionError.of("Expecting %d columns", 3).getMessage());
+  }
+
+  @Test
+  public void should_capture_stack_trace_by_default() {
+    assertTrue(new ReflectionError("Failed").getStackTrace().length > 0);
+  }
+
+  @Test
+  public void should_not_capture_stack_trace_if_disabled() {
+    ReflectionError.setStackTraceEnabled(false);
+    try {
+      assertEquals(0, ReflectionError.of("Failed to find %s", "name").getStackTrace().length);
+      assertEquals(0, new ReflectionError("Failed").getStackTrace().length);
+    } finally {
+      ReflectionError.setStackTraceEnabled(true);
+    }
+  }
+
+  private static class CountingToString {
+    private final String value;
+    int count;
+
+    CountingToString(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      count++;
+      return value;
+    }
+  }
+}
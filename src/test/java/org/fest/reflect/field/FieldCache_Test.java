@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 17, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.field;
+
+import org.fest.reflect.core.Reflection;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link FieldCache}.
+ *
+ * @author Alex Ruiz
+ */
+public class FieldCache_Test {
+  @Test
+  public void should_share_accessible_field_between_accessors() {
+    Field cached = FieldCache.findFieldInClassHierarchy(Jedi.class, "name");
+    assertTrue(cached.isAccessible());
+    Jedi jedi = new Jedi();
+    FieldAccessor<String> first = Reflection.field("name").ofType(String.class).in(jedi);
+    FieldAccessor<String> second = Reflection.field("name").ofType(String.class).in(jedi);
+    first.set("Yoda");
+    assertEquals("Yoda", second.get());
+    assertSame(cached, FieldCache.findFieldInClassHierarchy(Jedi.class, "name"));
+    assertSame(cached, FieldCache.findFieldInClassHierarchy(Jedi.class, "name"));
+  }
+
+  @Test
+  public void should_return_accessible_copy_of_cached_field() {
+    Field cached = FieldCache.findFieldInClassHierarchy(Jedi.class, "name");
+    Field copy = FieldCache.copyOf(cached);
+    assertEquals(cached, copy);
+    assertNotSame(cached, copy);
+    assertTrue(copy.isAccessible());
+  }
+
+  private static class Person {
+    private String name;
+  }
+
+  private static class Jedi extends Person {
+  }
+}
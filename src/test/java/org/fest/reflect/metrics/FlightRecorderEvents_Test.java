@@ -0,0 +1,89 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.fest.reflect.core.Reflection.method;
+import static org.fest.reflect.metrics.Operation.METHOD_INVOCATION;
+import static org.fest.reflect.metrics.Operation.METHOD_LOOKUP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link FlightRecorderEvents}.
+ *
+ * @author Alex Ruiz
+ */
+public class FlightRecorderEvents_Test {
+  @Test
+  public void should_use_default_threshold() {
+    FlightRecorderEvents events = new FlightRecorderEvents().withThreshold(METHOD_LOOKUP, 2, SECONDS);
+    assertEquals(MILLISECONDS.toNanos(1), events.thresholdNanos(METHOD_INVOCATION));
+    assertEquals(SECONDS.toNanos(2), events.thresholdNanos(METHOD_LOOKUP));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_threshold_is_negative() {
+    new FlightRecorderEvents().withThreshold(METHOD_LOOKUP, -1, SECONDS);
+  }
+
+  @Test
+  public void should_record_operations_slower_than_threshold() throws Exception {
+    FlightRecorderEvents events = new FlightRecorderEvents().withThreshold(METHOD_INVOCATION, 0, MILLISECONDS);
+    List<RecordedEvent> recorded = new ArrayList<RecordedEvent>();
+    File file = File.createTempFile("fest-reflect", ".jfr");
+    Recording recording = new Recording();
+    try {
+      recording.enable(InvocationEvent.NAME);
+      recording.enable(LookupEvent.NAME);
+      recording.start();
+      Instrumentation.addListener(events);
+      method("train").in(new Jedi()).invoke();
+      Instrumentation.removeListener(events);
+      recording.stop();
+      recording.dump(file.toPath());
+      for (RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+        if (event.getEventType().getName().equals(InvocationEvent.NAME)) {
+          recorded.add(event);
+        }
+      }
+    } finally {
+      Instrumentation.removeListener(events);
+      recording.close();
+      file.delete();
+    }
+    assertEquals(1, recorded.size());
+    RecordedEvent event = recorded.get(0);
+    assertEquals("METHOD_INVOCATION", event.getString("operation"));
+    assertEquals("train", event.getString("name"));
+    assertEquals(Jedi.class.getName(), event.getClass("type").getName());
+    assertTrue(event.getBoolean("succeeded"));
+  }
+
+  static class Jedi {
+    void train() {
+    }
+  }
+}
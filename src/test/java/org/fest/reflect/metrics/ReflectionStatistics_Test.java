@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.fest.reflect.core.Reflection.field;
+import static org.fest.reflect.core.Reflection.method;
+import static org.fest.reflect.metrics.Operation.FIELD_ACCESS;
+import static org.fest.reflect.metrics.Operation.FIELD_LOOKUP;
+import static org.fest.reflect.metrics.Operation.METHOD_INVOCATION;
+import static org.fest.reflect.metrics.Operation.METHOD_LOOKUP;
+import static org.fest.reflect.metrics.Outcome.FAILURE;
+import static org.fest.reflect.metrics.Outcome.HIT;
+import static org.fest.reflect.metrics.Outcome.MISS;
+import static org.fest.reflect.metrics.Outcome.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ReflectionStatistics}.
+ *
+ * @author Alex Ruiz
+ */
+public class ReflectionStatistics_Test {
+  private ReflectionStatistics statistics;
+
+  @Before
+  public void setUp() {
+    statistics = new ReflectionStatistics();
+    Instrumentation.addListener(statistics);
+  }
+
+  @After
+  public void tearDown() {
+    Instrumentation.removeListener(statistics);
+  }
+
+  @Test
+  public void should_count_lookups_and_invocations() {
+    Jedi jedi = new Jedi();
+    field("name").ofType(String.class).in(jedi).set("Yoda");
+    assertEquals("Yoda", field("name").ofType(String.class).in(jedi).get());
+    assertEquals(2, statistics.count(FIELD_LOOKUP, HIT) + statistics.count(FIELD_LOOKUP, MISS));
+    assertTrue(statistics.count(FIELD_LOOKUP, HIT) > 0);
+    assertEquals(2, statistics.count(FIELD_ACCESS, SUCCESS));
+    method("train").in(jedi).invoke();
+    assertEquals(1, statistics.count(METHOD_INVOCATION, SUCCESS));
+    assertEquals(1, statistics.count(METHOD_LOOKUP, HIT) + statistics.count(METHOD_LOOKUP, MISS));
+    assertEquals(Long.valueOf(1), statistics.getCounts().get("METHOD_INVOCATION.SUCCESS"));
+  }
+
+  @Test
+  public void should_count_failed_lookups() {
+    assertNull(field("age").ofType(int.class).find(new Jedi()));
+    assertEquals(1, statistics.count(FIELD_LOOKUP, FAILURE));
+    assertEquals(0, statistics.count(METHOD_LOOKUP, FAILURE));
+  }
+
+  @Test
+  public void should_record_latencies() {
+    statistics.operationCompleted(FIELD_ACCESS, SUCCESS, 1000);
+    assertEquals(1000, statistics.totalTimeNanos(FIELD_ACCESS));
+    assertEquals(1, statistics.latencyHistogram(FIELD_ACCESS)[9]);
+    statistics.reset();
+    assertEquals(0, statistics.totalTimeNanos(FIELD_ACCESS));
+  }
+
+  @Test
+  public void should_disable_instrumentation_when_last_listener_is_removed() {
+    assertTrue(Instrumentation.isEnabled());
+    Instrumentation.removeListener(statistics);
+    assertFalse(Instrumentation.isEnabled());
+    field("name").ofType(String.class).in(new Jedi()).get();
+    assertEquals(0, statistics.count(FIELD_ACCESS, SUCCESS));
+  }
+
+  static class Jedi {
+    private String name;
+
+    void train() {
+    }
+  }
+}
@@ -14,11 +14,15 @@
  */
 package org.fest.reflect.reference;
 
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.reflect.util.ClassMetadata;
 import org.junit.Test;
 
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests for {@link TypeRef}.
@@ -32,4 +36,23 @@ public class TypeRefTest {
     Class<List<String>> rawType = typeRef.rawType();
     assertEquals(List.class, rawType);
   }
+
+  @Test public void should_resolve_generic_type_once_per_subclass() {
+    Class<?> first = null;
+    for (int i = 0; i < 2; i++) {
+      TypeRef<List<String>> typeRef = new TypeRef<List<String>>() {
+      };
+      if (first == null) {
+        first = typeRef.getClass();
+      }
+      assertSame(first, typeRef.getClass());
+      assertEquals(List.class, typeRef.rawType());
+    }
+    assertTrue(ClassMetadata.cachedTypes().contains(first));
+  }
+
+  @Test(expected = ReflectionError.class) public void should_throw_error_if_type_parameter_is_missing() {
+    new TypeRef() {
+    };
+  }
 }
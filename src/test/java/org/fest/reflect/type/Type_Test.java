@@ -21,10 +21,13 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.fest.test.ExpectedException.none;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests for {@link Type}.
@@ -32,6 +35,8 @@ import static org.junit.Assert.assertTrue;
  * @author Alex Ruiz
  */
 public class Type_Test {
+  static final Set<String> INITIALIZED = ConcurrentHashMap.newKeySet();
+
   @Rule
   public ExpectedException thrown = none();
 
@@ -88,4 +93,58 @@ public class Type_Test {
       assertTrue(expected.getCause() instanceof ClassNotFoundException);
     }
   }
+
+  @Test
+  public void should_call_ClassLoader_only_once_per_name() {
+    CountingClassLoader classLoader = new CountingClassLoader();
+    assertEquals(Integer.class, new Type(Integer.class.getName()).withClassLoader(classLoader).load());
+    assertEquals(Integer.class, new Type(Integer.class.getName()).withClassLoader(classLoader).load());
+    for (int i = 0; i < 2; i++) {
+      try {
+        new Type("org.fest.reflect.NonExistingType").withClassLoader(classLoader).load();
+        fail("expecting ReflectionError");
+      } catch (ReflectionError expected) {
+        assertTrue(expected.getCause() instanceof ClassNotFoundException);
+      }
+    }
+    assertEquals(2, classLoader.loadCount);
+  }
+
+  @Test
+  public void should_call_ClassLoader_again_after_invalidating_cache() {
+    CountingClassLoader classLoader = new CountingClassLoader();
+    new Type(Integer.class.getName()).withClassLoader(classLoader).load();
+    TypeCache.invalidate(classLoader, Integer.class.getName());
+    new Type(Integer.class.getName()).withClassLoader(classLoader).load();
+    TypeCache.invalidate(classLoader);
+    new Type(Integer.class.getName()).withClassLoader(classLoader).load();
+    assertEquals(3, classLoader.loadCount);
+  }
+
+  @Test
+  public void should_initialize_class_eagerly() {
+    Class<?> type = new Type(Initialized.class.getName()).using(Initialization.EAGER).load();
+    assertEquals(Initialized.class, type);
+    assertTrue(INITIALIZED.contains("Initialized"));
+  }
+
+  static class Initialized {
+    static {
+      INITIALIZED.add("Initialized");
+    }
+  }
+
+  private static class CountingClassLoader extends ClassLoader {
+    int loadCount;
+
+    CountingClassLoader() {
+      super(Type_Test.class.getClassLoader());
+    }
+
+    @Override
+    public Class<?> loadClass(String name) throws ClassNotFoundException {
+      loadCount++;
+      return super.loadClass(name);
+    }
+  }
 }
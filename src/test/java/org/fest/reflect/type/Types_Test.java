@@ -0,0 +1,182 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.type;
+
+import org.fest.reflect.exception.ReflectionError;
+import org.fest.util.Preconditions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.Arrays.asList;
+import static org.fest.reflect.core.Reflection.types;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link Types}.
+ *
+ * @author Alex Ruiz
+ */
+public class Types_Test {
+  static final Set<String> INITIALIZED = ConcurrentHashMap.newKeySet();
+
+  private static final String MISSING = "org.fest.reflect.NonExistingType";
+
+  @Test
+  public void should_load_all_classes() {
+    LoadedTypes loaded = types(String.class.getName(), Preconditions.class.getName()).loadAll();
+    assertTrue(loaded.isSuccessful());
+    assertEquals(String.class, loaded.get(String.class.getName()));
+    assertEquals(asList(String.class, Preconditions.class), asList(loaded.types().values().toArray()));
+    assertTrue(loaded.failures().isEmpty());
+    assertTrue(loaded.elapsedNanos() >= loaded.loadTimeNanos(String.class.getName()));
+  }
+
+  @Test
+  public void should_report_failures_per_name() {
+    ClassLoader classLoader = getClass().getClassLoader();
+    LoadedTypes loaded = types(asList(MISSING, Integer.class.getName())).withClassLoader(classLoader).loadAll();
+    assertFalse(loaded.isSuccessful());
+    assertEquals(Integer.class, loaded.get(Integer.class.getName()));
+    assertNull(loaded.errorOf(Integer.class.getName()));
+    ReflectionError error = loaded.failures().get(MISSING);
+    assertTrue(error.getMessage().contains("Unable to load class '" + MISSING + "'"));
+    assertTrue(error.getCause() instanceof ClassNotFoundException);
+  }
+
+  @Test
+  public void should_throw_error_when_getting_class_that_failed_to_load() {
+    LoadedTypes loaded = types(MISSING).loadAll();
+    try {
+      loaded.get(MISSING);
+      fail("expecting ReflectionError");
+    } catch (ReflectionError expected) {
+      assertSame(loaded.errorOf(MISSING), expected.getCause());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_when_getting_class_not_in_batch() {
+    types(String.class.getName()).loadAll().get(Integer.class.getName());
+  }
+
+  @Test
+  public void should_load_classes_using_given_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      LoadedTypes loaded = types(String.class.getName(), Integer.class.getName(), Long.class.getName())
+          .withClassLoader(getClass().getClassLoader()).using(executor).using(Initialization.EAGER).loadAll();
+      assertEquals(3, loaded.types().size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void should_load_classes_in_calling_thread_if_executor_rejects_tasks() {
+    Executor executor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        throw new RejectedExecutionException();
+      }
+    };
+    LoadedTypes loaded = types(String.class.getName(), Integer.class.getName())
+        .withClassLoader(getClass().getClassLoader()).using(executor).loadAll();
+    assertEquals(2, loaded.types().size());
+  }
+
+  @Test
+  public void should_not_wait_for_tasks_that_did_not_start() {
+    final List<Runnable> queued = new ArrayList<Runnable>();
+    Executor executor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        queued.add(command);
+      }
+    };
+    LoadedTypes loaded = types(String.class.getName(), Integer.class.getName(), Long.class.getName())
+        .withClassLoader(getClass().getClassLoader()).using(executor).loadAll();
+    assertEquals(3, loaded.types().size());
+    for (Runnable task : queued) {
+      task.run();
+    }
+  }
+
+  @Test
+  public void should_initialize_classes_eagerly() {
+    LoadedTypes loaded = types(Initialized.class.getName(), FailingInitialization.class.getName())
+        .withClassLoader(getClass().getClassLoader()).using(Initialization.EAGER).loadAll();
+    assertEquals(Initialized.class, loaded.get(Initialized.class.getName()));
+    assertTrue(INITIALIZED.contains("Initialized"));
+    ReflectionError error = loaded.errorOf(FailingInitialization.class.getName());
+    assertTrue(error.getCause() instanceof ExceptionInInitializerError);
+    assertTrue(loaded.initialization().isDone());
+  }
+
+  @Test
+  public void should_initialize_classes_in_background() {
+    LoadedTypes loaded = types(InitializedInBackground.class.getName(), FailingInBackground.class.getName())
+        .withClassLoader(getClass().getClassLoader()).using(Initialization.BACKGROUND).loadAll();
+    assertTrue(loaded.isSuccessful());
+    try {
+      loaded.initialization().join();
+      fail("expecting CompletionException");
+    } catch (CompletionException expected) {
+      assertTrue(expected.getCause() instanceof ReflectionError);
+    }
+    assertTrue(INITIALIZED.contains("InitializedInBackground"));
+  }
+
+  static class Initialized {
+    static {
+      INITIALIZED.add("Initialized");
+    }
+  }
+
+  static class InitializedInBackground {
+    static {
+      INITIALIZED.add("InitializedInBackground");
+    }
+  }
+
+  static class FailingInitialization {
+    static {
+      if (true) {
+        throw new IllegalStateException();
+      }
+    }
+  }
+
+  static class FailingInBackground {
+    static {
+      if (true) {
+        throw new IllegalStateException();
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.util;
+
+import org.fest.reflect.core.Reflection;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.fest.reflect.util.ClassMetadata.metadataOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ClassMetadata}.
+ *
+ * @author Alex Ruiz
+ */
+public class ClassMetadata_Test {
+  @Test
+  public void should_return_copies_of_declared_members() {
+    ClassMetadata metadata = metadataOf(Jedi.class);
+    Field name = metadata.declaredField("name");
+    assertEquals("name", name.getName());
+    assertNotSame(name, metadata.declaredField("name"));
+    assertEquals("train", metadata.declaredMethod("train", String.class).getName());
+    assertEquals(1, metadata.declaredConstructor(String.class).getParameterTypes().length);
+    assertSame(Jedi.Master.class, metadata.declaredClass(Jedi.Master.class.getName()));
+  }
+
+  @Test
+  public void should_return_null_if_member_is_not_declared() {
+    ClassMetadata metadata = metadataOf(Jedi.class);
+    assertNull(metadata.declaredField("age"));
+    assertNull(metadata.declaredMethod("train"));
+    assertNull(metadata.declaredConstructor(int.class));
+    assertNull(metadata.declaredClass("Padawan"));
+  }
+
+  @Test
+  public void should_reference_classes_visible_from_class_loader() {
+    assertTrue(metadataOf(Jedi.class).canReference(String.class, Jedi.Master.class, int[].class));
+    assertFalse(metadataOf(String.class).canReference(Jedi.class));
+  }
+
+  @Test
+  public void should_not_cache_misses_referring_to_classes_not_visible_from_class_loader() {
+    ClassMetadata metadata = metadataOf(String.class);
+    int size = metadata.size();
+    assertNull(metadata.declaredMethod("train", Jedi.class));
+    assertEquals(size, metadata.size());
+    assertNull(metadata.declaredMethod("train", Integer.class));
+    assertEquals(size + 1, metadata.size());
+  }
+
+  @Test
+  public void should_store_metadata_used_by_accessors() {
+    Jedi jedi = new Jedi("Yoda");
+    assertEquals("Yoda", Reflection.field("name").ofType(String.class).in(jedi).get());
+    assertTrue(ClassMetadata.cachedTypes().contains(Jedi.class));
+    assertTrue(metadataOf(Jedi.class).size() > 0);
+  }
+
+  @Test
+  public void should_clear_metadata() {
+    ClassMetadata metadata = metadataOf(Jedi.class);
+    ClassMetadata.clear(Jedi.class);
+    assertFalse(ClassMetadata.cachedTypes().contains(Jedi.class));
+    assertNotSame(metadata, metadataOf(Jedi.class));
+    ClassMetadata.clear();
+    assertTrue(ClassMetadata.cachedTypes().isEmpty());
+  }
+
+  static class Jedi {
+    private final String name;
+
+    Jedi(String name) {
+      this.name = name;
+    }
+
+    void train(String padawan) {
+    }
+
+    static class Master {
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Created on Oct 16, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.reflect.util;
+
+import org.fest.reflect.reference.TypeRef;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.reflect.util.GenericTypes.erasure;
+import static org.fest.reflect.util.GenericTypes.isAssignable;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link GenericTypes}.
+ *
+ * @author Alex Ruiz
+ */
+public class GenericTypes_Test {
+  @Test
+  public void should_resolve_type_arguments_of_supertypes() {
+    assertTrue(isAssignable(type(new TypeRef<List<String>>() {}), genericTypeOf("names")));
+    assertTrue(isAssignable(type(new TypeRef<Collection<String>>() {}), genericTypeOf("names")));
+    assertTrue(isAssignable(type(new TypeRef<Collection<String>>() {}), StringList.class));
+    assertFalse(isAssignable(type(new TypeRef<List<Integer>>() {}), genericTypeOf("names")));
+    assertFalse(isAssignable(type(new TypeRef<Collection<Integer>>() {}), StringList.class));
+  }
+
+  @Test
+  public void should_check_bounds_of_wildcards() {
+    assertTrue(isAssignable(type(new TypeRef<List<? extends CharSequence>>() {}), genericTypeOf("names")));
+    assertTrue(isAssignable(type(new TypeRef<List<? super String>>() {}), genericTypeOf("names")));
+    assertFalse(isAssignable(type(new TypeRef<List<? extends Number>>() {}), genericTypeOf("names")));
+    assertFalse(isAssignable(type(new TypeRef<List<? super Integer>>() {}), genericTypeOf("names")));
+  }
+
+  @Test
+  public void should_accept_raw_types_and_type_variables() {
+    assertTrue(isAssignable(type(new TypeRef<List<String>>() {}), genericTypeOf("raw")));
+    assertTrue(isAssignable(type(new TypeRef<Map<String, Integer>>() {}), genericTypeOf("values")));
+  }
+
+  @Test
+  public void should_cache_assignability_of_members() throws Exception {
+    Field names = Fields.class.getDeclaredField("names");
+    Type expected = type(new TypeRef<List<Integer>>() {});
+    assertFalse(isAssignable(expected, names));
+    assertFalse(isAssignable(expected, names));
+  }
+
+  @Test
+  public void should_return_erasure_of_type() {
+    assertEquals(ArrayList.class, erasure(genericTypeOf("names")));
+    assertEquals(List[].class, erasure(genericTypeOf("array")));
+  }
+
+  private static Type type(TypeRef<?> typeRef) {
+    return typeRef.type();
+  }
+
+  private static Type genericTypeOf(String fieldName) {
+    try {
+      return Fields.class.getDeclaredField(fieldName).getGenericType();
+    } catch (NoSuchFieldException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  static class StringList extends ArrayList<String> {
+  }
+
+  static class Fields<K> {
+    ArrayList<String> names;
+    @SuppressWarnings("rawtypes")
+    List raw;
+    Map<K, Integer> values;
+    List<String>[] array;
+  }
+}